@@ -0,0 +1,57 @@
+-- Benchmark de la búsqueda de texto completo de movimientos (GET /api/movimientos/buscar)
+-- Uso: psql -U postgres -d gastos_personales -f benchmark-busqueda.sql
+-- Trabaja sobre tablas temporales, así que no modifica los datos de la aplicación
+-- Objetivo: cada consulta por debajo de 50 ms con 1.000.000 de movimientos
+
+\timing on
+
+CREATE TEMP TABLE bench_categoria AS SELECT * FROM categoria;
+
+CREATE TEMP TABLE bench_movimiento (LIKE movimiento INCLUDING DEFAULTS);
+
+-- 1.000.000 de movimientos repartidos entre 100 usuarios, con descripciones combinadas de un vocabulario realista
+INSERT INTO bench_movimiento (id, descripcion, monto, fecha, tipo, categoria_id, usuario_id)
+SELECT g,
+       (ARRAY['Supermercado', 'Farmacia', 'Gasolina', 'Restaurante', 'Cine', 'Pago', 'Compra', 'Transferencia',
+              'Suscripción', 'Factura'])[1 + g % 10] || ' ' ||
+       (ARRAY['carnes', 'verduras', 'medicinas', 'netflix', 'internet', 'luz', 'agua', 'alquiler',
+              'zapatos', 'libros', 'taxi', 'almuerzo', 'cena'])[1 + (g / 10) % 13] || ' ' ||
+       md5(g::text)::varchar(6),
+       round((random() * 500)::numeric, 2),
+       NOW() - (g % 1460) * INTERVAL '1 day',
+       CASE WHEN g % 7 = 0 THEN 'INGRESO' ELSE 'GASTO' END,
+       (SELECT MIN(id) FROM bench_categoria) + g % 10,
+       1 + g % 100
+  FROM generate_series(1, 1000000) AS g;
+
+CREATE INDEX ON bench_movimiento USING GIN (to_tsvector('spanish', descripcion));
+CREATE INDEX ON bench_movimiento (usuario_id, fecha DESC, id DESC);
+ANALYZE bench_movimiento;
+
+-- Antes: LIKE sin índice utilizable (recorrido secuencial completo)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id FROM bench_movimiento m
+ WHERE m.usuario_id = 42 AND LOWER(m.descripcion) LIKE '%supermercado carnes%'
+ ORDER BY m.fecha DESC, m.id DESC;
+
+-- Después: misma consulta que MovimientoRepositoryInterface.buscarTextoCompleto
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.descripcion, m.monto, m.fecha, m.tipo, c.id AS categoria_id, c.nombre AS categoria_nombre
+  FROM bench_movimiento m JOIN bench_categoria c ON c.id = m.categoria_id
+ WHERE m.usuario_id = 42
+   AND to_tsvector('spanish', m.descripcion) @@ to_tsquery('spanish', 'supermercado:* & carn:*')
+ ORDER BY ts_rank(to_tsvector('spanish', m.descripcion), to_tsquery('spanish', 'supermercado:* & carn:*')) DESC,
+          m.fecha DESC, m.id DESC
+ LIMIT 20 OFFSET 0;
+
+-- Término poco frecuente (caso más favorable para el índice)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id
+  FROM bench_movimiento m
+ WHERE m.usuario_id = 42
+   AND to_tsvector('spanish', m.descripcion) @@ to_tsquery('spanish', 'netflix:* & farmaci:*')
+ ORDER BY ts_rank(to_tsvector('spanish', m.descripcion), to_tsquery('spanish', 'netflix:* & farmaci:*')) DESC
+ LIMIT 20;
+
+DROP TABLE bench_movimiento;
+DROP TABLE bench_categoria;
\ No newline at end of file
@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Prueba de carga: hilos de plataforma frente a hilos virtuales (spring.threads.virtual.enabled)
+# Uso: ./mvnw -q package -DskipTests && ./benchmark-hilos-virtuales.sh usuario clave
+# Requiere un JRE 21 o posterior (con Java 17 ambos modos usan hilos de plataforma),
+# PostgreSQL con datos, curl y hey (https://github.com/rakyll/hey)
+# Arranca la aplicación en cada modo, inicia sesión y lanza la misma carga contra un listado paginado
+# y contra las estadísticas del dashboard; compare "Requests/sec", la latencia p99 y los errores de cada bloque.
+# Con hilos de plataforma Tomcat atiende como máximo server.tomcat.threads.max (200) peticiones a la vez;
+# con hilos virtuales el tope lo pone el límite JDBC (app.jdbc.limite-concurrencia.maximo)
+
+set -euo pipefail
+
+USUARIO="${1:?Usuario requerido}"
+CLAVE="${2:?Contraseña requerida}"
+PUERTO="${PUERTO:-8080}"
+PETICIONES="${PETICIONES:-20000}"
+CONCURRENCIA="${CONCURRENCIA:-2000}"
+JAR="$(ls target/*.jar | grep -v original | head -n 1)"
+BASE="http://localhost:${PUERTO}"
+
+medir() {
+    local modo="$1"
+    echo "=== spring.threads.virtual.enabled=${modo} (${PETICIONES} peticiones, ${CONCURRENCIA} clientes) ==="
+
+    java -jar "$JAR" --server.port="$PUERTO" --spring.threads.virtual.enabled="$modo" > "benchmark-hilos-${modo}.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -s -o /dev/null "${BASE}/api/auth/test"; do
+        sleep 1
+    done
+
+    local cookie
+    cookie=$(curl -s -i -H 'Content-Type: application/json' \
+        -d "{\"nombreUsuario\":\"${USUARIO}\",\"password\":\"${CLAVE}\"}" \
+        "${BASE}/api/auth/login" | grep -i '^set-cookie: JSESSIONID' | sed 's/^[^:]*: \([^;]*\).*/\1/')
+
+    # Calentamiento del JIT y de los pools
+    hey -n 2000 -c 50 -H "Cookie: ${cookie}" "${BASE}/api/movimientos/pagina?tamanio=50" > /dev/null
+
+    echo "--- GET /api/movimientos/pagina ---"
+    hey -n "$PETICIONES" -c "$CONCURRENCIA" -H "Cookie: ${cookie}" "${BASE}/api/movimientos/pagina?tamanio=50"
+    echo "--- GET /api/movimientos/estadisticas ---"
+    hey -n "$PETICIONES" -c "$CONCURRENCIA" -H "Cookie: ${cookie}" "${BASE}/api/movimientos/estadisticas"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+medir false
+medir true
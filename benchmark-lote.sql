@@ -0,0 +1,64 @@
+-- Benchmark del alta masiva de movimientos (POST /api/movimientos/lote, MovimientoServiceImpl.registrarLote)
+-- Uso: psql -U postgres -d gastos_personales -f benchmark-lote.sql
+-- Trabaja sobre tablas temporales, así que no modifica los datos de la aplicación
+-- Reproduce desde el cliente las sentencias que envía la aplicación para un lote de 10.000 filas, cada una
+-- con su viaje de ida y vuelta y todo en una transacción: un nextval de la secuencia por cada 50 ids
+-- (allocationSize = 50) y los INSERT en lotes JDBC de 50 (hibernate.jdbc.batch_size), que el driver
+-- reescribe como un único INSERT de 50 filas (reWriteBatchedInserts=true en la URL).
+-- Objetivo: al menos 10.000 filas por segundo con los lotes; el bloque fila a fila sirve de referencia.
+-- La actualización de saldos del lote es un upsert por mes y tipo, despreciable frente a los INSERT
+
+\set filas 10000
+\set lotes 200
+
+-- Misma estructura e índices que movimiento (V7__particion_movimiento.sql), sin particiones
+CREATE TEMP TABLE bench_lote (LIKE movimiento INCLUDING DEFAULTS, PRIMARY KEY (id, fecha));
+CREATE INDEX ON bench_lote (usuario_id, fecha DESC, id DESC);
+CREATE INDEX ON bench_lote (usuario_id, tipo, fecha);
+CREATE INDEX ON bench_lote (categoria_id);
+CREATE INDEX ON bench_lote (fecha DESC, id DESC);
+CREATE INDEX ON bench_lote USING GIN (to_tsvector('spanish', descripcion));
+CREATE TEMP SEQUENCE bench_lote_seq INCREMENT BY 50 START WITH 50;
+
+-- Valores de una fila a partir del último nextval: g es su posición (1 a 50) dentro del bloque de ids
+\set columnas 'id, descripcion, monto, fecha, tipo, categoria_id, usuario_id'
+\set valores 'currval(''bench_lote_seq'') - 50 + g, ''Supermercado - compra '' || g, round((random() * 500)::numeric, 2), NOW() - g * INTERVAL ''1 hour'', CASE WHEN g % 10 = 0 THEN ''INGRESO'' ELSE ''GASTO'' END, 1 + g % 15, 1'
+
+\set QUIET on
+
+\echo '--- Sin lotes JDBC: un INSERT por fila ---'
+\o /dev/null
+BEGIN;
+SELECT clock_timestamp() AS inicio \gset
+-- \gexec omite las celdas nulas: el nextval solo se envía en la primera fila de cada bloque de 50
+SELECT CASE WHEN fila = 1 THEN 'SELECT nextval(''bench_lote_seq'')' END,
+       format('INSERT INTO bench_lote (%s) SELECT %s FROM generate_series(%s, %s) g',
+              :'columnas', :'valores', fila, fila)
+FROM generate_series(1, :lotes) lote, generate_series(1, 50) fila
+ORDER BY lote, fila \gexec
+COMMIT;
+\o
+SELECT :filas AS filas,
+       round(:filas / EXTRACT(EPOCH FROM clock_timestamp() - :'inicio'::timestamptz)) AS filas_por_segundo;
+
+TRUNCATE bench_lote;
+
+\echo '--- Lotes JDBC de 50: un INSERT de 50 filas por lote ---'
+\o /dev/null
+BEGIN;
+SELECT clock_timestamp() AS inicio \gset
+SELECT 'SELECT nextval(''bench_lote_seq'')',
+       format('INSERT INTO bench_lote (%s) SELECT %s FROM generate_series(1, 50) g', :'columnas', :'valores')
+FROM generate_series(1, :lotes) lote \gexec
+COMMIT;
+\o
+SELECT :filas AS filas,
+       round(:filas / EXTRACT(EPOCH FROM clock_timestamp() - :'inicio'::timestamptz)) AS filas_por_segundo,
+       :filas / EXTRACT(EPOCH FROM clock_timestamp() - :'inicio'::timestamptz) >= 10000 AS objetivo_cumplido;
+
+SELECT count(*) AS filas_insertadas, count(DISTINCT id) AS ids_distintos FROM bench_lote;
+
+\set QUIET off
+
+DROP TABLE bench_lote;
+DROP SEQUENCE bench_lote_seq;
\ No newline at end of file
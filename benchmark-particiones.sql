@@ -0,0 +1,90 @@
+-- Benchmark de los reportes mensuales sobre movimiento particionado por mes (V7__particion_movimiento.sql)
+-- Uso: psql -U postgres -d gastos_personales -f benchmark-particiones.sql
+-- Trabaja sobre tablas propias con prefijo bench_ que se eliminan al final; no modifica los datos de la aplicación
+-- Objetivo: el tiempo del reporte de un mes no debe crecer con los años de historial. Con la tabla
+-- particionada el plan solo recorre la partición del mes ("Partitions removed" / una única partición en el plan)
+
+\timing on
+
+-- Misma estructura que movimiento: tabla sin particionar y tabla particionada por mes
+CREATE TABLE bench_plana (
+    id BIGINT NOT NULL,
+    descripcion VARCHAR(200) NOT NULL,
+    monto DECIMAL(12,2) NOT NULL,
+    fecha TIMESTAMP NOT NULL,
+    tipo VARCHAR(20) NOT NULL,
+    categoria_id BIGINT NOT NULL,
+    usuario_id BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE bench_particionada (LIKE bench_plana, PRIMARY KEY (id, fecha)) PARTITION BY RANGE (fecha);
+
+DO $$
+DECLARE
+    mes DATE := date_trunc('month', NOW() - INTERVAL '10 years')::date;
+BEGIN
+    WHILE mes <= NOW() LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF bench_particionada FOR VALUES FROM (%L) TO (%L)',
+                       'bench_particionada_' || to_char(mes, 'YYYY_MM'), mes, (mes + INTERVAL '1 month')::date);
+        mes := (mes + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+-- Consultas del reporte mensual, iguales a sumMontoByTipoAndFechaBetween y sumMontoByTipoAndFechaGroupByCategoria
+\set mes_inicio 'date_trunc(''month'', NOW())::timestamp'
+\set mes_fin '(date_trunc(''month'', NOW()) + INTERVAL ''1 month'' - INTERVAL ''1 microsecond'')::timestamp'
+\set total_plana 'EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) SELECT COALESCE(SUM(monto), 0) FROM bench_plana WHERE tipo = ''GASTO'' AND fecha BETWEEN ' :mes_inicio ' AND ' :mes_fin
+\set total_particionada 'EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) SELECT COALESCE(SUM(monto), 0) FROM bench_particionada WHERE tipo = ''GASTO'' AND fecha BETWEEN ' :mes_inicio ' AND ' :mes_fin
+\set categorias_plana 'EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) SELECT categoria_id, SUM(monto) FROM bench_plana WHERE tipo = ''GASTO'' AND fecha BETWEEN ' :mes_inicio ' AND ' :mes_fin ' GROUP BY categoria_id'
+\set categorias_particionada 'EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) SELECT categoria_id, SUM(monto) FROM bench_particionada WHERE tipo = ''GASTO'' AND fecha BETWEEN ' :mes_inicio ' AND ' :mes_fin ' GROUP BY categoria_id'
+
+-- Historial creciente: se mide con 1, 3 y 10 años de datos (unos 2.700 movimientos por día)
+-- Cada bloque agrega años más antiguos y repite las mismas consultas del mes actual
+CREATE OR REPLACE FUNCTION pg_temp.cargar_bench(desde_dias INTEGER, hasta_dias INTEGER) RETURNS VOID AS $$
+    INSERT INTO bench_plana (id, descripcion, monto, fecha, tipo, categoria_id, usuario_id)
+    SELECT g,
+           'Movimiento ' || g,
+           round((random() * 500)::numeric, 2),
+           date_trunc('month', NOW()) + INTERVAL '1 month' - INTERVAL '1 second' - (g / 2700.0) * INTERVAL '1 day',
+           CASE WHEN g % 7 = 0 THEN 'INGRESO' ELSE 'GASTO' END,
+           1 + g % 10,
+           1 + g % 100
+      FROM generate_series(desde_dias * 2700 + 1, hasta_dias * 2700) AS g;
+$$ LANGUAGE sql;
+
+\echo '--- 1 año de historial ---'
+SELECT pg_temp.cargar_bench(0, 365);
+INSERT INTO bench_particionada SELECT * FROM bench_plana;
+CREATE INDEX IF NOT EXISTS bench_plana_tipo_fecha ON bench_plana (tipo, fecha);
+CREATE INDEX IF NOT EXISTS bench_particionada_tipo_fecha ON bench_particionada (tipo, fecha);
+ANALYZE bench_plana;
+ANALYZE bench_particionada;
+:total_plana;
+:total_particionada;
+:categorias_plana;
+:categorias_particionada;
+
+\echo '--- 3 años de historial ---'
+SELECT pg_temp.cargar_bench(365, 3 * 365);
+INSERT INTO bench_particionada SELECT * FROM bench_plana WHERE id > 365 * 2700;
+ANALYZE bench_plana;
+ANALYZE bench_particionada;
+:total_plana;
+:total_particionada;
+:categorias_plana;
+:categorias_particionada;
+
+\echo '--- 10 años de historial ---'
+SELECT pg_temp.cargar_bench(3 * 365, 10 * 365 - 31);
+INSERT INTO bench_particionada SELECT * FROM bench_plana WHERE id > 3 * 365 * 2700;
+ANALYZE bench_plana;
+ANALYZE bench_particionada;
+:total_plana;
+:total_particionada;
+:categorias_plana;
+:categorias_particionada;
+
+DROP TABLE bench_plana;
+DROP TABLE bench_particionada;
\ No newline at end of file
@@ -0,0 +1,54 @@
+-- Benchmark de los últimos movimientos de un usuario (MovimientoServiceImpl.obtenerUltimosMovimientos)
+-- Uso: psql -U postgres -d gastos_personales -f benchmark-recientes.sql
+-- Trabaja sobre tablas temporales, así que no modifica los datos de la aplicación
+-- Objetivo: la latencia no depende del historial. Para los tres usuarios (100, 10.000 y 1.000.000 de movimientos)
+-- el plan debe ser el mismo, Limit sobre un Index Scan del índice (usuario_id, fecha DESC, id DESC) sin Sort,
+-- con los mismos buffers leídos y un tiempo de ejecución del mismo orden
+
+\timing on
+
+CREATE TEMP TABLE bench_categoria AS SELECT * FROM categoria;
+
+CREATE TEMP TABLE bench_movimiento (LIKE movimiento INCLUDING DEFAULTS);
+
+-- Usuario 1: 100 movimientos; usuario 2: 10.000; usuario 3: 1.000.000 (unos 27 años a 100 por día)
+INSERT INTO bench_movimiento (id, descripcion, monto, fecha, tipo, categoria_id, usuario_id)
+SELECT g,
+       'Movimiento ' || g,
+       round((random() * 500)::numeric, 2),
+       NOW() - (g / 100.0) * INTERVAL '1 day',
+       CASE WHEN g % 7 = 0 THEN 'INGRESO' ELSE 'GASTO' END,
+       (SELECT MIN(id) FROM bench_categoria) + g % 10,
+       CASE WHEN g <= 100 THEN 1 WHEN g <= 10100 THEN 2 ELSE 3 END
+  FROM generate_series(1, 1010100) AS g;
+
+CREATE INDEX ON bench_movimiento (usuario_id, fecha DESC, id DESC);
+ANALYZE bench_movimiento;
+ANALYZE bench_categoria;
+
+-- Misma consulta que genera Hibernate para findRecientesByUsuarioId con PageRequest.of(0, 10)
+PREPARE recientes(BIGINT, INTEGER) AS
+SELECT m.id, m.descripcion, m.monto, m.fecha, m.tipo, m.categoria_id, c.nombre
+  FROM bench_movimiento m
+  JOIN bench_categoria c ON c.id = m.categoria_id
+ WHERE m.usuario_id = $1
+ ORDER BY m.fecha DESC, m.id DESC
+ FETCH FIRST $2 ROWS ONLY;
+
+\echo '--- 100 movimientos ---'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE recientes(1, 10);
+
+\echo '--- 10.000 movimientos ---'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE recientes(2, 10);
+
+\echo '--- 1.000.000 de movimientos ---'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE recientes(3, 10);
+
+-- Latencia vista por el cliente, ya con la caché caliente
+EXECUTE recientes(1, 10);
+EXECUTE recientes(2, 10);
+EXECUTE recientes(3, 10);
+
+DEALLOCATE recientes;
+DROP TABLE bench_movimiento;
+DROP TABLE bench_categoria;
\ No newline at end of file
@@ -13,9 +13,7 @@ interface UltimoMovimiento {
     descripcion: string;
     monto: number;
     tipo: 'GASTO' | 'INGRESO';
-    categoria: {
-        nombre: string;
-    };
+    categoriaNombre: string;
     fechaFormateada: string;
     montoFormateado: string;
 }
@@ -32,26 +30,23 @@ export function DashboardPage() {
 
     const loadDashboardData = async () => {
         try {
-            // Cargar resumen financiero
-            const resumenResponse = await fetch('http://localhost:8080/api/movimientos/estadisticas', {
+            // Resumen y últimos movimientos en una sola petición; el backend los calcula en paralelo
+            // y omite las partes que no responden a tiempo (partesNoDisponibles)
+            const dashboardResponse = await fetch('http://localhost:8080/api/movimientos/dashboard', {
                 credentials: 'include'
             });
-            const resumenData = await resumenResponse.json();
+            const dashboardData = await dashboardResponse.json();
+            const resumenData = dashboardData.resumen || {};
             
             // Transformar los datos del backend
             setResumen({
                 totalIngresos: resumenData.totalIngresos || 0,
                 totalGastos: Math.abs(resumenData.totalGastos || 0),
                 balance: resumenData.balance || 0,
-                movimientosCount: Object.keys(resumenData.gastosPorCategoria || {}).length
+                movimientosCount: Object.keys(resumenData.gastosPorCategoriaDelMes || {}).length
             });
 
-            // Cargar últimos movimientos
-            const movimientosResponse = await fetch('http://localhost:8080/api/movimientos/recientes?limit=5', {
-                credentials: 'include'
-            });
-            const movimientosData = await movimientosResponse.json();
-            setUltimosMovimientos(movimientosData);
+            setUltimosMovimientos(dashboardData.recientes || []);
 
         } catch (error) {
             console.error('Error loading dashboard data:', error);
@@ -159,7 +154,7 @@ export function DashboardPage() {
                                             {movimiento.descripcion}
                                         </p>
                                         <p className="text-sm text-gray-500">
-                                            {movimiento.categoria.nombre} • {movimiento.fechaFormateada}
+                                            {movimiento.categoriaNombre} • {movimiento.fechaFormateada}
                                         </p>
                                     </div>
                                 </div>
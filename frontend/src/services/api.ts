@@ -29,6 +29,9 @@ interface MovimientoRawDTO {
     tipoMovimiento?: TipoMovimiento;
     esGasto?: boolean;
     categoria?: Categoria;
+    // Flat category fields returned by lightweight list projections
+    categoriaId?: number;
+    categoriaNombre?: string;
     fechaCreacion?: string;
 }
 
@@ -43,12 +46,38 @@ interface EstadisticasDTO {
     gastos?: number;
 }
 
+interface CategoriaResumenDTO {
+    categoriaId?: number;
+    nombre?: string;
+    monto?: number;
+    porcentaje?: number;
+    ingresos?: number;
+    cantidadMovimientos?: number;
+}
+
+interface MonthlySummaryDTO {
+    mes?: string;
+    anio?: number;
+    numeroMes?: number;
+    ingresos?: number;
+    gastos?: number;
+    balance?: number;
+}
+
 interface PaginatedResponse<T> {
     content: T[];
     totalElements: number;
     totalPages: number;
 }
 
+// Keyset page returned by /movimientos/pagina and /movimientos/filtrar
+interface PaginaCursorResponse<T> {
+    contenido: T[];
+    siguienteCursor?: string | null;
+    tamanio: number;
+    hayMas: boolean;
+}
+
 class ApiError extends Error {
     public status?: number;
     public originalError?: unknown;
@@ -135,7 +164,15 @@ function mapMovimientoDto(dto: unknown): Movimiento {
         monto: toNumberSafe(data.monto ?? data.amount),
         fechaMovimiento: fechaRaw ? String(fechaRaw) : new Date().toISOString(),
         tipo,
-        categoria: data.categoria || createDefaultCategoria(),
+        categoria:
+            data.categoria ||
+            (data.categoriaId !== undefined
+                ? {
+                      ...createDefaultCategoria(),
+                      id: data.categoriaId,
+                      nombre: data.categoriaNombre || "",
+                  }
+                : createDefaultCategoria()),
         fechaCreacion: data.fechaCreacion || new Date().toISOString(),
     };
 }
@@ -334,20 +371,31 @@ class ApiService {
 
     /**
      * Get movimientos list with optional filters
+     * Filters are applied server-side by /movimientos/filtrar; only the first page is fetched
      */
     async getMovimientos(filtros?: FiltroMovimientos): Promise<Movimiento[]> {
         const params = buildParams({
             categoriaId: filtros?.categoriaId,
             tipo: filtros?.tipo,
-            fechaDesde: filtros?.fechaDesde,
-            fechaHasta: filtros?.fechaHasta,
-            descripcion: filtros?.descripcion?.trim(),
+            desde: filtros?.fechaDesde,
+            hasta: filtros?.fechaHasta,
+            texto: filtros?.descripcion?.trim() || undefined,
         });
 
         try {
+            if (Object.keys(params).length > 0) {
+                const response: AxiosResponse<
+                    PaginaCursorResponse<MovimientoRawDTO>
+                > = await this.client.get(
+                    `${API_ENDPOINTS.MOVIMIENTOS}/filtrar`,
+                    { params: { ...params, tamanio: 200 } }
+                );
+                return (response.data?.contenido || []).map(mapMovimientoDto);
+            }
+
             const response: AxiosResponse<
                 MovimientoRawDTO[] | PaginatedResponse<MovimientoRawDTO>
-            > = await this.client.get(API_ENDPOINTS.MOVIMIENTOS, { params });
+            > = await this.client.get(API_ENDPOINTS.MOVIMIENTOS);
 
             // Handle both array and paginated responses
             const data = Array.isArray(response.data)
@@ -389,6 +437,27 @@ class ApiService {
         }
     }
 
+    /**
+     * Get type-ahead suggestions for the search box (served from an in-memory index)
+     */
+    async getSugerencias(q: string, limite: number = 10): Promise<string[]> {
+        if (!q.trim()) {
+            return [];
+        }
+
+        try {
+            const response: AxiosResponse<string[]> = await this.client.get(
+                `${API_ENDPOINTS.MOVIMIENTOS}/sugerencias`,
+                { params: { q, limite } }
+            );
+            return response.data || [];
+        } catch (error) {
+            throw error instanceof ApiError
+                ? error
+                : new ApiError("Failed to get suggestions", undefined, error);
+        }
+    }
+
     // CATEGORIAS METHODS
 
     /**
@@ -547,60 +616,31 @@ class ApiService {
 
     /**
      * Get summary by categories
+     * Aggregated server-side with a single grouped query
      */
-    async getResumenPorCategorias(): Promise<CategoriaResumen[]> {
-        try {
-            // Prefer server-provided stats but compute full breakdown client-side
-            // to guarantee movimientosCount and income/expense per category.
-            const resp: AxiosResponse<
-                MovimientoRawDTO[] | PaginatedResponse<MovimientoRawDTO>
-            > = await this.client.get(API_ENDPOINTS.MOVIMIENTOS);
-
-            const movimientosRaw = Array.isArray(resp.data)
-                ? resp.data
-                : (resp.data as PaginatedResponse<MovimientoRawDTO>).content ||
-                  [];
+    async getResumenPorCategorias(
+        fechaDesde?: string,
+        fechaHasta?: string
+    ): Promise<CategoriaResumen[]> {
+        const params = buildParams({ desde: fechaDesde, hasta: fechaHasta });
 
-            const movimientos = movimientosRaw.map(mapMovimientoDto);
+        try {
+            const resp: AxiosResponse<CategoriaResumenDTO[]> =
+                await this.client.get(
+                    `${API_ENDPOINTS.MOVIMIENTOS}/resumen-categorias`,
+                    { params }
+                );
 
-            const mapByCategoria: Record<
-                string,
-                {
-                    categoria: Categoria;
-                    ingresos: number;
-                    gastos: number;
-                    count: number;
-                }
-            > = {};
-
-            movimientos.forEach((m) => {
-                const nombre = m.categoria?.nombre || "Sin categoria";
-                const key = nombre;
-                if (!mapByCategoria[key]) {
-                    mapByCategoria[key] = {
-                        categoria: m.categoria || createDefaultCategoria(),
-                        ingresos: 0,
-                        gastos: 0,
-                        count: 0,
-                    };
-                }
-                if (m.tipo === "INGRESO")
-                    mapByCategoria[key].ingresos += m.monto || 0;
-                else mapByCategoria[key].gastos += Math.abs(m.monto || 0);
-                mapByCategoria[key].count += 1;
-            });
-
-            const entries = Object.values(mapByCategoria);
-            const totalGastos =
-                entries.reduce((s, e) => s + (e.gastos || 0), 0) || 0;
-
-            return entries.map((e) => ({
-                categoria: e.categoria,
-                totalGastos: e.gastos,
-                totalIngresos: e.ingresos,
-                movimientosCount: e.count,
-                porcentaje:
-                    totalGastos > 0 ? (e.gastos / totalGastos) * 100 : 0,
+            return (resp.data || []).map((r) => ({
+                categoria: {
+                    ...createDefaultCategoria(),
+                    id: toNumberSafe(r.categoriaId),
+                    nombre: r.nombre || "Sin categoria",
+                },
+                totalGastos: toNumberSafe(r.monto),
+                totalIngresos: toNumberSafe(r.ingresos),
+                movimientosCount: toNumberSafe(r.cantidadMovimientos),
+                porcentaje: toNumberSafe(r.porcentaje),
             }));
         } catch (error) {
             throw error instanceof ApiError
@@ -618,72 +658,21 @@ class ApiService {
      */
     async getResumenMensual(year?: number): Promise<ResumenMensual[]> {
         try {
-            // Try to get server-provided monthly resumen first
-            const statsResp: AxiosResponse<EstadisticasDTO> =
+            // The backend aggregates the series per month, filling empty months with zeros
+            const targetYear = year || new Date().getFullYear();
+            const resp: AxiosResponse<MonthlySummaryDTO[]> =
                 await this.client.get(
-                    `${API_ENDPOINTS.MOVIMIENTOS}/estadisticas`
+                    `${API_ENDPOINTS.MOVIMIENTOS}/resumen-mensual`,
+                    { params: { anio: targetYear } }
                 );
 
-            const stats = statsResp.data || {};
-            const resumenMensual = stats.resumenMensual;
-
-            if (Array.isArray(resumenMensual) && resumenMensual.length > 0) {
-                const items = (resumenMensual as unknown[]).map(
-                    (item: unknown) => {
-                        const obj = item as Record<string, unknown>;
-                        return {
-                            mes: String(obj.mes || obj.month || ""),
-                            ano: Number(obj.ano || new Date().getFullYear()),
-                            totalIngresos: toNumberSafe(
-                                obj.ingresos ?? obj.totalIngresos
-                            ),
-                            totalGastos: toNumberSafe(
-                                obj.gastos ?? obj.totalGastos
-                            ),
-                            balance: toNumberSafe(obj.balance),
-                        };
-                    }
-                );
-                return year ? items.filter((item) => item.ano === year) : items;
-            }
-
-            // If server didn't provide a monthly series, build it from movimientos
-            const resp: AxiosResponse<
-                MovimientoRawDTO[] | PaginatedResponse<MovimientoRawDTO>
-            > = await this.client.get(API_ENDPOINTS.MOVIMIENTOS);
-
-            const movimientosRaw = Array.isArray(resp.data)
-                ? resp.data
-                : (resp.data as PaginatedResponse<MovimientoRawDTO>).content ||
-                  [];
-
-            const movimientos = movimientosRaw.map(mapMovimientoDto);
-
-            const targetYear = year || new Date().getFullYear();
-
-            // Initialize months 1..12 with zeros
-            const months = Array.from({ length: 12 }, (_, i) => ({
-                mes: String(i + 1),
-                ano: targetYear,
-                totalIngresos: 0,
-                totalGastos: 0,
-                balance: 0,
+            return (resp.data || []).map((item) => ({
+                mes: String(item.numeroMes ?? ""),
+                ano: Number(item.anio ?? targetYear),
+                totalIngresos: toNumberSafe(item.ingresos),
+                totalGastos: toNumberSafe(item.gastos),
+                balance: toNumberSafe(item.balance),
             }));
-
-            movimientos.forEach((m) => {
-                const d = new Date(m.fechaMovimiento);
-                const y = d.getFullYear();
-                if (y !== targetYear) return;
-                const monthIdx = d.getMonth();
-                if (m.tipo === "INGRESO")
-                    months[monthIdx].totalIngresos += m.monto || 0;
-                else months[monthIdx].totalGastos += Math.abs(m.monto || 0);
-                months[monthIdx].balance =
-                    months[monthIdx].totalIngresos -
-                    months[monthIdx].totalGastos;
-            });
-
-            return months;
         } catch (error) {
             throw error instanceof ApiError
                 ? error
@@ -59,6 +59,8 @@ export interface Categoria {
     activa: boolean;
     // Indicates categories that are predefined by the system and shouldn't be modified
     esPredefinida?: boolean;
+    // Whether the category applies to income, expenses or both
+    tipo?: TipoCategoria;
     fechaCreacion: string;
 }
 
@@ -93,9 +95,12 @@ export interface MovimientoUpdateDTO extends Partial<MovimientoCreateDTO> {
     id: number;
 }
 
+export type TipoCategoria = "INGRESO" | "GASTO" | "AMBOS";
+
 export interface CategoriaCreateDTO {
     nombre: string;
     descripcion?: string;
+    tipo?: TipoCategoria;
     color?: string;
     icono?: string;
 }
@@ -33,14 +33,18 @@ CREATE TABLE IF NOT EXISTS categoria (
     nombre VARCHAR(100) NOT NULL UNIQUE,
     descripcion TEXT,
     es_predefinida BOOLEAN NOT NULL DEFAULT FALSE,
+    tipo VARCHAR(10) NOT NULL DEFAULT 'GASTO', -- INGRESO, GASTO o AMBOS
     usuario_id BIGINT, -- NULL para categorías predefinidas del sistema
     fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (usuario_id) REFERENCES usuario(id) ON DELETE CASCADE
 );
 
+-- Los identificadores de movimiento se asignan en bloques de 50 desde la aplicación
+CREATE SEQUENCE IF NOT EXISTS movimiento_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS movimiento (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     descripcion TEXT NOT NULL,
     monto DECIMAL(12,2) NOT NULL CHECK (monto > 0),
     tipo VARCHAR(10) NOT NULL CHECK (tipo IN ('INGRESO', 'GASTO')),
@@ -53,15 +57,71 @@ CREATE TABLE IF NOT EXISTS movimiento (
     FOREIGN KEY (usuario_id) REFERENCES usuario(id) ON DELETE CASCADE
 );
 
+-- La migración V7 la convierte en tabla particionada por mes de fecha
+
+-- Índices compuestos de movimientos (ver db/migration/postgresql/V2__indices_movimiento.sql)
+CREATE INDEX IF NOT EXISTS idx_movimiento_usuario_fecha ON movimiento (usuario_id, fecha DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_movimiento_usuario_tipo_fecha ON movimiento (usuario_id, tipo, fecha);
+CREATE INDEX IF NOT EXISTS idx_movimiento_categoria ON movimiento (categoria_id);
+CREATE INDEX IF NOT EXISTS idx_movimiento_fecha ON movimiento (fecha DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_movimiento_descripcion_fts ON movimiento USING GIN (to_tsvector('spanish', descripcion));
+
+-- Totales materializados por usuario y por mes (se mantienen con deltas desde la aplicación)
+CREATE TABLE IF NOT EXISTS saldo_usuario (
+    usuario_id BIGINT PRIMARY KEY,
+    total_ingresos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    total_gastos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    cantidad_movimientos BIGINT NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (usuario_id) REFERENCES usuario(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS saldo_mensual (
+    id BIGSERIAL PRIMARY KEY,
+    usuario_id BIGINT NOT NULL,
+    anio INTEGER NOT NULL,
+    mes INTEGER NOT NULL,
+    total_ingresos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    total_gastos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    cantidad_movimientos BIGINT NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_saldo_mensual_usuario_periodo UNIQUE (usuario_id, anio, mes),
+    FOREIGN KEY (usuario_id) REFERENCES usuario(id) ON DELETE CASCADE
+);
+
+-- Progreso de las importaciones de extractos bancarios (ver POST /api/importaciones)
+CREATE TABLE IF NOT EXISTS importacion (
+    id BIGSERIAL PRIMARY KEY,
+    usuario_id BIGINT NOT NULL,
+    nombre_archivo VARCHAR(255) NOT NULL,
+    formato VARCHAR(10) NOT NULL,
+    ruta_archivo VARCHAR(500) NOT NULL,
+    estado VARCHAR(20) NOT NULL,
+    filas_procesadas BIGINT NOT NULL DEFAULT 0,
+    filas_insertadas BIGINT NOT NULL DEFAULT 0,
+    filas_con_error BIGINT NOT NULL DEFAULT 0,
+    ultimo_error VARCHAR(500),
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (usuario_id) REFERENCES usuario(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_importacion_usuario ON importacion (usuario_id, fecha_creacion DESC);
+
 -- Cambiar el propietario de las tablas al usuario gastos_user
 ALTER TABLE usuario OWNER TO gastos_user;
 ALTER TABLE categoria OWNER TO gastos_user;
 ALTER TABLE movimiento OWNER TO gastos_user;
+ALTER TABLE saldo_usuario OWNER TO gastos_user;
+ALTER TABLE saldo_mensual OWNER TO gastos_user;
+ALTER TABLE importacion OWNER TO gastos_user;
 
 -- Cambiar el propietario de las secuencias
 ALTER SEQUENCE usuario_id_seq OWNER TO gastos_user;
 ALTER SEQUENCE categoria_id_seq OWNER TO gastos_user;
-ALTER SEQUENCE movimiento_id_seq OWNER TO gastos_user;
+ALTER SEQUENCE movimiento_seq OWNER TO gastos_user;
+ALTER SEQUENCE saldo_mensual_id_seq OWNER TO gastos_user;
+ALTER SEQUENCE importacion_id_seq OWNER TO gastos_user;
 
 -- Insertar usuario de prueba (contraseña: admin123)
 INSERT INTO usuario (username, email, password, nombre_completo) 
@@ -71,23 +131,23 @@ VALUES
 ON CONFLICT (username) DO NOTHING;
 
 -- Insertar datos predefinidos de categorías (sin usuario_id para que sean globales)
-INSERT INTO categoria (nombre, descripcion, es_predefinida, usuario_id) 
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo, usuario_id) 
 VALUES 
-    ('Alimentación', 'Gastos relacionados con comida y bebida', true, NULL),
-    ('Transporte', 'Gastos de movilización y combustible', true, NULL),
-    ('Salud', 'Gastos médicos y farmacéuticos', true, NULL),
-    ('Educación', 'Gastos educativos y capacitación', true, NULL),
-    ('Entretenimiento', 'Gastos de ocio y diversión', true, NULL),
-    ('Servicios', 'Servicios básicos como luz, agua, internet', true, NULL),
-    ('Ropa', 'Gastos en vestimenta y calzado', true, NULL),
-    ('Hogar', 'Gastos del hogar y decoración', true, NULL),
-    ('Tecnología', 'Gastos en dispositivos y software', true, NULL),
-    ('Otros', 'Gastos diversos no categorizados', true, NULL),
-    ('Salario', 'Ingresos por trabajo', true, NULL),
-    ('Inversiones', 'Ingresos por inversiones', true, NULL),
-    ('Negocios', 'Ingresos por actividades comerciales', true, NULL),
-    ('Regalos', 'Ingresos por regalos recibidos', true, NULL),
-    ('Otros Ingresos', 'Otros tipos de ingresos', true, NULL)
+    ('Alimentación', 'Gastos relacionados con comida y bebida', true, 'GASTO', NULL),
+    ('Transporte', 'Gastos de movilización y combustible', true, 'GASTO', NULL),
+    ('Salud', 'Gastos médicos y farmacéuticos', true, 'GASTO', NULL),
+    ('Educación', 'Gastos educativos y capacitación', true, 'GASTO', NULL),
+    ('Entretenimiento', 'Gastos de ocio y diversión', true, 'GASTO', NULL),
+    ('Servicios', 'Servicios básicos como luz, agua, internet', true, 'GASTO', NULL),
+    ('Ropa', 'Gastos en vestimenta y calzado', true, 'GASTO', NULL),
+    ('Hogar', 'Gastos del hogar y decoración', true, 'GASTO', NULL),
+    ('Tecnología', 'Gastos en dispositivos y software', true, 'GASTO', NULL),
+    ('Otros', 'Gastos diversos no categorizados', true, 'GASTO', NULL),
+    ('Salario', 'Ingresos por trabajo', true, 'INGRESO', NULL),
+    ('Inversiones', 'Ingresos por inversiones', true, 'INGRESO', NULL),
+    ('Negocios', 'Ingresos por actividades comerciales', true, 'INGRESO', NULL),
+    ('Regalos', 'Ingresos por regalos recibidos', true, 'INGRESO', NULL),
+    ('Otros Ingresos', 'Otros tipos de ingresos', true, 'INGRESO', NULL)
 ON CONFLICT (nombre) DO NOTHING;
 
 -- Verificar que todo está correcto
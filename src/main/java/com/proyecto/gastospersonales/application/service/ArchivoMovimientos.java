@@ -0,0 +1,58 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Traslada periódicamente los meses anteriores al horizonte en caliente a movimiento_archivo
+ * (ver V8__archivo_movimiento.sql), para que la tabla movimiento y sus índices solo contengan historial reciente.
+ * Las lecturas por período, las exportaciones y los resúmenes anuales consultan también el archivo,
+ * así que el traslado no cambia sus resultados. Los movimientos archivados son de solo lectura
+ */
+@Component
+public class ArchivoMovimientos {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ArchivoMovimientos.class);
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.archivo.habilitado:false}")
+    private boolean habilitado;
+    
+    @Value("${app.archivo.meses-en-caliente:24}")
+    private int mesesEnCaliente;
+    
+    /**
+     * Archiva los movimientos anteriores al primer día del mes que queda mesesEnCaliente meses atrás
+     * @return cantidad de movimientos archivados
+     */
+    @Scheduled(cron = "${app.archivo.cron:0 30 3 1 * *}")
+    public long archivarMovimientosAntiguos() {
+        if (!habilitado) {
+            return 0;
+        }
+        LocalDate corte = LocalDate.now().withDayOfMonth(1).minusMonths(mesesEnCaliente);
+        try {
+            long inicio = System.nanoTime();
+            Long movidos = jdbcTemplate.queryForObject(
+                    "SELECT archivar_movimientos(?)", Long.class, Date.valueOf(corte));
+            long total = movidos != null ? movidos : 0;
+            logger.info("Movimientos archivados anteriores a {}: {} en {} ms",
+                    corte, total, (System.nanoTime() - inicio) / 1_000_000);
+            return total;
+        } catch (RuntimeException e) {
+            // Los movimientos siguen en la tabla en caliente; el próximo ciclo lo reintenta
+            logger.error("No se pudieron archivar los movimientos anteriores a {}", corte, e);
+            return 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+import com.proyecto.gastospersonales.domain.service.BusquedaMovimientosService;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoRepositoryInterface;
+
+/**
+ * Implementación de la búsqueda de movimientos por texto
+ * En PostgreSQL usa el índice de texto completo (GIN sobre to_tsvector); con otras bases,
+ * como H2 en el perfil de pruebas, se busca en memoria sobre los movimientos del usuario
+ */
+@Service
+@Transactional(readOnly = true)
+public class BusquedaMovimientosServiceImpl implements BusquedaMovimientosService {
+    
+    public static final int TAMANIO_MAXIMO = 100;
+    private static final int MAXIMO_TERMINOS = 8;
+    private static final int MAXIMO_SUGERENCIAS = 20;
+    
+    @Autowired
+    private MovimientoRepositoryInterface movimientoRepository;
+    
+    @Autowired
+    private IndiceSugerencias indiceSugerencias;
+    
+    @Value("${app.busqueda.texto-completo:true}")
+    private boolean textoCompleto;
+    
+    /**
+     * Busca movimientos del usuario cuya descripción contenga todos los términos (también como prefijo)
+     * Ej: "super carn" encuentra "Supermercado - carnes"
+     */
+    @Override
+    public List<MovimientoResumenDto> buscar(Long usuarioId, String texto, int pagina, int tamanio) {
+        if (pagina < 0) {
+            throw new IllegalArgumentException("La página no puede ser negativa");
+        }
+        if (tamanio < 1 || tamanio > TAMANIO_MAXIMO) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + TAMANIO_MAXIMO);
+        }
+        
+        List<String> terminos = TerminosBusqueda.extraer(texto, MAXIMO_TERMINOS);
+        if (terminos.isEmpty()) {
+            return List.of();
+        }
+        
+        return textoCompleto
+                ? buscarEnIndice(usuarioId, terminos, pagina, tamanio)
+                : buscarEnMemoria(usuarioId, terminos, pagina, tamanio);
+    }
+    
+    /**
+     * Sugerencias de autocompletado para la caja de búsqueda, servidas desde el índice en memoria
+     */
+    @Override
+    public List<String> sugerir(Long usuarioId, String texto, int limite) {
+        if (limite < 1 || limite > MAXIMO_SUGERENCIAS) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + MAXIMO_SUGERENCIAS);
+        }
+        return indiceSugerencias.sugerir(usuarioId, texto, limite);
+    }
+    
+    @Override
+    public Map<String, Object> obtenerEstadisticasSugerencias() {
+        return indiceSugerencias.obtenerEstadisticas();
+    }
+    
+    /**
+     * Consulta el índice de texto completo de PostgreSQL
+     * Los términos ya vienen saneados, así que la tsquery generada nunca tiene errores de sintaxis
+     */
+    private List<MovimientoResumenDto> buscarEnIndice(Long usuarioId, List<String> terminos, int pagina, int tamanio) {
+        String consulta = terminos.stream()
+                .map(termino -> termino + ":*")
+                .collect(Collectors.joining(" & "));
+        
+        List<Object[]> filas = movimientoRepository.buscarTextoCompleto(usuarioId, consulta, tamanio, pagina * tamanio);
+        List<MovimientoResumenDto> resultado = new ArrayList<>(filas.size());
+        for (Object[] fila : filas) {
+            resultado.add(new MovimientoResumenDto(
+                    ((Number) fila[0]).longValue(),
+                    (String) fila[1],
+                    (BigDecimal) fila[2],
+                    aFecha(fila[3]),
+                    TipoMovimiento.valueOf((String) fila[4]),
+                    ((Number) fila[5]).longValue(),
+                    (String) fila[6]));
+        }
+        return resultado;
+    }
+    
+    /**
+     * Alternativa en memoria para bases sin texto completo (H2)
+     * Un movimiento coincide si cada término es prefijo de alguna palabra de su descripción;
+     * las coincidencias de palabra completa puntúan más
+     */
+    private List<MovimientoResumenDto> buscarEnMemoria(Long usuarioId, List<String> terminos, int pagina, int tamanio) {
+        List<MovimientoResumenDto> movimientos = movimientoRepository.findRecientesByUsuarioId(usuarioId, Pageable.unpaged());
+        List<String> terminosSinTildes = terminos.stream().map(TerminosBusqueda::quitarTildes).collect(Collectors.toList());
+        
+        List<Coincidencia> coincidencias = new ArrayList<>();
+        for (MovimientoResumenDto movimiento : movimientos) {
+            List<String> palabras = TerminosBusqueda.extraerSinTildes(movimiento.getDescripcion(), Integer.MAX_VALUE);
+            int puntuacion = puntuar(terminosSinTildes, palabras);
+            if (puntuacion > 0) {
+                coincidencias.add(new Coincidencia(movimiento, puntuacion));
+            }
+        }
+        
+        // La lista del repositorio ya viene por fecha descendente; el orden estable la conserva en los empates
+        return coincidencias.stream()
+                .sorted(Comparator.comparingInt(Coincidencia::puntuacion).reversed())
+                .skip((long) pagina * tamanio)
+                .limit(tamanio)
+                .map(Coincidencia::movimiento)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Devuelve 0 si falta algún término; si no, uno por término más uno extra por palabra completa
+     */
+    private int puntuar(List<String> terminos, List<String> palabras) {
+        Set<String> completas = new HashSet<>(palabras);
+        int puntuacion = 0;
+        for (String termino : terminos) {
+            if (completas.contains(termino)) {
+                puntuacion += 2;
+            } else if (palabras.stream().anyMatch(palabra -> palabra.startsWith(termino))) {
+                puntuacion += 1;
+            } else {
+                return 0;
+            }
+        }
+        return puntuacion;
+    }
+    
+    /**
+     * La columna fecha puede ser TIMESTAMP o DATE según cómo se creó el esquema
+     */
+    private LocalDateTime aFecha(Object valor) {
+        if (valor instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (valor instanceof Date fecha) {
+            return fecha.toLocalDate().atStartOfDay();
+        }
+        if (valor instanceof LocalDate fecha) {
+            return fecha.atStartOfDay();
+        }
+        return (LocalDateTime) valor;
+    }
+    
+    private record Coincidencia(MovimientoResumenDto movimiento, int puntuacion) {}
+}
\ No newline at end of file
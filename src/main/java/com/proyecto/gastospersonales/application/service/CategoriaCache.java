@@ -0,0 +1,147 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.proyecto.gastospersonales.domain.model.Categoria;
+
+/**
+ * Caché de lectura de categorías en memoria de la JVM
+ * Las categorías son pocas y casi nunca cambian, así que se guarda la lista completa ordenada por nombre
+ * y se derivan de ella los índices por ID y por nombre en minúsculas. La instantánea es inmutable y se
+ * reemplaza entera; cada lectura devuelve copias para que nadie modifique el contenido compartido
+ */
+@Component
+public class CategoriaCache {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CategoriaCache.class);
+    
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder invalidaciones = new LongAdder();
+    
+    // Cada invalidación abre una generación nueva; una instantánea solo vale en la generación en que se cargó
+    private final AtomicLong generacion = new AtomicLong();
+    
+    @Value("${app.cache.categorias.ttl:10m}")
+    private Duration ttl;
+    
+    private volatile Instantanea instantanea;
+    
+    /**
+     * Devuelve todas las categorías ordenadas por nombre, cargándolas con el proveedor si no están en caché
+     */
+    public List<Categoria> obtenerTodas(Supplier<List<Categoria>> cargador) {
+        return instantanea(cargador).ordenadas.stream()
+                .map(CategoriaCache::copiar)
+                .collect(Collectors.toList());
+    }
+    
+    public Optional<Categoria> obtenerPorId(Long id, Supplier<List<Categoria>> cargador) {
+        return Optional.ofNullable(instantanea(cargador).porId.get(id)).map(CategoriaCache::copiar);
+    }
+    
+    public Optional<Categoria> obtenerPorNombre(String nombre, Supplier<List<Categoria>> cargador) {
+        return Optional.ofNullable(instantanea(cargador).porNombre.get(nombre.trim().toLowerCase()))
+                .map(CategoriaCache::copiar);
+    }
+    
+    /**
+     * Descarta la instantánea actual
+     * Dentro de una transacción se descarta también al terminar: una lectura que empezó antes de confirmar
+     * el cambio carga los datos anteriores, y la nueva generación impide que esa carga se siga sirviendo
+     */
+    public void invalidar() {
+        generacion.incrementAndGet();
+        instantanea = null;
+        invalidaciones.increment();
+        TrasLaTransaccion.alTerminar(() -> {
+            generacion.incrementAndGet();
+            instantanea = null;
+        });
+    }
+    
+    /**
+     * Métricas de uso de la caché
+     */
+    public Map<String, Object> obtenerEstadisticas() {
+        long totalAciertos = aciertos.sum();
+        long totalFallos = fallos.sum();
+        long total = totalAciertos + totalFallos;
+        Instantanea actual = instantanea;
+        
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("aciertos", totalAciertos);
+        estadisticas.put("fallos", totalFallos);
+        estadisticas.put("tasaAciertos", total > 0 ? (double) totalAciertos / total : 0.0);
+        estadisticas.put("invalidaciones", invalidaciones.sum());
+        estadisticas.put("categoriasEnCache", actual != null ? actual.ordenadas.size() : 0);
+        return estadisticas;
+    }
+    
+    private Instantanea instantanea(Supplier<List<Categoria>> cargador) {
+        Instantanea actual = instantanea;
+        if (actual != null && actual.generacion == generacion.get() && !actual.isVencida(ttl)) {
+            aciertos.increment();
+            return actual;
+        }
+        
+        fallos.increment();
+        // La generación se lee antes de cargar: si hay una invalidación durante la carga, la lista se usa
+        // para esta lectura pero no se guarda (y si la invalidación llega justo al guardarla, nace vieja)
+        long generacionCarga = generacion.get();
+        Instantanea nueva = new Instantanea(cargador.get(), generacionCarga);
+        if (generacion.get() == generacionCarga) {
+            instantanea = nueva;
+        }
+        logger.debug("Caché de categorías cargada con {} categorías", nueva.ordenadas.size());
+        return nueva;
+    }
+    
+    /**
+     * Copia sin la colección de movimientos, desligada de cualquier contexto de persistencia
+     */
+    private static Categoria copiar(Categoria categoria) {
+        Categoria copia = new Categoria(categoria.getNombre(), categoria.getDescripcion(), 
+                categoria.getEsPredefinida(), categoria.getTipo());
+        copia.setId(categoria.getId());
+        return copia;
+    }
+    
+    /**
+     * Contenido inmutable de la caché en un momento dado
+     */
+    private static final class Instantanea {
+        private final List<Categoria> ordenadas;
+        private final Map<Long, Categoria> porId;
+        private final Map<String, Categoria> porNombre;
+        private final long generacion;
+        private final long cargadaEn = System.nanoTime();
+        
+        private Instantanea(List<Categoria> categorias, long generacion) {
+            this.generacion = generacion;
+            this.ordenadas = categorias.stream().map(CategoriaCache::copiar).collect(Collectors.toUnmodifiableList());
+            this.porId = ordenadas.stream()
+                    .collect(Collectors.toUnmodifiableMap(Categoria::getId, Function.identity()));
+            this.porNombre = ordenadas.stream()
+                    .collect(Collectors.toUnmodifiableMap(c -> c.getNombre().toLowerCase(), Function.identity(), (a, b) -> a));
+        }
+        
+        private boolean isVencida(Duration ttl) {
+            return System.nanoTime() - cargadaEn > ttl.toNanos();
+        }
+    }
+}
\ No newline at end of file
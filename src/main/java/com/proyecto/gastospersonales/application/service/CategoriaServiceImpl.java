@@ -1,16 +1,22 @@
 package com.proyecto.gastospersonales.application.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.TipoCategoria;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
 import com.proyecto.gastospersonales.domain.service.CategoriaService;
 import com.proyecto.gastospersonales.infrastructure.repository.CategoriaRepositoryInterface;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoArchivadoRepository;
 
 /**
  * Implementación de la lógica de negocio para las categorías
@@ -20,16 +26,43 @@ import com.proyecto.gastospersonales.infrastructure.repository.CategoriaReposito
 @Transactional
 public class CategoriaServiceImpl implements CategoriaService {
     
+    // Categorías predefinidas del sistema, cada una con su clasificación
+    private static final List<CategoriaPredefinida> CATEGORIAS_PREDEFINIDAS = List.of(
+            new CategoriaPredefinida("Alimentacion", "Gastos relacionados con comida y bebida", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Transporte", "Gastos de movilizacion y transporte", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Entretenimiento", "Gastos de ocio, entretenimiento y diversion", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Salud", "Gastos medicos y de salud", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Educacion", "Gastos educativos y de formacion", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Servicios", "Servicios basicos como luz, agua, internet", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Ropa", "Gastos en vestimenta y calzado", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Hogar", "Gastos del hogar y decoracion", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Tecnologia", "Gastos en dispositivos y software", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Otros", "Otros gastos no categorizados", TipoCategoria.GASTO),
+            new CategoriaPredefinida("Salario", "Ingresos por trabajo", TipoCategoria.INGRESO),
+            new CategoriaPredefinida("Inversiones", "Ingresos por inversiones", TipoCategoria.INGRESO),
+            new CategoriaPredefinida("Negocios", "Ingresos por actividades comerciales", TipoCategoria.INGRESO),
+            new CategoriaPredefinida("Otros Ingresos", "Otros tipos de ingresos", TipoCategoria.INGRESO));
+    
     @Autowired
     private CategoriaRepositoryInterface categoriaRepository;
     
+    @Autowired
+    private CategoriaCache categoriaCache;
+    
+    @Autowired
+    private VersionesDatos versionesDatos;
+    
+    @Autowired
+    private MovimientoArchivadoRepository movimientoArchivadoRepository;
+    
     /**
      * Obtiene todas las categorías ordenadas por nombre
+     * Se sirven desde la caché; solo un fallo de caché consulta la base de datos
      */
     @Override
     @Transactional(readOnly = true)
     public List<Categoria> obtenerTodasLasCategorias() {
-        return categoriaRepository.findAllByOrderByNombre();
+        return categoriaCache.obtenerTodas(categoriaRepository::findAllByOrderByNombre);
     }
     
     /**
@@ -38,7 +71,10 @@ public class CategoriaServiceImpl implements CategoriaService {
     @Override
     @Transactional(readOnly = true)
     public Optional<Categoria> obtenerCategoriaPorId(Long id) {
-        return categoriaRepository.findById(id);
+        if (id == null) {
+            return Optional.empty();
+        }
+        return categoriaCache.obtenerPorId(id, categoriaRepository::findAllByOrderByNombre);
     }
     
     /**
@@ -47,7 +83,10 @@ public class CategoriaServiceImpl implements CategoriaService {
     @Override
     @Transactional(readOnly = true)
     public Optional<Categoria> buscarCategoriaPorNombre(String nombre) {
-        return categoriaRepository.findByNombreIgnoreCase(nombre);
+        if (nombre == null) {
+            return Optional.empty();
+        }
+        return categoriaCache.obtenerPorNombre(nombre, categoriaRepository::findAllByOrderByNombre);
     }
     
     /**
@@ -56,7 +95,9 @@ public class CategoriaServiceImpl implements CategoriaService {
     @Override
     @Transactional(readOnly = true)
     public List<Categoria> obtenerCategoriasPredefinidas() {
-        return categoriaRepository.findByEsPredefinidaOrderByNombre(true);
+        return obtenerTodasLasCategorias().stream()
+                .filter(categoria -> Boolean.TRUE.equals(categoria.getEsPredefinida()))
+                .collect(Collectors.toList());
     }
     
     /**
@@ -65,14 +106,24 @@ public class CategoriaServiceImpl implements CategoriaService {
     @Override
     @Transactional(readOnly = true)
     public List<Categoria> obtenerCategoriasPersonalizadas() {
-        return categoriaRepository.findByEsPredefinidaOrderByNombre(false);
+        return obtenerTodasLasCategorias().stream()
+                .filter(categoria -> !Boolean.TRUE.equals(categoria.getEsPredefinida()))
+                .collect(Collectors.toList());
     }
     
     /**
-     * Crea una nueva categoría validando que no exista otra con el mismo nombre
+     * Crea una nueva categoría de gastos validando que no exista otra con el mismo nombre
      */
     @Override
     public Categoria crearCategoria(String nombre, String descripcion) {
+        return crearCategoria(nombre, descripcion, TipoCategoria.GASTO);
+    }
+    
+    /**
+     * Crea una nueva categoría del tipo indicado validando que no exista otra con el mismo nombre
+     */
+    @Override
+    public Categoria crearCategoria(String nombre, String descripcion, TipoCategoria tipo) {
         // Validar que el nombre no esté vacío
         if (nombre == null || nombre.trim().isEmpty()) {
             throw new IllegalArgumentException("El nombre de la categoría no puede estar vacío");
@@ -84,7 +135,10 @@ public class CategoriaServiceImpl implements CategoriaService {
         }
         
         // Crear la nueva categoría
-        Categoria nuevaCategoria = new Categoria(nombre.trim(), descripcion);
+        Categoria nuevaCategoria = new Categoria(nombre.trim(), descripcion, false, 
+                tipo != null ? tipo : TipoCategoria.GASTO);
+        categoriaCache.invalidar();
+        versionesDatos.registrarCambioCategorias();
         return categoriaRepository.save(nuevaCategoria);
     }
     
@@ -93,6 +147,14 @@ public class CategoriaServiceImpl implements CategoriaService {
      */
     @Override
     public Categoria actualizarCategoria(Long id, String nuevoNombre, String nuevaDescripcion) {
+        return actualizarCategoria(id, nuevoNombre, nuevaDescripcion, null);
+    }
+    
+    /**
+     * Actualiza una categoría existente, incluido su tipo si se indica
+     */
+    @Override
+    public Categoria actualizarCategoria(Long id, String nuevoNombre, String nuevaDescripcion, TipoCategoria nuevoTipo) {
         Categoria categoria = categoriaRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Categoría no encontrada con ID: " + id));
         
@@ -109,6 +171,14 @@ public class CategoriaServiceImpl implements CategoriaService {
             categoria.setDescripcion(nuevaDescripcion);
         }
         
+        // Actualizar tipo
+        if (nuevoTipo != null) {
+            categoria.setTipo(nuevoTipo);
+        }
+        
+        categoriaCache.invalidar();
+        
+        versionesDatos.registrarCambioCategorias();
         return categoriaRepository.save(categoria);
     }
     
@@ -120,13 +190,17 @@ public class CategoriaServiceImpl implements CategoriaService {
         Categoria categoria = categoriaRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Categoría no encontrada con ID: " + id));
         
-        // Validar que no tenga movimientos asociados usando consulta directa
-        long cantidadMovimientos = categoriaRepository.countMovimientosByCategoriaId(id);
+        // Validar que no tenga movimientos asociados, en caliente ni archivados, usando consulta directa
+        long cantidadMovimientos = categoriaRepository.countMovimientosByCategoriaId(id)
+                + movimientoArchivadoRepository.countByCategoriaId(id);
         if (cantidadMovimientos > 0) {
             throw new IllegalArgumentException("No se puede eliminar la categoría '" + categoria.getNombre() + 
                     "' porque tiene " + cantidadMovimientos + " movimientos asociados");
         }
         
+        categoriaCache.invalidar();
+        
+        versionesDatos.registrarCambioCategorias();
         categoriaRepository.delete(categoria);
     }
     
@@ -144,20 +218,47 @@ public class CategoriaServiceImpl implements CategoriaService {
     
     /**
      * Obtiene categorías que no tienen movimientos asociados
+     * Cruza la lista en caché con el conteo agrupado, sin un subquery por categoría
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public List<Categoria> obtenerCategoriasVacias() {
-        return categoriaRepository.findCategoriasVacias();
+        Map<Long, Long> uso = obtenerUsoCategorias();
+        return obtenerTodasLasCategorias().stream()
+                .filter(categoria -> !uso.containsKey(categoria.getId()))
+                .collect(Collectors.toList());
     }
     
     /**
      * Obtiene categorías que tienen al menos un movimiento
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public List<Categoria> obtenerCategoriasConMovimientos() {
-        return categoriaRepository.findCategoriasConMovimientos();
+        Map<Long, Long> uso = obtenerUsoCategorias();
+        return obtenerTodasLasCategorias().stream()
+                .filter(categoria -> uso.containsKey(categoria.getId()))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Obtiene la cantidad de movimientos de cada categoría con una consulta agrupada por tabla,
+     * sumando los archivados: el mismo criterio que eliminarCategoria
+     * Las categorías sin movimientos no aparecen en el mapa
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Map<Long, Long> obtenerUsoCategorias() {
+        List<Object[]> filas = categoriaRepository.countMovimientosGroupByCategoria();
+        List<Object[]> archivadas = movimientoArchivadoRepository.countGroupByCategoria();
+        Map<Long, Long> uso = new HashMap<>((filas.size() + archivadas.size()) * 2);
+        for (Object[] fila : filas) {
+            uso.put((Long) fila[0], ((Number) fila[1]).longValue());
+        }
+        for (Object[] fila : archivadas) {
+            uso.merge((Long) fila[0], ((Number) fila[1]).longValue(), Long::sum);
+        }
+        return uso;
     }
     
     /**
@@ -168,7 +269,7 @@ public class CategoriaServiceImpl implements CategoriaService {
     public List<Categoria> obtenerCategoriasParaGastos() {
         List<Categoria> todasCategorias = obtenerTodasLasCategorias();
         return todasCategorias.stream()
-                .filter(categoria -> !esCategoriaDeTipoIngreso(categoria.getNombre()))
+                .filter(categoria -> categoria.getTipo().admite(TipoMovimiento.GASTO))
                 .collect(Collectors.toList());
     }
     
@@ -180,7 +281,7 @@ public class CategoriaServiceImpl implements CategoriaService {
     public List<Categoria> obtenerCategoriasParaIngresos() {
         List<Categoria> todasCategorias = obtenerTodasLasCategorias();
         return todasCategorias.stream()
-                .filter(categoria -> esCategoriaDeTipoIngreso(categoria.getNombre()))
+                .filter(categoria -> categoria.getTipo().admite(TipoMovimiento.INGRESO))
                 .collect(Collectors.toList());
     }
     
@@ -190,7 +291,7 @@ public class CategoriaServiceImpl implements CategoriaService {
     @Override
     @Transactional(readOnly = true)
     public boolean existeCategoriaPorNombre(String nombre) {
-        return categoriaRepository.existsByNombreIgnoreCase(nombre);
+        return buscarCategoriaPorNombre(nombre).isPresent();
     }
     
     /**
@@ -198,54 +299,28 @@ public class CategoriaServiceImpl implements CategoriaService {
      */
     @Override
     public void inicializarCategoriasPredefinidas() {
-        String[] categoriasPredefinidas = {
-                "Alimentacion", "Transporte", "Entretenimiento", 
-                "Salud", "Educacion", "Servicios", "Ropa", 
-                "Hogar", "Tecnologia", "Otros", "Salario",
-                "Inversiones", "Negocios", "Otros Ingresos"
-        };
-        
-        String[] descripcionesPredefinidas = {
-                "Gastos relacionados con comida y bebida",
-                "Gastos de movilizacion y transporte",
-                "Gastos de ocio, entretenimiento y diversion",
-                "Gastos medicos y de salud",
-                "Gastos educativos y de formacion",
-                "Servicios basicos como luz, agua, internet",
-                "Gastos en vestimenta y calzado",
-                "Gastos del hogar y decoracion",
-                "Gastos en dispositivos y software",
-                "Otros gastos no categorizados",
-                "Ingresos por trabajo",
-                "Ingresos por inversiones",
-                "Ingresos por actividades comerciales",
-                "Otros tipos de ingresos"
-        };
-        
-        for (int i = 0; i < categoriasPredefinidas.length; i++) {
-            String nombre = categoriasPredefinidas[i];
-            String descripcion = descripcionesPredefinidas[i];
-            
-            if (!categoriaRepository.existsByNombreIgnoreCase(nombre)) {
-                Categoria categoria = new Categoria(nombre, descripcion, true);
+        for (CategoriaPredefinida predefinida : CATEGORIAS_PREDEFINIDAS) {
+            if (!categoriaRepository.existsByNombreIgnoreCase(predefinida.nombre())) {
+                Categoria categoria = new Categoria(predefinida.nombre(), predefinida.descripcion(), true, 
+                        predefinida.tipo());
                 categoriaRepository.save(categoria);
+                categoriaCache.invalidar();
+                versionesDatos.registrarCambioCategorias();
             }
         }
     }
     
     /**
-     * Determina si una categoría es típicamente para ingresos
+     * Obtiene las métricas de aciertos y fallos de la caché de categorías
      */
-    private boolean esCategoriaDeTipoIngreso(String nombreCategoria) {
-        String[] categoriasIngreso = {
-            "Salario", "Inversiones", "Negocios", "Otros Ingresos", "Regalos"
-        };
-        
-        for (String categoria : categoriasIngreso) {
-            if (categoria.equalsIgnoreCase(nombreCategoria)) {
-                return true;
-            }
-        }
-        return false;
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> obtenerEstadisticasCache() {
+        return categoriaCache.obtenerEstadisticas();
     }
+    
+    /**
+     * Datos de una categoría predefinida
+     */
+    private record CategoriaPredefinida(String nombre, String descripcion, TipoCategoria tipo) {}
 }
\ No newline at end of file
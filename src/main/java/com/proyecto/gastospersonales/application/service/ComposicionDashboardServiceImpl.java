@@ -0,0 +1,146 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.proyecto.gastospersonales.domain.service.ComposicionDashboardService;
+import com.proyecto.gastospersonales.domain.service.EstadisticasService;
+import com.proyecto.gastospersonales.domain.service.MovimientoService;
+import com.proyecto.gastospersonales.infrastructure.config.EnrutamientoDataSource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementación de la composición del dashboard
+ * Las partes se calculan a la vez en un ejecutor acotado, cada una en su propia transacción de solo lectura
+ * con REPEATABLE READ (una sola instantánea para la tabla en caliente y el archivo), así que la latencia total es la de la parte más lenta y no la suma de todas. Cada parte tiene su tiempo
+ * máximo (app.dashboard.timeout.<parte>); la que no termina a tiempo, falla o no cabe en el ejecutor se
+ * omite y se informa en "partesNoDisponibles"
+ */
+@Service
+public class ComposicionDashboardServiceImpl implements ComposicionDashboardService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ComposicionDashboardServiceImpl.class);
+    private static final int MOVIMIENTOS_RECIENTES = 5;
+    private static final int MESES_SERIE = 6;
+    
+    @Autowired
+    private EstadisticasService estadisticasService;
+    
+    @Autowired
+    private MovimientoService movimientoService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private Environment environment;
+    
+    @Value("${app.dashboard.hilos:8}")
+    private int hilos;
+    
+    // Cola corta: ante un pico, las partes que no caben se rechazan en lugar de acumular esperas
+    @Value("${app.dashboard.cola:64}")
+    private int cola;
+    
+    @Value("${app.dashboard.timeout-por-defecto:2s}")
+    private Duration timeoutPorDefecto;
+    
+    // Ejecutor propio y no un bean: un bean Executor desactivaría el ejecutor de tareas de Spring Boot
+    private ThreadPoolTaskExecutor ejecutor;
+    
+    @PostConstruct
+    void iniciarEjecutor() {
+        ejecutor = new ThreadPoolTaskExecutor();
+        ejecutor.setThreadNamePrefix("dashboard-");
+        ejecutor.setCorePoolSize(hilos);
+        ejecutor.setMaxPoolSize(hilos);
+        ejecutor.setQueueCapacity(cola);
+        ejecutor.setTaskDecorator(EnrutamientoDataSource::conLecturaPropia);
+        ejecutor.initialize();
+    }
+    
+    @PreDestroy
+    void detenerEjecutor() {
+        ejecutor.shutdown();
+    }
+    
+    @Override
+    public Map<String, Object> obtenerDashboard(Long usuarioId) {
+        LocalDate hoy = LocalDate.now();
+        Map<String, CompletableFuture<Object>> partes = new LinkedHashMap<>();
+        partes.put("resumen", lanzar("resumen",
+                () -> estadisticasService.obtenerDashboard(usuarioId)));
+        partes.put("recientes", lanzar("recientes",
+                () -> movimientoService.obtenerUltimosMovimientos(usuarioId, MOVIMIENTOS_RECIENTES)));
+        partes.put("resumenMensual", lanzar("resumenMensual",
+                () -> estadisticasService.obtenerResumenMensual(usuarioId, MESES_SERIE)));
+        partes.put("categoriasDelMes", lanzar("categoriasDelMes",
+                () -> estadisticasService.obtenerResumenPorCategorias(usuarioId, hoy.withDayOfMonth(1), hoy)));
+    
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        List<String> noDisponibles = new ArrayList<>();
+        partes.forEach((nombre, parte) -> {
+            Object valor = parte.join();
+            if (valor != null) {
+                dashboard.put(nombre, valor);
+            } else {
+                noDisponibles.add(nombre);
+            }
+        });
+        dashboard.put("partesNoDisponibles", noDisponibles);
+        return dashboard;
+    }
+    
+    /**
+     * Lanza una parte en el ejecutor con su tiempo máximo
+     * El futuro nunca termina con error: ante fallo, rechazo o timeout se completa con null
+     */
+    private CompletableFuture<Object> lanzar(String nombre, Supplier<Object> calculo) {
+        Duration timeout = environment.getProperty("app.dashboard.timeout." + nombre, Duration.class, timeoutPorDefecto);
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        transaccion.setReadOnly(true);
+        // Los servicios se unen a esta transacción: su propio nivel de aislamiento no se aplicaría
+        transaccion.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        // El timeout de la transacción también cancela la consulta en la base si la parte se abandona
+        transaccion.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+    
+        CompletableFuture<Object> parte;
+        try {
+            parte = CompletableFuture.supplyAsync(() -> transaccion.execute(estado -> calculo.get()), ejecutor);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Parte del dashboard '{}' rechazada: ejecutor lleno", nombre);
+            return CompletableFuture.completedFuture(null);
+        }
+        return parte.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    if (error instanceof TimeoutException || error.getCause() instanceof TimeoutException) {
+                        logger.warn("Parte del dashboard '{}' sin respuesta en {}", nombre, timeout);
+                    } else {
+                        logger.warn("Parte del dashboard '{}' con error", nombre, error);
+                    }
+                    return null;
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.proyecto.gastospersonales.domain.dto.CategoriaResumenDto;
+import com.proyecto.gastospersonales.domain.dto.DashboardDto;
+import com.proyecto.gastospersonales.domain.dto.MonthlySummaryDto;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+import com.proyecto.gastospersonales.domain.service.EstadisticasService;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoArchivadoRepository;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoRepositoryInterface;
+
+/**
+ * Implementación del motor de estadísticas
+ * Resuelve todos los agregados del dashboard con una consulta agrupada por tabla: movimientos en caliente y archivados.
+ * Las lecturas son REPEATABLE_READ para que ambas consultas vean la misma instantánea aunque un archivado
+ * mueva filas de una tabla a otra entre las dos
+ */
+@Service
+@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+public class EstadisticasServiceImpl implements EstadisticasService {
+    
+    // Límites usados cuando el cliente no acota el rango de fechas
+    private static final LocalDate FECHA_MINIMA = LocalDate.of(1900, 1, 1);
+    private static final LocalDate FECHA_MAXIMA = LocalDate.of(9999, 12, 31);
+    
+    @Autowired
+    private MovimientoRepositoryInterface movimientoRepository;
+    
+    @Autowired
+    private MovimientoArchivadoRepository movimientoArchivadoRepository;
+    
+    /**
+     * Obtiene totales, resumen del mes y gastos por categoría del mes en un solo viaje a la base de datos
+     */
+    @Override
+    public DashboardDto obtenerDashboard() {
+        LocalDateTime inicioMes = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime finMes = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth()).atTime(LocalTime.MAX);
+        
+        List<Object[]> filas = new ArrayList<>(movimientoRepository.resumirPorTipoYCategoria(inicioMes, finMes));
+        filas.addAll(movimientoArchivadoRepository.resumirPorTipoYCategoria(inicioMes, finMes));
+        return armarDashboard(filas);
+    }
+    
+    /**
+     * Igual que obtenerDashboard, con los movimientos de un usuario
+     */
+    @Override
+    public DashboardDto obtenerDashboard(Long usuarioId) {
+        LocalDateTime inicioMes = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime finMes = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth()).atTime(LocalTime.MAX);
+        
+        List<Object[]> filas = new ArrayList<>(
+                movimientoRepository.resumirPorTipoYCategoriaDeUsuario(usuarioId, inicioMes, finMes));
+        filas.addAll(movimientoArchivadoRepository.resumirPorTipoYCategoriaDeUsuario(usuarioId, inicioMes, finMes));
+        return armarDashboard(filas);
+    }
+    
+    /**
+     * Las filas pueden repetir tipo y categoría (una por tabla); los gastos del mes se suman por categoría
+     */
+    private DashboardDto armarDashboard(List<Object[]> filas) {
+        BigDecimal totalIngresos = BigDecimal.ZERO;
+        BigDecimal totalGastos = BigDecimal.ZERO;
+        BigDecimal ingresosDelMes = BigDecimal.ZERO;
+        BigDecimal gastosDelMes = BigDecimal.ZERO;
+        int totalMovimientos = 0;
+        Map<String, BigDecimal> gastosPorCategoria = new HashMap<>();
+        
+        for (Object[] fila : filas) {
+            TipoMovimiento tipo = (TipoMovimiento) fila[0];
+            String categoria = (String) fila[1];
+            BigDecimal total = aBigDecimal(fila[3]);
+            BigDecimal totalDelMes = aBigDecimal(fila[4]);
+            totalMovimientos += ((Number) fila[2]).intValue();
+            
+            if (tipo == TipoMovimiento.INGRESO) {
+                totalIngresos = totalIngresos.add(total);
+                ingresosDelMes = ingresosDelMes.add(totalDelMes);
+            } else {
+                totalGastos = totalGastos.add(total);
+                gastosDelMes = gastosDelMes.add(totalDelMes);
+                if (totalDelMes.signum() > 0) {
+                    gastosPorCategoria.merge(categoria, totalDelMes, BigDecimal::add);
+                }
+            }
+        }
+        
+        // Mismo orden que el reporte original: categorías con mayor gasto primero
+        List<Map.Entry<String, BigDecimal>> ordenados = new ArrayList<>(gastosPorCategoria.entrySet());
+        ordenados.sort(Map.Entry.<String, BigDecimal>comparingByValue().reversed());
+        Map<String, BigDecimal> gastosPorCategoriaDelMes = new LinkedHashMap<>();
+        for (Map.Entry<String, BigDecimal> entrada : ordenados) {
+            gastosPorCategoriaDelMes.put(entrada.getKey(), entrada.getValue());
+        }
+        
+        return new DashboardDto(totalIngresos, totalGastos, totalMovimientos, 
+                ingresosDelMes, gastosDelMes, gastosPorCategoriaDelMes);
+    }
+    
+    /**
+     * Obtiene ingresos, gastos, cantidad y porcentaje de gasto por categoría con una consulta agrupada
+     * Las fechas son opcionales; sin ellas se resume todo el historial
+     */
+    @Override
+    public List<CategoriaResumenDto> obtenerResumenPorCategorias(LocalDate desde, LocalDate hasta) {
+        LocalDateTime fechaInicio = (desde != null ? desde : FECHA_MINIMA).atStartOfDay();
+        LocalDateTime fechaFin = (hasta != null ? hasta : FECHA_MAXIMA).atTime(LocalTime.MAX);
+        
+        List<Object[]> filas = new ArrayList<>(movimientoRepository.sumMontoGroupByCategoriaYTipo(fechaInicio, fechaFin));
+        filas.addAll(movimientoArchivadoRepository.sumMontoGroupByCategoriaYTipo(fechaInicio, fechaFin));
+        return armarResumenPorCategorias(filas);
+    }
+    
+    /**
+     * Igual que obtenerResumenPorCategorias, con los movimientos de un usuario
+     */
+    @Override
+    public List<CategoriaResumenDto> obtenerResumenPorCategorias(Long usuarioId, LocalDate desde, LocalDate hasta) {
+        LocalDateTime fechaInicio = (desde != null ? desde : FECHA_MINIMA).atStartOfDay();
+        LocalDateTime fechaFin = (hasta != null ? hasta : FECHA_MAXIMA).atTime(LocalTime.MAX);
+        
+        List<Object[]> filas = new ArrayList<>(
+                movimientoRepository.sumMontoGroupByCategoriaYTipoDeUsuario(usuarioId, fechaInicio, fechaFin));
+        filas.addAll(movimientoArchivadoRepository.sumMontoGroupByCategoriaYTipoDeUsuario(usuarioId, fechaInicio, fechaFin));
+        return armarResumenPorCategorias(filas);
+    }
+    
+    /**
+     * Las filas pueden repetir categoría (una por tabla); se suman antes de calcular los porcentajes
+     */
+    private List<CategoriaResumenDto> armarResumenPorCategorias(List<Object[]> filas) {
+        BigDecimal totalGastos = BigDecimal.ZERO;
+        Map<Long, Object[]> porCategoria = new LinkedHashMap<>();
+        for (Object[] fila : filas) {
+            totalGastos = totalGastos.add(aBigDecimal(fila[3]));
+            Object[] acumulada = porCategoria.get((Long) fila[0]);
+            if (acumulada == null) {
+                porCategoria.put((Long) fila[0], new Object[] {fila[0], fila[1],
+                        aBigDecimal(fila[2]), aBigDecimal(fila[3]), ((Number) fila[4]).longValue()});
+            } else {
+                acumulada[2] = ((BigDecimal) acumulada[2]).add(aBigDecimal(fila[2]));
+                acumulada[3] = ((BigDecimal) acumulada[3]).add(aBigDecimal(fila[3]));
+                acumulada[4] = (Long) acumulada[4] + ((Number) fila[4]).longValue();
+            }
+        }
+        
+        List<CategoriaResumenDto> resumen = new ArrayList<>(porCategoria.size());
+        for (Object[] fila : porCategoria.values()) {
+            BigDecimal gastos = (BigDecimal) fila[3];
+            BigDecimal porcentaje = totalGastos.signum() > 0
+                    ? gastos.multiply(BigDecimal.valueOf(100)).divide(totalGastos, 2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+            resumen.add(new CategoriaResumenDto(
+                    (Long) fila[0],
+                    (String) fila[1],
+                    gastos,
+                    porcentaje,
+                    (BigDecimal) fila[2],
+                    (Long) fila[4]));
+        }
+        
+        resumen.sort(Comparator.comparing(CategoriaResumenDto::getMonto).reversed()
+                .thenComparing(CategoriaResumenDto::getNombre));
+        return resumen;
+    }
+    
+    /**
+     * Obtiene la serie de los últimos meses, incluido el actual
+     */
+    @Override
+    public List<MonthlySummaryDto> obtenerResumenMensual(int meses) {
+        YearMonth inicio = YearMonth.now().minusMonths(meses - 1L);
+        return obtenerSerieMensual(null, inicio, meses);
+    }
+    
+    @Override
+    public List<MonthlySummaryDto> obtenerResumenMensual(Long usuarioId, int meses) {
+        YearMonth inicio = YearMonth.now().minusMonths(meses - 1L);
+        return obtenerSerieMensual(usuarioId, inicio, meses);
+    }
+    
+    /**
+     * Obtiene la serie de los doce meses de un año
+     */
+    @Override
+    public List<MonthlySummaryDto> obtenerResumenAnual(int anio) {
+        return obtenerSerieMensual(null, YearMonth.of(anio, 1), 12);
+    }
+    
+    @Override
+    public List<MonthlySummaryDto> obtenerResumenAnual(Long usuarioId, int anio) {
+        return obtenerSerieMensual(usuarioId, YearMonth.of(anio, 1), 12);
+    }
+    
+    /**
+     * Calcula una serie mensual con una sola consulta agrupada por mes
+     * Los meses sin movimientos se completan con ceros para que la serie sea continua
+     * Sin usuario se suman los movimientos de todos los usuarios
+     */
+    private List<MonthlySummaryDto> obtenerSerieMensual(Long usuarioId, YearMonth inicio, int meses) {
+        YearMonth fin = inicio.plusMonths(meses);
+        LocalDateTime fechaInicio = inicio.atDay(1).atStartOfDay();
+        LocalDateTime fechaFin = fin.atDay(1).atStartOfDay();
+        List<Object[]> filas = new ArrayList<>(usuarioId != null
+                ? movimientoRepository.sumMontoGroupByMesDeUsuario(usuarioId, fechaInicio, fechaFin)
+                : movimientoRepository.sumMontoGroupByMes(fechaInicio, fechaFin));
+        // Los meses archivados vienen del archivo; un mes puede tener filas en ambas tablas
+        filas.addAll(usuarioId != null
+                ? movimientoArchivadoRepository.sumMontoGroupByMesDeUsuario(usuarioId, fechaInicio, fechaFin)
+                : movimientoArchivadoRepository.sumMontoGroupByMes(fechaInicio, fechaFin));
+        
+        Map<YearMonth, BigDecimal[]> totalesPorMes = new HashMap<>();
+        for (Object[] fila : filas) {
+            BigDecimal[] totales = totalesPorMes.computeIfAbsent(
+                    YearMonth.of(((Number) fila[0]).intValue(), ((Number) fila[1]).intValue()),
+                    mes -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+            totales[0] = totales[0].add(aBigDecimal(fila[2]));
+            totales[1] = totales[1].add(aBigDecimal(fila[3]));
+        }
+        
+        List<MonthlySummaryDto> serie = new ArrayList<>(meses);
+        for (YearMonth mes = inicio; mes.isBefore(fin); mes = mes.plusMonths(1)) {
+            BigDecimal[] totales = totalesPorMes.get(mes);
+            serie.add(new MonthlySummaryDto(mes.getYear(), mes.getMonthValue(),
+                    totales != null ? totales[0] : BigDecimal.ZERO,
+                    totales != null ? totales[1] : BigDecimal.ZERO));
+        }
+        return serie;
+    }
+    
+    /**
+     * Convierte el resultado numérico de una agregación a BigDecimal
+     */
+    private BigDecimal aBigDecimal(Object valor) {
+        if (valor == null) {
+            return BigDecimal.ZERO;
+        }
+        if (valor instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return new BigDecimal(valor.toString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.model.FormatoExportacion;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+import com.proyecto.gastospersonales.domain.service.ExportacionService;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoArchivadoRepository;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoRepositoryInterface;
+
+/**
+ * Implementación de la exportación de movimientos
+ * Cada fila se escribe en la salida en cuanto llega del cursor, así que la memoria usada
+ * no depende del número de movimientos exportados. Los movimientos archivados se leen con un
+ * segundo cursor sobre la misma instantánea (REPEATABLE_READ) y se intercalan en orden
+ */
+@Service
+@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+public class ExportacionServiceImpl implements ExportacionService {
+    
+    private static final LocalDate FECHA_MINIMA = LocalDate.of(1900, 1, 1);
+    private static final LocalDate FECHA_MAXIMA = LocalDate.of(9999, 12, 31);
+    private static final DateTimeFormatter FORMATO_FECHA_CSV = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String ENCABEZADO_CSV = "id,fecha,tipo,descripcion,categoria,monto\n";
+    private static final Comparator<MovimientoResumenDto> ORDEN_EXPORTACION = Comparator
+            .comparing(MovimientoResumenDto::getFecha).thenComparing(MovimientoResumenDto::getId).reversed();
+    
+    @Autowired
+    private MovimientoRepositoryInterface movimientoRepository;
+    
+    @Autowired
+    private MovimientoArchivadoRepository movimientoArchivadoRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Escribe los movimientos filtrados en la salida y devuelve cuántos se exportaron
+     * La salida no se cierra; el llamador decide cuándo cerrarla
+     */
+    @Override
+    public long exportarMovimientos(Long usuarioId, LocalDate desde, LocalDate hasta, TipoMovimiento tipo, 
+                                    Long categoriaId, FormatoExportacion formato, OutputStream salida) throws IOException {
+        LocalDate inicio = desde != null ? desde : FECHA_MINIMA;
+        LocalDate fin = hasta != null ? hasta : FECHA_MAXIMA;
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), 64 * 1024);
+        AtomicLong exportados = new AtomicLong();
+        
+        LocalDateTime fechaInicio = inicio.atStartOfDay();
+        LocalDateTime fechaFin = fin.plusDays(1).atStartOfDay();
+        try (Stream<MovimientoResumenDto> enCaliente = movimientoRepository.streamParaExportar(
+                     usuarioId, fechaInicio, fechaFin, tipo, categoriaId);
+             Stream<MovimientoResumenDto> archivados = movimientoArchivadoRepository.streamParaExportar(
+                     usuarioId, fechaInicio, fechaFin, tipo, categoriaId)) {
+            Stream<MovimientoResumenDto> movimientos = intercalar(enCaliente.iterator(), archivados.iterator());
+            if (formato == FormatoExportacion.CSV) {
+                writer.write(ENCABEZADO_CSV);
+                movimientos.forEach(movimiento -> {
+                    escribirCsv(writer, movimiento);
+                    exportados.incrementAndGet();
+                });
+            } else {
+                // Cada objeto va en su propia línea: el separador raíz del generador es el salto de línea
+                JsonGenerator generador = objectMapper.getFactory().createGenerator(writer)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+                generador.setRootValueSeparator(new SerializedString("\n"));
+                movimientos.forEach(movimiento -> {
+                    escribirJson(generador, movimiento);
+                    exportados.incrementAndGet();
+                });
+                generador.close();
+                if (exportados.get() > 0) {
+                    writer.write('\n');
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        
+        writer.flush();
+        return exportados.get();
+    }
+    
+    /**
+     * Intercala dos cursores ya ordenados por fecha e id descendentes sin materializarlos
+     * Los movimientos archivados suelen quedar todos al final; solo se mezclan si hay filas antiguas en caliente
+     */
+    private static Stream<MovimientoResumenDto> intercalar(Iterator<MovimientoResumenDto> primero,
+                                                           Iterator<MovimientoResumenDto> segundo) {
+        Iterator<MovimientoResumenDto> intercalado = new Iterator<>() {
+            private MovimientoResumenDto siguientePrimero = primero.hasNext() ? primero.next() : null;
+            private MovimientoResumenDto siguienteSegundo = segundo.hasNext() ? segundo.next() : null;
+            
+            @Override
+            public boolean hasNext() {
+                return siguientePrimero != null || siguienteSegundo != null;
+            }
+            
+            @Override
+            public MovimientoResumenDto next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                MovimientoResumenDto actual;
+                if (siguienteSegundo == null
+                        || (siguientePrimero != null && ORDEN_EXPORTACION.compare(siguientePrimero, siguienteSegundo) <= 0)) {
+                    actual = siguientePrimero;
+                    siguientePrimero = primero.hasNext() ? primero.next() : null;
+                } else {
+                    actual = siguienteSegundo;
+                    siguienteSegundo = segundo.hasNext() ? segundo.next() : null;
+                }
+                return actual;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(intercalado, Spliterator.ORDERED), false);
+    }
+    
+    private void escribirCsv(Writer writer, MovimientoResumenDto movimiento) {
+        try {
+            writer.write(String.valueOf(movimiento.getId()));
+            writer.write(',');
+            writer.write(movimiento.getFecha().format(FORMATO_FECHA_CSV));
+            writer.write(',');
+            writer.write(movimiento.getTipo().name());
+            writer.write(',');
+            writer.write(campoCsv(movimiento.getDescripcion()));
+            writer.write(',');
+            writer.write(campoCsv(movimiento.getCategoriaNombre()));
+            writer.write(',');
+            writer.write(movimiento.getMonto().toPlainString());
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void escribirJson(JsonGenerator generador, MovimientoResumenDto movimiento) {
+        try {
+            objectMapper.writeValue(generador, movimiento);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Entrecomilla el campo si contiene separadores, comillas o saltos de línea
+     */
+    private static String campoCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
\ No newline at end of file
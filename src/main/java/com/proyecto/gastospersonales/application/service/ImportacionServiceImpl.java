@@ -0,0 +1,233 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.proyecto.gastospersonales.domain.dto.NuevoMovimientoDto;
+import com.proyecto.gastospersonales.domain.dto.ResultadoLoteDto;
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.EstadoImportacion;
+import com.proyecto.gastospersonales.domain.model.FormatoImportacion;
+import com.proyecto.gastospersonales.domain.model.Importacion;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+import com.proyecto.gastospersonales.domain.service.CategoriaService;
+import com.proyecto.gastospersonales.domain.service.ImportacionService;
+import com.proyecto.gastospersonales.domain.service.MovimientoService;
+import com.proyecto.gastospersonales.infrastructure.importacion.FilaExtracto;
+import com.proyecto.gastospersonales.infrastructure.importacion.LectorExtracto;
+import com.proyecto.gastospersonales.infrastructure.repository.ImportacionRepository;
+
+/**
+ * Implementación del importador de extractos bancarios
+ * El archivo se copia a disco y se lee fila a fila; cada bloque de filas se confirma en su propia
+ * transacción junto con el progreso de la importación, por lo que la memoria usada depende del
+ * tamaño del bloque y no del archivo, y una importación interrumpida puede reanudarse
+ */
+@Service
+public class ImportacionServiceImpl implements ImportacionService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImportacionServiceImpl.class);
+    
+    private static final String CATEGORIA_GASTO_POR_DEFECTO = "Otros";
+    private static final String CATEGORIA_INGRESO_POR_DEFECTO = "Otros Ingresos";
+    
+    @Autowired
+    private ImportacionRepository importacionRepository;
+    
+    @Autowired
+    private MovimientoService movimientoService;
+    
+    @Autowired
+    private CategoriaService categoriaService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.importacion.directorio:${java.io.tmpdir}/gastos-importaciones}")
+    private String directorio;
+    
+    @Value("${app.importacion.tamanio-bloque:1000}")
+    private int tamanioBloque;
+    
+    // Importaciones en proceso en esta instancia, para no procesar dos veces el mismo archivo a la vez
+    private final Set<Long> enProceso = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Guarda el extracto en disco, registra la importación y la procesa por bloques
+     */
+    @Override
+    public Importacion importarExtracto(InputStream contenido, String nombreArchivo, FormatoImportacion formato, 
+                                        Long usuarioId) throws IOException {
+        Path carpeta = Paths.get(directorio);
+        Files.createDirectories(carpeta);
+        Path archivo = carpeta.resolve(UUID.randomUUID() + "." + formato.name().toLowerCase());
+        Files.copy(contenido, archivo, StandardCopyOption.REPLACE_EXISTING);
+        
+        String nombre = nombreArchivo != null && !nombreArchivo.isBlank() ? nombreArchivo : archivo.getFileName().toString();
+        Importacion importacion = importacionRepository.save(
+                new Importacion(usuarioId, nombre, formato, archivo.toString()));
+        return procesar(importacion);
+    }
+    
+    /**
+     * Continúa una importación interrumpida o fallida desde el último bloque confirmado
+     */
+    @Override
+    public Importacion reanudarImportacion(Long id, Long usuarioId) throws IOException {
+        Importacion importacion = importacionRepository.findByIdAndUsuarioId(id, usuarioId)
+                .orElseThrow(() -> new IllegalArgumentException("Importación no encontrada"));
+        
+        if (!importacion.isReanudable()) {
+            throw new IllegalStateException("La importación ya está completada");
+        }
+        return procesar(importacion);
+    }
+    
+    @Override
+    public Optional<Importacion> obtenerImportacion(Long id, Long usuarioId) {
+        return importacionRepository.findByIdAndUsuarioId(id, usuarioId);
+    }
+    
+    @Override
+    public List<Importacion> obtenerImportaciones(Long usuarioId) {
+        return importacionRepository.findByUsuarioIdOrderByFechaCreacionDesc(usuarioId);
+    }
+    
+    /**
+     * Recorre el archivo saltando las filas ya confirmadas y confirma el resto por bloques
+     */
+    private Importacion procesar(Importacion importacion) throws IOException {
+        if (!enProceso.add(importacion.getId())) {
+            throw new IllegalStateException("La importación ya se está procesando");
+        }
+        
+        try {
+            Path archivo = Paths.get(importacion.getRutaArchivo());
+            if (!Files.exists(archivo)) {
+                throw new IllegalStateException("El archivo de la importación ya no está disponible");
+            }
+            
+            if (importacion.getEstado() != EstadoImportacion.EN_CURSO) {
+                importacion = marcar(importacion, EstadoImportacion.EN_CURSO, importacion.getUltimoError());
+            }
+            
+            TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+            Map<String, Optional<Long>> categorias = new HashMap<>();
+            long yaProcesadas = importacion.getFilasProcesadas();
+            
+            try (LectorExtracto lector = LectorExtracto.abrir(importacion.getFormato(), Files.newInputStream(archivo))) {
+                long leidas = 0;
+                List<FilaExtracto> bloque = new ArrayList<>(tamanioBloque);
+                FilaExtracto fila;
+                while ((fila = lector.siguiente()) != null) {
+                    if (leidas++ < yaProcesadas) {
+                        continue;
+                    }
+                    
+                    bloque.add(fila);
+                    if (bloque.size() == tamanioBloque) {
+                        importacion = confirmarBloque(transaccion, importacion, bloque, categorias);
+                        bloque.clear();
+                    }
+                }
+                
+                if (!bloque.isEmpty()) {
+                    importacion = confirmarBloque(transaccion, importacion, bloque, categorias);
+                }
+            } catch (RuntimeException | IOException e) {
+                logger.error("Importación {} interrumpida tras {} filas", importacion.getId(), importacion.getFilasProcesadas(), e);
+                return marcar(importacion, EstadoImportacion.FALLIDA, e.getMessage());
+            }
+            
+            importacion = marcar(importacion, EstadoImportacion.COMPLETADA, importacion.getUltimoError());
+            Files.deleteIfExists(archivo);
+            logger.info("Importación {} completada: {} insertados, {} con error", 
+                    importacion.getId(), importacion.getFilasInsertadas(), importacion.getFilasConError());
+            return importacion;
+        } finally {
+            enProceso.remove(importacion.getId());
+        }
+    }
+    
+    /**
+     * Inserta un bloque de filas y guarda el avance en la misma transacción
+     */
+    private Importacion confirmarBloque(TransactionTemplate transaccion, Importacion importacion, 
+                                        List<FilaExtracto> bloque, Map<String, Optional<Long>> categorias) {
+        return transaccion.execute(estado -> {
+            List<NuevoMovimientoDto> movimientos = new ArrayList<>(bloque.size());
+            long conError = 0;
+            String ultimoError = null;
+            
+            for (FilaExtracto fila : bloque) {
+                Long categoriaId = fila.isValida() ? resolverCategoria(fila, categorias) : null;
+                if (!fila.isValida() || categoriaId == null) {
+                    conError++;
+                    ultimoError = fila.isValida() ? "Categoría no encontrada: " + fila.getCategoria() : fila.getError();
+                    continue;
+                }
+                movimientos.add(new NuevoMovimientoDto(fila.getDescripcion(), fila.getMonto(), 
+                        fila.getTipo().name(), categoriaId, fila.getFecha()));
+            }
+            
+            long insertadas = 0;
+            if (!movimientos.isEmpty()) {
+                ResultadoLoteDto resultado = movimientoService.registrarLote(movimientos, importacion.getUsuarioId());
+                insertadas = resultado.getInsertados();
+                conError += resultado.getErrores().size();
+                if (!resultado.getErrores().isEmpty()) {
+                    ultimoError = resultado.getErrores().get(resultado.getErrores().size() - 1).getMensaje();
+                }
+            }
+            
+            // Se relee después del lote porque registrarLote vacía el contexto de persistencia
+            Importacion actual = importacionRepository.findById(importacion.getId())
+                    .orElseThrow(() -> new IllegalStateException("Importación no encontrada"));
+            actual.avanzar(bloque.size(), insertadas, conError, ultimoError);
+            return importacionRepository.save(actual);
+        });
+    }
+    
+    /**
+     * Resuelve el identificador de categoría por nombre, consultando cada nombre una sola vez por importación
+     * Las filas sin categoría usan la categoría genérica de su tipo
+     */
+    private Long resolverCategoria(FilaExtracto fila, Map<String, Optional<Long>> categorias) {
+        String nombre = fila.getCategoria() != null ? fila.getCategoria()
+                : fila.getTipo() == TipoMovimiento.INGRESO ? CATEGORIA_INGRESO_POR_DEFECTO : CATEGORIA_GASTO_POR_DEFECTO;
+        
+        return categorias.computeIfAbsent(nombre.toLowerCase(), clave -> categoriaService.buscarCategoriaPorNombre(nombre)
+                .map(Categoria::getId))
+                .orElse(null);
+    }
+    
+    /**
+     * Cambia el estado partiendo del progreso confirmado en base de datos
+     */
+    private Importacion marcar(Importacion importacion, EstadoImportacion estado, String error) {
+        Importacion actual = importacionRepository.findById(importacion.getId()).orElse(importacion);
+        actual.setEstado(estado);
+        actual.setUltimoError(error);
+        return importacionRepository.save(actual);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,392 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.proyecto.gastospersonales.domain.model.Movimiento;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoRepositoryInterface;
+
+/**
+ * Índice invertido en memoria de las descripciones de movimientos, uno por usuario, para el autocompletado
+ * Cada término apunta a la lista ordenada de IDs (long primitivos) de los movimientos que lo contienen,
+ * así que una consulta por prefijo es un recorrido de un TreeMap y una intersección de arrays, sin ir a la base.
+ * Solo se mantienen en memoria los índices de los usuarios usados más recientemente (LRU); el de un usuario
+ * desalojado se vuelve a construir en su siguiente consulta
+ */
+@Component
+public class IndiceSugerencias {
+    
+    private static final Logger logger = LoggerFactory.getLogger(IndiceSugerencias.class);
+    private static final int MAXIMO_TERMINOS = 8;
+    
+    @Autowired
+    private MovimientoRepositoryInterface movimientoRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.busqueda.sugerencias.max-usuarios:1000}")
+    private int maxUsuarios;
+    
+    private final LongAdder cargas = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+    
+    // Orden de acceso: el primer elemento es el usuario inactivo desde hace más tiempo
+    private final Map<Long, IndiceUsuario> indices = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, IndiceUsuario> mayor) {
+            if (size() > maxUsuarios) {
+                desalojos.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+    
+    /**
+     * Puebla el índice al arrancar con un único recorrido en streaming de los movimientos,
+     * hasta llenar la capacidad de usuarios
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargar() {
+        long inicio = System.nanoTime();
+        long filas = new TransactionTemplate(transactionManager, soloLectura()).execute(estado -> {
+            long leidas = 0;
+            try (Stream<Object[]> stream = movimientoRepository.streamDescripciones()) {
+                Iterator<Object[]> iterador = stream.iterator();
+                Long usuarioActual = null;
+                IndiceUsuario indice = null;
+                while (iterador.hasNext()) {
+                    Object[] fila = iterador.next();
+                    Long usuarioId = (Long) fila[0];
+                    if (!usuarioId.equals(usuarioActual)) {
+                        if (indice != null) {
+                            indice.terminarCarga();
+                        }
+                        synchronized (indices) {
+                            if (indices.size() >= maxUsuarios) {
+                                indice = null;
+                                break;
+                            }
+                            indice = indices.computeIfAbsent(usuarioId, id -> new IndiceUsuario());
+                        }
+                        usuarioActual = usuarioId;
+                    }
+                    indice.agregarDeCarga((Long) fila[1], (String) fila[2]);
+                    leidas++;
+                }
+                if (indice != null) {
+                    indice.terminarCarga();
+                }
+            }
+            return leidas;
+        });
+        
+        logger.info("Índice de sugerencias precargado: {} usuarios, {} movimientos en {} ms",
+                indices.size(), filas, (System.nanoTime() - inicio) / 1_000_000);
+    }
+    
+    /**
+     * Devuelve hasta 'limite' descripciones distintas del usuario que contienen todos los términos como prefijo,
+     * empezando por las de los movimientos más recientes
+     */
+    public List<String> sugerir(Long usuarioId, String texto, int limite) {
+        List<String> terminos = TerminosBusqueda.extraerSinTildes(texto, MAXIMO_TERMINOS);
+        if (terminos.isEmpty()) {
+            return List.of();
+        }
+        return obtenerIndice(usuarioId).sugerir(terminos, limite);
+    }
+    
+    /**
+     * Añade un movimiento nuevo al índice de su usuario una vez confirmada la transacción
+     */
+    public void registrarAlta(Movimiento movimiento) {
+        registrarAltas(List.of(movimiento));
+    }
+    
+    public void registrarAltas(List<Movimiento> movimientos) {
+        // Se copian los datos ahora: las entidades pueden quedar desligadas antes de la confirmación
+        List<Object[]> altas = new ArrayList<>(movimientos.size());
+        for (Movimiento movimiento : movimientos) {
+            if (movimiento.getUsuarioId() != null && movimiento.getId() != null) {
+                altas.add(new Object[] { movimiento.getUsuarioId(), movimiento.getId(), movimiento.getDescripcion() });
+            }
+        }
+        TrasLaTransaccion.despuesDeConfirmar(() -> {
+            for (Object[] alta : altas) {
+                IndiceUsuario indice = indiceEnMemoria((Long) alta[0]);
+                if (indice != null) {
+                    indice.agregar((Long) alta[1], (String) alta[2]);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Reindexa un movimiento cuya descripción cambió
+     */
+    public void registrarCambio(Movimiento movimiento) {
+        registrarAlta(movimiento);
+    }
+    
+    public void registrarBaja(Movimiento movimiento) {
+        Long usuarioId = movimiento.getUsuarioId();
+        Long id = movimiento.getId();
+        if (usuarioId == null || id == null) {
+            return;
+        }
+        TrasLaTransaccion.despuesDeConfirmar(() -> {
+            IndiceUsuario indice = indiceEnMemoria(usuarioId);
+            if (indice != null) {
+                indice.eliminar(id);
+            }
+        });
+    }
+    
+    /**
+     * Métricas del índice
+     */
+    public Map<String, Object> obtenerEstadisticas() {
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        synchronized (indices) {
+            estadisticas.put("usuariosIndexados", indices.size());
+        }
+        estadisticas.put("maxUsuarios", maxUsuarios);
+        estadisticas.put("cargas", cargas.sum());
+        estadisticas.put("desalojos", desalojos.sum());
+        return estadisticas;
+    }
+    
+    /**
+     * Índice del usuario; si no está en memoria se registra vacío y se puebla desde la base
+     * Las altas y bajas que llegan durante la carga se aplican sobre él, así que no se pierden
+     */
+    private IndiceUsuario obtenerIndice(Long usuarioId) {
+        IndiceUsuario indice;
+        synchronized (indices) {
+            indice = indices.get(usuarioId);
+            if (indice != null) {
+                return indice;
+            }
+            indice = new IndiceUsuario();
+            indices.put(usuarioId, indice);
+        }
+        
+        cargas.increment();
+        IndiceUsuario nuevo = indice;
+        new TransactionTemplate(transactionManager, soloLectura()).executeWithoutResult(estado -> {
+            try (Stream<Object[]> stream = movimientoRepository.streamDescripcionesDeUsuario(usuarioId)) {
+                stream.forEach(fila -> nuevo.agregarDeCarga((Long) fila[0], (String) fila[1]));
+            }
+        });
+        nuevo.terminarCarga();
+        return nuevo;
+    }
+    
+    /**
+     * Índice del usuario solo si ya está en memoria; las escrituras no fuerzan su carga
+     */
+    private IndiceUsuario indiceEnMemoria(Long usuarioId) {
+        synchronized (indices) {
+            return indices.get(usuarioId);
+        }
+    }
+    
+    private static TransactionTemplate soloLectura() {
+        TransactionTemplate plantilla = new TransactionTemplate();
+        plantilla.setReadOnly(true);
+        return plantilla;
+    }
+    
+    /**
+     * Índice invertido de un usuario: término -> IDs ordenados, más la descripción de cada ID
+     */
+    private static final class IndiceUsuario {
+        private final NavigableMap<String, Postings> terminos = new TreeMap<>();
+        private final Map<Long, String> descripciones = new HashMap<>();
+        // IDs eliminados mientras se carga, para que la lectura de la base no los vuelva a añadir
+        private Set<Long> eliminadosDuranteCarga = new HashSet<>();
+        
+        synchronized void agregar(long id, String descripcion) {
+            eliminar(id);
+            descripciones.put(id, descripcion);
+            for (String termino : TerminosBusqueda.extraerSinTildes(descripcion, Integer.MAX_VALUE)) {
+                terminos.computeIfAbsent(termino, t -> new Postings()).agregar(id);
+            }
+        }
+        
+        /**
+         * Alta desde la lectura inicial: no pisa lo que ya se haya escrito durante la carga
+         */
+        synchronized void agregarDeCarga(long id, String descripcion) {
+            if (descripciones.containsKey(id)
+                    || (eliminadosDuranteCarga != null && eliminadosDuranteCarga.contains(id))) {
+                return;
+            }
+            agregar(id, descripcion);
+        }
+        
+        synchronized void terminarCarga() {
+            eliminadosDuranteCarga = null;
+        }
+        
+        synchronized void eliminar(long id) {
+            if (eliminadosDuranteCarga != null) {
+                eliminadosDuranteCarga.add(id);
+            }
+            String descripcion = descripciones.remove(id);
+            if (descripcion == null) {
+                return;
+            }
+            for (String termino : TerminosBusqueda.extraerSinTildes(descripcion, Integer.MAX_VALUE)) {
+                Postings postings = terminos.get(termino);
+                if (postings != null && postings.eliminar(id) && postings.isVacia()) {
+                    terminos.remove(termino);
+                }
+            }
+        }
+        
+        synchronized List<String> sugerir(List<String> prefijos, int limite) {
+            long[] candidatos = null;
+            for (String prefijo : prefijos) {
+                long[] ids = unirPrefijo(prefijo);
+                candidatos = candidatos == null ? ids : intersectar(candidatos, ids);
+                if (candidatos.length == 0) {
+                    return List.of();
+                }
+            }
+            
+            // Los IDs salen de una secuencia creciente: de mayor a menor se recorren primero los más recientes
+            Map<String, String> sugerencias = new LinkedHashMap<>();
+            for (int i = candidatos.length - 1; i >= 0 && sugerencias.size() < limite; i--) {
+                String descripcion = descripciones.get(candidatos[i]);
+                sugerencias.putIfAbsent(descripcion.toLowerCase(), descripcion);
+            }
+            return new ArrayList<>(sugerencias.values());
+        }
+        
+        /**
+         * IDs ordenados y sin repetir de todos los términos que empiezan por el prefijo
+         */
+        private long[] unirPrefijo(String prefijo) {
+            NavigableMap<String, Postings> rango = terminos.subMap(prefijo, true, prefijo + Character.MAX_VALUE, true);
+            if (rango.isEmpty()) {
+                return new long[0];
+            }
+            if (rango.size() == 1) {
+                return rango.firstEntry().getValue().copia();
+            }
+            
+            int total = 0;
+            for (Postings postings : rango.values()) {
+                total += postings.tamanio;
+            }
+            long[] union = new long[total];
+            int posicion = 0;
+            for (Postings postings : rango.values()) {
+                System.arraycopy(postings.ids, 0, union, posicion, postings.tamanio);
+                posicion += postings.tamanio;
+            }
+            Arrays.sort(union);
+            
+            int distintos = 0;
+            for (int i = 0; i < union.length; i++) {
+                if (i == 0 || union[i] != union[i - 1]) {
+                    union[distintos++] = union[i];
+                }
+            }
+            return Arrays.copyOf(union, distintos);
+        }
+        
+        private static long[] intersectar(long[] a, long[] b) {
+            long[] resultado = new long[Math.min(a.length, b.length)];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    resultado[k++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(resultado, k);
+        }
+    }
+    
+    /**
+     * Lista ordenada de IDs sobre un array de long que crece según se necesita
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int tamanio;
+        
+        void agregar(long id) {
+            // Caso habitual: los IDs nuevos son mayores que todos los existentes
+            if (tamanio == 0 || ids[tamanio - 1] < id) {
+                asegurarCapacidad();
+                ids[tamanio++] = id;
+                return;
+            }
+            int posicion = Arrays.binarySearch(ids, 0, tamanio, id);
+            if (posicion >= 0) {
+                return;
+            }
+            int insercion = -posicion - 1;
+            asegurarCapacidad();
+            System.arraycopy(ids, insercion, ids, insercion + 1, tamanio - insercion);
+            ids[insercion] = id;
+            tamanio++;
+        }
+        
+        boolean eliminar(long id) {
+            int posicion = Arrays.binarySearch(ids, 0, tamanio, id);
+            if (posicion < 0) {
+                return false;
+            }
+            System.arraycopy(ids, posicion + 1, ids, posicion, tamanio - posicion - 1);
+            tamanio--;
+            return true;
+        }
+        
+        boolean isVacia() {
+            return tamanio == 0;
+        }
+        
+        long[] copia() {
+            return Arrays.copyOf(ids, tamanio);
+        }
+        
+        private void asegurarCapacidad() {
+            if (tamanio == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
\ No newline at end of file
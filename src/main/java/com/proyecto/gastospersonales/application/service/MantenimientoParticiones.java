@@ -0,0 +1,67 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantiene creadas por adelantado las particiones mensuales de movimiento (ver V7__particion_movimiento.sql)
+ * Se ejecuta al arrancar y luego a diario; los meses que ya existen se omiten.
+ * Si un mes no llegara a crearse, sus movimientos caen en movimiento_default
+ * y se trasladan a su partición cuando esta se crea
+ */
+@Component
+public class MantenimientoParticiones {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MantenimientoParticiones.class);
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.particiones.habilitado:false}")
+    private boolean habilitado;
+    
+    @Value("${app.particiones.meses-adelantados:3}")
+    private int mesesAdelantados;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        crearParticionesFuturas();
+    }
+    
+    /**
+     * Crea las particiones desde el mes actual hasta mesesAdelantados por delante
+     * @return cantidad de particiones nuevas
+     */
+    @Scheduled(cron = "${app.particiones.cron:0 0 3 * * *}")
+    public int crearParticionesFuturas() {
+        if (!habilitado) {
+            return 0;
+        }
+        LocalDate desde = LocalDate.now().withDayOfMonth(1);
+        LocalDate hasta = desde.plusMonths(mesesAdelantados);
+        try {
+            Integer creadas = jdbcTemplate.queryForObject(
+                    "SELECT crear_particiones_movimiento(?, ?)", Integer.class,
+                    Date.valueOf(desde), Date.valueOf(hasta));
+            int total = creadas != null ? creadas : 0;
+            if (total > 0) {
+                logger.info("Particiones de movimiento creadas: {} (hasta {})", total, hasta);
+            }
+            return total;
+        } catch (RuntimeException e) {
+            // Sin particiones futuras los movimientos siguen guardándose en movimiento_default
+            logger.error("No se pudieron crear las particiones de movimiento hasta {}", hasta, e);
+            return 0;
+        }
+    }
+}
\ No newline at end of file
@@ -2,26 +2,47 @@ package com.proyecto.gastospersonales.application.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.proyecto.gastospersonales.domain.dto.FiltroMovimientosDto;
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.dto.NuevoMovimientoDto;
+import com.proyecto.gastospersonales.domain.dto.PaginaCursorDto;
+import com.proyecto.gastospersonales.domain.dto.ResultadoLoteDto;
 import com.proyecto.gastospersonales.domain.model.Categoria;
 import com.proyecto.gastospersonales.domain.model.Movimiento;
+import com.proyecto.gastospersonales.domain.model.MovimientoArchivado;
 import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
 import com.proyecto.gastospersonales.domain.service.CategoriaService;
 import com.proyecto.gastospersonales.domain.service.MovimientoService;
+import com.proyecto.gastospersonales.domain.service.SaldoService;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoArchivadoRepository;
 import com.proyecto.gastospersonales.infrastructure.repository.MovimientoRepositoryInterface;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 /**
  * Implementación de la lógica de negocio para los movimientos financieros
  * Actúa como la capa de aplicación en Clean Architecture
@@ -30,12 +51,34 @@ import com.proyecto.gastospersonales.infrastructure.repository.MovimientoReposit
 @Transactional
 public class MovimientoServiceImpl implements MovimientoService {
     
+    private static final int TAMANIO_PAGINA_POR_DEFECTO = 50;
+    private static final int TAMANIO_PAGINA_MAXIMO = 200;
+    private static final int LIMITE_RECIENTES_MAXIMO = 100;
+    private static final int FILAS_LOTE_MAXIMO = 10_000;
+    // Debe coincidir con hibernate.jdbc.batch_size para vaciar el contexto al ritmo de los lotes JDBC
+    private static final int TAMANIO_LOTE_JDBC = 50;
+    
     @Autowired
     private MovimientoRepositoryInterface movimientoRepository;
     
+    @Autowired
+    private MovimientoArchivadoRepository movimientoArchivadoRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     @Autowired
     private CategoriaService categoriaService;
     
+    @Autowired
+    private SaldoService saldoService;
+    
+    @Autowired
+    private IndiceSugerencias indiceSugerencias;
+    
+    @Autowired
+    private VersionesDatos versionesDatos;
+    
     /**
      * Registra un nuevo gasto
      */
@@ -108,7 +151,101 @@ public class MovimientoServiceImpl implements MovimientoService {
             );
         }
         
-        return movimientoRepository.save(movimiento);
+        Movimiento guardado = movimientoRepository.save(movimiento);
+        saldoService.registrarAlta(guardado);
+        indiceSugerencias.registrarAlta(guardado);
+        versionesDatos.registrarCambioMovimientos(guardado.getUsuarioId());
+        return guardado;
+    }
+    
+    /**
+     * Registra un lote de movimientos de un usuario
+     * Las categorías se resuelven una sola vez para todo el lote y los INSERT se envían en lotes JDBC;
+     * las filas inválidas se informan en el resultado y no impiden el alta de las demás
+     */
+    @Override
+    public ResultadoLoteDto registrarLote(List<NuevoMovimientoDto> filas, Long usuarioId) {
+        if (filas == null || filas.isEmpty()) {
+            throw new IllegalArgumentException("El lote no contiene movimientos");
+        }
+        
+        if (filas.size() > FILAS_LOTE_MAXIMO) {
+            throw new IllegalArgumentException("El lote no puede superar " + FILAS_LOTE_MAXIMO + " movimientos");
+        }
+        
+        Map<Long, Categoria> categorias = categoriaService.obtenerTodasLasCategorias().stream()
+                .collect(Collectors.toMap(Categoria::getId, Function.identity()));
+        LocalDateTime ahora = LocalDateTime.now();
+        
+        List<ResultadoLoteDto.ErrorFila> errores = new ArrayList<>();
+        List<Movimiento> validos = new ArrayList<>(filas.size());
+        for (int i = 0; i < filas.size(); i++) {
+            try {
+                validos.add(crearMovimientoDeLote(filas.get(i), categorias, usuarioId, ahora));
+            } catch (IllegalArgumentException e) {
+                errores.add(new ResultadoLoteDto.ErrorFila(i, e.getMessage()));
+            }
+        }
+        
+        for (int i = 0; i < validos.size(); i++) {
+            entityManager.persist(validos.get(i));
+            if ((i + 1) % TAMANIO_LOTE_JDBC == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        saldoService.registrarAltas(validos);
+        indiceSugerencias.registrarAltas(validos);
+        versionesDatos.registrarCambioMovimientos(usuarioId);
+        return new ResultadoLoteDto(filas.size(), validos.size(), errores);
+    }
+    
+    /**
+     * Valida una fila del lote y construye el movimiento correspondiente
+     */
+    private Movimiento crearMovimientoDeLote(NuevoMovimientoDto fila, Map<Long, Categoria> categorias, 
+                                             Long usuarioId, LocalDateTime ahora) {
+        if (fila == null) {
+            throw new IllegalArgumentException("Fila vacía");
+        }
+        
+        String descripcion = fila.getDescripcion() != null ? fila.getDescripcion().trim() : "";
+        if (descripcion.length() < 3 || descripcion.length() > 200) {
+            throw new IllegalArgumentException("La descripción debe tener entre 3 y 200 caracteres");
+        }
+        
+        if (fila.getMonto() == null || fila.getMonto().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("El monto debe ser mayor a 0");
+        }
+        
+        BigDecimal monto = fila.getMonto().setScale(2, RoundingMode.HALF_UP);
+        if (monto.precision() - monto.scale() > 10) {
+            throw new IllegalArgumentException("El monto debe tener máximo 10 dígitos enteros");
+        }
+        
+        TipoMovimiento tipo;
+        try {
+            tipo = TipoMovimiento.valueOf(String.valueOf(fila.getTipo()).trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de movimiento no válido: " + fila.getTipo());
+        }
+        
+        Categoria categoria = fila.getCategoriaId() != null ? categorias.get(fila.getCategoriaId()) : null;
+        if (categoria == null) {
+            throw new IllegalArgumentException("Categoría no encontrada");
+        }
+        
+        LocalDateTime fecha = fila.getFecha() != null ? fila.getFecha() : ahora;
+        if (fecha.isAfter(ahora)) {
+            throw new IllegalArgumentException("La fecha no puede ser futura");
+        }
+        
+        Movimiento movimiento = new Movimiento(descripcion, monto, tipo, categoria, fecha);
+        movimiento.setUsuarioId(usuarioId);
+        return movimiento;
     }
     
     /**
@@ -120,6 +257,133 @@ public class MovimientoServiceImpl implements MovimientoService {
         return movimientoRepository.findAllByOrderByFechaDesc();
     }
     
+    /**
+     * Lista todos los movimientos como proyección con el nombre de la categoría
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MovimientoResumenDto> listarMovimientos() {
+        return movimientoRepository.findResumenes();
+    }
+    
+    /**
+     * Lista los movimientos de un tipo como proyección
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MovimientoResumenDto> listarMovimientosPorTipo(TipoMovimiento tipo) {
+        return movimientoRepository.findResumenesByTipo(tipo);
+    }
+    
+    /**
+     * Lista los movimientos del usuario como proyección
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MovimientoResumenDto> listarMovimientos(Long usuarioId) {
+        return movimientoRepository.findRecientesByUsuarioId(usuarioId, Pageable.unpaged());
+    }
+    
+    /**
+     * Lista los movimientos de un tipo del usuario como proyección
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MovimientoResumenDto> listarMovimientosPorTipo(Long usuarioId, TipoMovimiento tipo) {
+        return movimientoRepository.findResumenesByUsuarioIdAndTipo(usuarioId, tipo);
+    }
+    
+    /**
+     * Busca movimientos por descripción y los devuelve como proyección
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MovimientoResumenDto> buscarMovimientosResumen(String texto) {
+        if (texto == null || texto.trim().isEmpty()) {
+            return listarMovimientos();
+        }
+        return movimientoRepository.findResumenesByDescripcion(texto.trim());
+    }
+    
+    /**
+     * Obtiene una página de movimientos usando paginación por cursor sobre (fecha, id)
+     * Se pide un registro extra para saber si existe una página siguiente
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorDto<MovimientoResumenDto> obtenerMovimientosPaginados(String cursor, int tamanio) {
+        return paginarPorCursor(null, cursor, tamanio);
+    }
+    
+    /**
+     * Igual que obtenerMovimientosPaginados, recorriendo solo los movimientos del usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorDto<MovimientoResumenDto> obtenerMovimientosPaginados(Long usuarioId, String cursor, int tamanio) {
+        return paginarPorCursor(usuarioId, cursor, tamanio);
+    }
+    
+    /**
+     * Paginación por cursor común; sin usuario recorre todos los movimientos
+     */
+    private PaginaCursorDto<MovimientoResumenDto> paginarPorCursor(Long usuarioId, String cursor, int tamanio) {
+        int tamanioEfectivo = tamanio <= 0 ? TAMANIO_PAGINA_POR_DEFECTO : Math.min(tamanio, TAMANIO_PAGINA_MAXIMO);
+        PageRequest limite = PageRequest.of(0, tamanioEfectivo + 1);
+        
+        List<MovimientoResumenDto> movimientos;
+        if (cursor == null || cursor.isBlank()) {
+            movimientos = usuarioId != null
+                    ? movimientoRepository.findRecientesByUsuarioId(usuarioId, limite)
+                    : movimientoRepository.findPrimeraPagina(limite);
+        } else {
+            Movimiento ultimo = decodificarCursor(cursor);
+            movimientos = usuarioId != null
+                    ? movimientoRepository.findPaginaDeUsuarioDespuesDe(usuarioId, ultimo.getFecha(), ultimo.getId(), limite)
+                    : movimientoRepository.findPaginaDespuesDe(ultimo.getFecha(), ultimo.getId(), limite);
+        }
+        
+        String siguienteCursor = null;
+        if (movimientos.size() > tamanioEfectivo) {
+            movimientos = movimientos.subList(0, tamanioEfectivo);
+            siguienteCursor = codificarCursor(movimientos.get(tamanioEfectivo - 1));
+        }
+        
+        return new PaginaCursorDto<>(movimientos, siguienteCursor, tamanioEfectivo);
+    }
+    
+    /**
+     * Filtra movimientos por cualquier combinación de criterios, paginando por cursor sobre (fecha, id)
+     * Todos los predicados se aplican en la base; solo viaja la página pedida
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorDto<MovimientoResumenDto> filtrarMovimientos(FiltroMovimientosDto filtro, String cursor, int tamanio) {
+        if (filtro.getDesde() != null && filtro.getHasta() != null && filtro.getDesde().isAfter(filtro.getHasta())) {
+            throw new IllegalArgumentException("La fecha inicial no puede ser posterior a la final");
+        }
+        if (filtro.getMontoMinimo() != null && filtro.getMontoMaximo() != null 
+                && filtro.getMontoMinimo().compareTo(filtro.getMontoMaximo()) > 0) {
+            throw new IllegalArgumentException("El monto mínimo no puede ser mayor que el máximo");
+        }
+        
+        int tamanioEfectivo = tamanio <= 0 ? TAMANIO_PAGINA_POR_DEFECTO : Math.min(tamanio, TAMANIO_PAGINA_MAXIMO);
+        Movimiento ultimo = cursor == null || cursor.isBlank() ? null : decodificarCursor(cursor);
+        
+        List<MovimientoResumenDto> movimientos = movimientoRepository.filtrar(filtro,
+                ultimo != null ? ultimo.getFecha() : null,
+                ultimo != null ? ultimo.getId() : null,
+                tamanioEfectivo + 1);
+        
+        String siguienteCursor = null;
+        if (movimientos.size() > tamanioEfectivo) {
+            movimientos = movimientos.subList(0, tamanioEfectivo);
+            siguienteCursor = codificarCursor(movimientos.get(tamanioEfectivo - 1));
+        }
+        
+        return new PaginaCursorDto<>(movimientos, siguienteCursor, tamanioEfectivo);
+    }
+    
     /**
      * Obtiene un movimiento por ID
      */
@@ -140,12 +404,22 @@ public class MovimientoServiceImpl implements MovimientoService {
     
     /**
      * Obtiene los últimos movimientos de un usuario
+     * El límite se aplica en la consulta, por lo que el coste no depende del historial del usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MovimientoResumenDto> obtenerUltimosMovimientos(Long usuarioId, int limite) {
+        int limiteEfectivo = Math.max(1, Math.min(limite, LIMITE_RECIENTES_MAXIMO));
+        return movimientoRepository.findRecientesByUsuarioId(usuarioId, PageRequest.of(0, limiteEfectivo));
+    }
+    
+    /**
+     * Obtiene un movimiento del usuario por ID
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Movimiento> obtenerUltimosMovimientos(Long usuarioId, int limite) {
-        List<Movimiento> movimientos = movimientoRepository.findByUsuarioIdOrderByFechaDesc(usuarioId);
-        return movimientos.size() > limite ? movimientos.subList(0, limite) : movimientos;
+    public Optional<Movimiento> obtenerMovimientoPorId(Long id, Long usuarioId) {
+        return movimientoRepository.findByIdAndUsuarioId(id, usuarioId);
     }
     
     /**
@@ -207,6 +481,33 @@ public class MovimientoServiceImpl implements MovimientoService {
         return movimientoRepository.sumMontoByTipo(TipoMovimiento.GASTO);
     }
     
+    /**
+     * Total de ingresos del usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal calcularTotalIngresos(Long usuarioId) {
+        return movimientoRepository.sumMontoByUsuarioIdAndTipo(usuarioId, TipoMovimiento.INGRESO);
+    }
+    
+    /**
+     * Total de gastos del usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal calcularTotalGastos(Long usuarioId) {
+        return movimientoRepository.sumMontoByUsuarioIdAndTipo(usuarioId, TipoMovimiento.GASTO);
+    }
+    
+    /**
+     * Balance del usuario (ingresos - gastos)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal calcularBalanceTotal(Long usuarioId) {
+        return calcularTotalIngresos(usuarioId).subtract(calcularTotalGastos(usuarioId));
+    }
+    
     /**
      * Genera el reporte de gastos por categoría del mes actual
      */
@@ -216,9 +517,24 @@ public class MovimientoServiceImpl implements MovimientoService {
         LocalDateTime inicioMes = LocalDate.now().withDayOfMonth(1).atStartOfDay();
         LocalDateTime finMes = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth()).atTime(LocalTime.MAX);
         
-        List<Object[]> resultados = movimientoRepository.sumMontoByTipoAndFechaGroupByCategoria(
-                TipoMovimiento.GASTO, inicioMes, finMes);
+        return agruparPorNombreDeCategoria(movimientoRepository.sumMontoByTipoAndFechaGroupByCategoria(
+                TipoMovimiento.GASTO, inicioMes, finMes));
+    }
+    
+    /**
+     * Genera el reporte de gastos por categoría del mes actual de un usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, BigDecimal> obtenerGastosPorCategoriaDelMes(Long usuarioId) {
+        LocalDateTime inicioMes = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime finMes = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth()).atTime(LocalTime.MAX);
         
+        return agruparPorNombreDeCategoria(movimientoRepository.sumMontoByUsuarioIdAndTipoAndFechaGroupByCategoria(
+                usuarioId, TipoMovimiento.GASTO, inicioMes, finMes));
+    }
+    
+    private Map<String, BigDecimal> agruparPorNombreDeCategoria(List<Object[]> resultados) {
         Map<String, BigDecimal> gastosPorCategoria = new LinkedHashMap<>();
         for (Object[] resultado : resultados) {
             Categoria categoria = (Categoria) resultado[0];
@@ -242,6 +558,26 @@ public class MovimientoServiceImpl implements MovimientoService {
                 TipoMovimiento.INGRESO, inicioMes, finMes);
         BigDecimal gastosMes = movimientoRepository.sumMontoByTipoAndFechaBetween(
                 TipoMovimiento.GASTO, inicioMes, finMes);
+        return armarResumen(ingresosMes, gastosMes);
+    }
+    
+    /**
+     * Obtiene el resumen del mes actual de un usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, BigDecimal> obtenerResumenMensual(Long usuarioId) {
+        LocalDateTime inicioMes = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime finMes = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth()).atTime(LocalTime.MAX);
+        
+        BigDecimal ingresosMes = movimientoRepository.sumMontoByUsuarioIdAndTipoAndFechaBetween(
+                usuarioId, TipoMovimiento.INGRESO, inicioMes, finMes);
+        BigDecimal gastosMes = movimientoRepository.sumMontoByUsuarioIdAndTipoAndFechaBetween(
+                usuarioId, TipoMovimiento.GASTO, inicioMes, finMes);
+        return armarResumen(ingresosMes, gastosMes);
+    }
+    
+    private Map<String, BigDecimal> armarResumen(BigDecimal ingresosMes, BigDecimal gastosMes) {
         BigDecimal balance = ingresosMes.subtract(gastosMes);
         
         Map<String, BigDecimal> resumen = new LinkedHashMap<>();
@@ -259,13 +595,30 @@ public class MovimientoServiceImpl implements MovimientoService {
     public Movimiento actualizarMovimiento(Long id, String nuevaDescripcion, BigDecimal nuevoMonto, Long nuevaCategoriaId) {
         Movimiento movimiento = movimientoRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Movimiento no encontrado"));
-        
+        return aplicarCambios(movimiento, nuevaDescripcion, nuevoMonto, nuevaCategoriaId);
+    }
+    
+    /**
+     * Actualiza un movimiento del usuario; los de otros usuarios se tratan como inexistentes
+     */
+    @Override
+    public Movimiento actualizarMovimiento(Long id, Long usuarioId, String nuevaDescripcion, BigDecimal nuevoMonto, Long nuevaCategoriaId) {
+        Movimiento movimiento = movimientoRepository.findByIdAndUsuarioId(id, usuarioId)
+                .orElseThrow(() -> new IllegalArgumentException("Movimiento no encontrado"));
+        return aplicarCambios(movimiento, nuevaDescripcion, nuevoMonto, nuevaCategoriaId);
+    }
+    
+    private Movimiento aplicarCambios(Movimiento movimiento, String nuevaDescripcion, BigDecimal nuevoMonto, Long nuevaCategoriaId) {
         if (nuevaDescripcion != null && !nuevaDescripcion.trim().isEmpty()) {
             movimiento.setDescripcion(nuevaDescripcion.trim());
+            indiceSugerencias.registrarCambio(movimiento);
         }
         
         if (nuevoMonto != null && nuevoMonto.compareTo(BigDecimal.ZERO) > 0) {
+            BigDecimal montoAnterior = movimiento.getMonto();
             movimiento.setMonto(nuevoMonto.setScale(2, RoundingMode.HALF_UP));
+            saldoService.aplicarDelta(movimiento.getUsuarioId(), movimiento.getFecha(), movimiento.getTipo(),
+                    movimiento.getMonto().subtract(montoAnterior), 0);
         }
         
         if (nuevaCategoriaId != null) {
@@ -274,6 +627,7 @@ public class MovimientoServiceImpl implements MovimientoService {
             movimiento.setCategoria(nuevaCategoria);
         }
         
+        versionesDatos.registrarCambioMovimientos(movimiento.getUsuarioId());
         return movimientoRepository.save(movimiento);
     }
     
@@ -282,10 +636,26 @@ public class MovimientoServiceImpl implements MovimientoService {
      */
     @Override
     public void eliminarMovimiento(Long id) {
-        if (!movimientoRepository.existsById(id)) {
-            throw new IllegalArgumentException("Movimiento no encontrado");
-        }
-        movimientoRepository.deleteById(id);
+        Movimiento movimiento = movimientoRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Movimiento no encontrado"));
+        eliminar(movimiento);
+    }
+    
+    /**
+     * Elimina un movimiento del usuario; los de otros usuarios se tratan como inexistentes
+     */
+    @Override
+    public void eliminarMovimiento(Long id, Long usuarioId) {
+        Movimiento movimiento = movimientoRepository.findByIdAndUsuarioId(id, usuarioId)
+                .orElseThrow(() -> new IllegalArgumentException("Movimiento no encontrado"));
+        eliminar(movimiento);
+    }
+    
+    private void eliminar(Movimiento movimiento) {
+        saldoService.registrarBaja(movimiento);
+        indiceSugerencias.registrarBaja(movimiento);
+        versionesDatos.registrarCambioMovimientos(movimiento.getUsuarioId());
+        movimientoRepository.delete(movimiento);
     }
     
     /**
@@ -298,13 +668,81 @@ public class MovimientoServiceImpl implements MovimientoService {
     }
     
     /**
-     * Obtiene movimientos por período
+     * Obtiene movimientos por período, incluidos los archivados
+     * REPEATABLE_READ: ambas consultas ven la misma instantánea aunque el archivado corra en medio
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public List<Movimiento> obtenerMovimientosPorPeriodo(LocalDate inicio, LocalDate fin) {
         LocalDateTime fechaInicio = inicio.atStartOfDay();
         LocalDateTime fechaFin = fin.atTime(LocalTime.MAX);
-        return movimientoRepository.findByFechaBetweenOrderByFechaDesc(fechaInicio, fechaFin);
+        return unirConArchivados(movimientoRepository.findByFechaBetweenOrderByFechaDesc(fechaInicio, fechaFin),
+                movimientoArchivadoRepository.findByFechaBetweenOrderByFechaDesc(fechaInicio, fechaFin));
+    }
+    
+    /**
+     * Obtiene los movimientos del usuario en el mes actual
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Movimiento> obtenerMovimientosDelMes(Long usuarioId) {
+        LocalDate inicioMes = LocalDate.now().withDayOfMonth(1);
+        return obtenerMovimientosPorPeriodo(usuarioId, inicioMes, inicioMes.plusMonths(1).minusDays(1));
+    }
+    
+    /**
+     * Obtiene los movimientos del usuario entre dos fechas, ambas inclusive, incluidos los archivados
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public List<Movimiento> obtenerMovimientosPorPeriodo(Long usuarioId, LocalDate inicio, LocalDate fin) {
+        LocalDateTime fechaInicio = inicio.atStartOfDay();
+        LocalDateTime fechaFin = fin.plusDays(1).atStartOfDay();
+        return unirConArchivados(
+                movimientoRepository.findByUsuarioIdAndFechaGreaterThanEqualAndFechaLessThanOrderByFechaDesc(
+                        usuarioId, fechaInicio, fechaFin),
+                movimientoArchivadoRepository.findByUsuarioIdAndFechaGreaterThanEqualAndFechaLessThanOrderByFechaDesc(
+                        usuarioId, fechaInicio, fechaFin));
+    }
+    
+    /**
+     * Agrega los movimientos archivados a los de la tabla en caliente, en orden por fecha e id descendentes
+     * Para rangos recientes el archivo no devuelve filas y la lista en caliente se usa tal cual
+     */
+    private List<Movimiento> unirConArchivados(List<Movimiento> movimientos, List<MovimientoArchivado> archivados) {
+        if (archivados.isEmpty()) {
+            return movimientos;
+        }
+        List<Movimiento> todos = new ArrayList<>(movimientos.size() + archivados.size());
+        todos.addAll(movimientos);
+        for (MovimientoArchivado archivado : archivados) {
+            todos.add(archivado.aMovimiento());
+        }
+        todos.sort(Comparator.comparing(Movimiento::getFecha).thenComparing(Movimiento::getId).reversed());
+        return todos;
+    }
+    
+    /**
+     * Codifica la posición (fecha, id) de un movimiento como cursor opaco
+     */
+    private String codificarCursor(MovimientoResumenDto movimiento) {
+        String posicion = movimiento.getFecha() + "|" + movimiento.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(posicion.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodifica un cursor generado por codificarCursor
+     */
+    private Movimiento decodificarCursor(String cursor) {
+        try {
+            String posicion = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = posicion.lastIndexOf('|');
+            Movimiento ultimo = new Movimiento();
+            ultimo.setFecha(LocalDateTime.parse(posicion.substring(0, separador)));
+            ultimo.setId(Long.parseLong(posicion.substring(separador + 1)));
+            return ultimo;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.proyecto.gastospersonales.domain.dto.DashboardDto;
+import com.proyecto.gastospersonales.domain.dto.MonthlySummaryDto;
+import com.proyecto.gastospersonales.domain.model.Movimiento;
+import com.proyecto.gastospersonales.domain.model.SaldoMensual;
+import com.proyecto.gastospersonales.domain.model.SaldoUsuario;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+import com.proyecto.gastospersonales.domain.service.SaldoService;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoRepositoryInterface;
+import com.proyecto.gastospersonales.infrastructure.repository.SaldoMensualRepository;
+import com.proyecto.gastospersonales.infrastructure.repository.SaldoUsuarioRepository;
+
+/**
+ * Implementación del servicio de saldos materializados
+ * Los deltas se aplican dentro de la transacción del movimiento que los origina,
+ * de modo que los totales nunca divergen de la tabla de movimientos
+ */
+@Service
+@Transactional
+public class SaldoServiceImpl implements SaldoService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SaldoServiceImpl.class);
+    
+    @Autowired
+    private SaldoUsuarioRepository saldoUsuarioRepository;
+    
+    @Autowired
+    private SaldoMensualRepository saldoMensualRepository;
+    
+    @Autowired
+    private MovimientoRepositoryInterface movimientoRepository;
+    
+    // INSERT ... ON CONFLICT de PostgreSQL; con false, MERGE del estándar SQL (H2 en el perfil de pruebas)
+    @Value("${app.saldos.upsert-nativo:true}")
+    private boolean upsertNativo;
+    
+    /**
+     * Suma un movimiento recién registrado a los totales
+     */
+    @Override
+    public void registrarAlta(Movimiento movimiento) {
+        aplicarDelta(movimiento.getUsuarioId(), movimiento.getFecha(), movimiento.getTipo(), movimiento.getMonto(), 1);
+    }
+    
+    /**
+     * Suma un lote de movimientos recién registrados a los totales
+     * Los montos se agrupan por usuario, mes y tipo para aplicar un único delta por grupo
+     */
+    @Override
+    public void registrarAltas(List<Movimiento> movimientos) {
+        // Cada grupo conserva su primer movimiento como referencia de usuario, mes y tipo
+        Map<String, Movimiento> referencias = new LinkedHashMap<>();
+        Map<String, BigDecimal> montos = new HashMap<>();
+        Map<String, Long> cantidades = new HashMap<>();
+        for (Movimiento movimiento : movimientos) {
+            if (movimiento.getUsuarioId() == null) {
+                continue;
+            }
+            
+            LocalDateTime fecha = movimiento.getFecha();
+            String clave = movimiento.getUsuarioId() + "-" + fecha.getYear() + "-" + fecha.getMonthValue() + "-" + movimiento.getTipo();
+            referencias.putIfAbsent(clave, movimiento);
+            montos.merge(clave, movimiento.getMonto(), BigDecimal::add);
+            cantidades.merge(clave, 1L, Long::sum);
+        }
+        
+        referencias.forEach((clave, referencia) -> aplicarDelta(referencia.getUsuarioId(), referencia.getFecha(), 
+                referencia.getTipo(), montos.get(clave), cantidades.get(clave)));
+    }
+    
+    /**
+     * Resta un movimiento eliminado de los totales
+     */
+    @Override
+    public void registrarBaja(Movimiento movimiento) {
+        aplicarDelta(movimiento.getUsuarioId(), movimiento.getFecha(), movimiento.getTipo(), movimiento.getMonto().negate(), -1);
+    }
+    
+    /**
+     * Aplica un delta de monto y cantidad al total del usuario y al del mes correspondiente
+     * Cada total se actualiza con un único upsert, que también crea la fila la primera vez;
+     * el del usuario va siempre primero, así que sus escrituras concurrentes se ordenan en esa fila.
+     * Los movimientos sin usuario (modo consola) no se materializan
+     */
+    @Override
+    public void aplicarDelta(Long usuarioId, LocalDateTime fecha, TipoMovimiento tipo, BigDecimal monto, long cantidad) {
+        if (usuarioId == null) {
+            return;
+        }
+        
+        BigDecimal ingresos = tipo == TipoMovimiento.INGRESO ? monto : BigDecimal.ZERO;
+        BigDecimal gastos = tipo == TipoMovimiento.INGRESO ? BigDecimal.ZERO : monto;
+        acumularUsuario(usuarioId, ingresos, gastos, cantidad);
+        if (upsertNativo) {
+            saldoMensualRepository.acumular(usuarioId, fecha.getYear(), fecha.getMonthValue(), ingresos, gastos, cantidad);
+        } else {
+            saldoMensualRepository.acumularConMerge(usuarioId, fecha.getYear(), fecha.getMonthValue(), ingresos, gastos, cantidad);
+        }
+    }
+    
+    /**
+     * Obtiene los totales del usuario y los del mes actual con dos búsquedas por clave
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardDto obtenerResumenUsuario(Long usuarioId) {
+        LocalDate hoy = LocalDate.now();
+        SaldoUsuario saldo = saldoUsuarioRepository.findById(usuarioId)
+                .orElseGet(() -> new SaldoUsuario(usuarioId));
+        MonthlySummaryDto mesActual = obtenerSaldoMensual(usuarioId, hoy.getYear(), hoy.getMonthValue());
+        
+        return new DashboardDto(
+                saldo.getTotalIngresos(),
+                saldo.getTotalGastos(),
+                saldo.getCantidadMovimientos().intValue(),
+                mesActual.getIngresos(),
+                mesActual.getGastos());
+    }
+    
+    /**
+     * Obtiene los totales de un mes concreto del usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MonthlySummaryDto obtenerSaldoMensual(Long usuarioId, int anio, int mes) {
+        return saldoMensualRepository.findByUsuarioIdAndAnioAndMes(usuarioId, anio, mes)
+                .map(s -> new MonthlySummaryDto(anio, mes, s.getTotalIngresos(), s.getTotalGastos()))
+                .orElseGet(() -> new MonthlySummaryDto(anio, mes, BigDecimal.ZERO, BigDecimal.ZERO));
+    }
+    
+    /**
+     * Recalcula desde cero los saldos de un usuario a partir de sus movimientos, en caliente y archivados
+     * Primero bloquea el total del usuario (upsert de un delta nulo): sus escrituras concurrentes esperan
+     * a que termine y aplican su delta sobre el resultado, y las ya confirmadas entran en la lectura.
+     * Debe ejecutarse con READ COMMITTED para que esa lectura vea lo confirmado mientras esperaba el bloqueo
+     */
+    @Override
+    public void reconstruirSaldos(Long usuarioId) {
+        acumularUsuario(usuarioId, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+        saldoMensualRepository.deleteByUsuarioId(usuarioId);
+        
+        SaldoUsuario saldo = saldoUsuarioRepository.findById(usuarioId)
+                .orElseThrow(() -> new IllegalStateException("Saldo no encontrado tras bloquearlo"));
+        saldo.setTotalIngresos(BigDecimal.ZERO);
+        saldo.setTotalGastos(BigDecimal.ZERO);
+        saldo.setCantidadMovimientos(0L);
+        
+        Map<String, SaldoMensual> saldosMensuales = new HashMap<>();
+        for (Object[] fila : movimientoRepository.sumMontoDeUsuarioGroupByMesYTipo(usuarioId)) {
+            int anio = ((Number) fila[0]).intValue();
+            int mes = ((Number) fila[1]).intValue();
+            TipoMovimiento tipo = TipoMovimiento.valueOf((String) fila[2]);
+            BigDecimal total = (BigDecimal) fila[3];
+            long cantidad = ((Number) fila[4]).longValue();
+            
+            saldo.aplicar(tipo, total, cantidad);
+            saldosMensuales.computeIfAbsent(anio + "-" + mes, clave -> new SaldoMensual(usuarioId, anio, mes))
+                    .aplicar(tipo, total, cantidad);
+        }
+        saldoMensualRepository.saveAll(saldosMensuales.values());
+        
+        logger.info("Saldos del usuario {} reconstruidos: {} meses", usuarioId, saldosMensuales.size());
+    }
+    
+    private void acumularUsuario(Long usuarioId, BigDecimal ingresos, BigDecimal gastos, long cantidad) {
+        if (upsertNativo) {
+            saldoUsuarioRepository.acumular(usuarioId, ingresos, gastos, cantidad);
+        } else {
+            saldoUsuarioRepository.acumularConMerge(usuarioId, ingresos, gastos, cantidad);
+        }
+    }
+}
\ No newline at end of file
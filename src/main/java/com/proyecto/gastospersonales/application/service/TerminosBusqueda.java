@@ -0,0 +1,49 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Utilidades para partir descripciones y consultas en términos de búsqueda
+ * Compartidas por la búsqueda de texto completo y el índice de sugerencias
+ */
+final class TerminosBusqueda {
+    
+    private static final Pattern SEPARADOR_TERMINOS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    
+    private TerminosBusqueda() {
+    }
+    
+    /**
+     * Separa el texto en términos distintos en minúsculas, sin signos de puntuación
+     */
+    static List<String> extraer(String texto, int maximo) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARADOR_TERMINOS.split(texto.toLowerCase(Locale.ROOT)))
+                .filter(termino -> !termino.isEmpty())
+                .distinct()
+                .limit(maximo)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Igual que extraer, pero además sin tildes ("Alimentación" -> "alimentacion")
+     */
+    static List<String> extraerSinTildes(String texto, int maximo) {
+        return extraer(quitarTildes(texto), maximo);
+    }
+    
+    static String quitarTildes(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        return MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.proyecto.gastospersonales.application.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Acciones sobre el estado en memoria que deben esperar al final de la transacción en curso
+ * Compartidas por las versiones de ETag, el índice de sugerencias y la caché de categorías
+ */
+final class TrasLaTransaccion {
+    
+    private TrasLaTransaccion() {
+    }
+    
+    /**
+     * Ejecuta la acción cuando se confirme la transacción actual, o en el acto si no hay ninguna
+     * Si la transacción se revierte la acción no se ejecuta
+     */
+    static void despuesDeConfirmar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+    
+    /**
+     * Ejecuta la acción al terminar la transacción actual, tanto si se confirma como si se revierte
+     * Sin transacción no hace nada: quien la llama ya aplicó su efecto inmediato
+     */
+    static void alTerminar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int estado) {
+                accion.run();
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.proyecto.gastospersonales.application.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Versiones en memoria de los datos que ve cada usuario, para responder GET condicionales (ETag / 304)
+ * Cada escritura de movimientos incrementa la versión de su usuario y cada cambio de categorías la versión
+ * de categorías, siempre al confirmar la transacción: una lectura nunca asocia una versión nueva a datos viejos.
+ * Las versiones no sobreviven a un reinicio, así que el ETag incluye el instante de arranque
+ */
+@Component
+public class VersionesDatos {
+    
+    private final String arranque = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentHashMap<Long, AtomicLong> movimientosPorUsuario = new ConcurrentHashMap<>();
+    // Cualquier escritura de movimientos: los usos de categorías cuentan movimientos de todos los usuarios
+    private final AtomicLong movimientos = new AtomicLong();
+    private final AtomicLong categorias = new AtomicLong();
+    
+    public void registrarCambioMovimientos(Long usuarioId) {
+        TrasLaTransaccion.despuesDeConfirmar(() -> {
+            if (usuarioId != null) {
+                movimientosPorUsuario.computeIfAbsent(usuarioId, id -> new AtomicLong()).incrementAndGet();
+            }
+            movimientos.incrementAndGet();
+        });
+    }
+    
+    public void registrarCambioCategorias() {
+        TrasLaTransaccion.despuesDeConfirmar(categorias::incrementAndGet);
+    }
+    
+    /**
+     * ETag de las lecturas de movimientos y estadísticas de un usuario
+     * Incluye la fecha porque los resúmenes del mes en curso cambian al cambiar el día aunque no haya escrituras
+     */
+    public String etagMovimientos(Long usuarioId) {
+        AtomicLong version = movimientosPorUsuario.get(usuarioId);
+        return "\"m-" + arranque + "-" + usuarioId + "-" + (version != null ? version.get() : 0)
+                + "-" + categorias.get() + "-" + LocalDate.now() + "\"";
+    }
+    
+    /**
+     * ETag de las lecturas de categorías; con uso, también cambia con cualquier escritura de movimientos
+     */
+    public String etagCategorias(boolean conUso) {
+        return "\"c-" + arranque + "-" + categorias.get() + (conUso ? "-" + movimientos.get() : "") + "\"";
+    }
+}
\ No newline at end of file
@@ -8,28 +8,57 @@ import java.util.Objects;
  */
 public class CategoriaResumenDto {
 
+    private final Long categoriaId;
     private final String nombre;
     private final BigDecimal monto;
     private final BigDecimal porcentaje;
+    private final BigDecimal ingresos;
+    private final long cantidadMovimientos;
 
     public CategoriaResumenDto(String nombre, BigDecimal monto, BigDecimal porcentaje) {
+        this(null, nombre, monto, porcentaje, BigDecimal.ZERO, 0);
+    }
+
+    public CategoriaResumenDto(Long categoriaId, String nombre, BigDecimal monto, BigDecimal porcentaje,
+                               BigDecimal ingresos, long cantidadMovimientos) {
+        this.categoriaId = categoriaId;
         this.nombre = nombre;
         this.monto = monto;
         this.porcentaje = porcentaje;
+        this.ingresos = ingresos;
+        this.cantidadMovimientos = cantidadMovimientos;
+    }
+
+    public Long getCategoriaId() {
+        return categoriaId;
     }
 
     public String getNombre() {
         return nombre;
     }
 
+    /**
+     * Total de gastos de la categoría
+     */
     public BigDecimal getMonto() {
         return monto;
     }
 
+    /**
+     * Porcentaje que representan los gastos de la categoría sobre el total de gastos
+     */
     public BigDecimal getPorcentaje() {
         return porcentaje;
     }
 
+    public BigDecimal getIngresos() {
+        return ingresos;
+    }
+
+    public long getCantidadMovimientos() {
+        return cantidadMovimientos;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -38,22 +67,28 @@ public class CategoriaResumenDto {
         if (!(o instanceof CategoriaResumenDto that)) {
             return false;
         }
-        return Objects.equals(nombre, that.nombre)
+        return cantidadMovimientos == that.cantidadMovimientos
+                && Objects.equals(categoriaId, that.categoriaId)
+                && Objects.equals(nombre, that.nombre)
                 && Objects.equals(monto, that.monto)
-                && Objects.equals(porcentaje, that.porcentaje);
+                && Objects.equals(porcentaje, that.porcentaje)
+                && Objects.equals(ingresos, that.ingresos);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(nombre, monto, porcentaje);
+        return Objects.hash(categoriaId, nombre, monto, porcentaje, ingresos, cantidadMovimientos);
     }
 
     @Override
     public String toString() {
         return "CategoriaResumenDto{"
-                + "nombre='" + nombre + '\''
+                + "categoriaId=" + categoriaId
+                + ", nombre='" + nombre + '\''
                 + ", monto=" + monto
                 + ", porcentaje=" + porcentaje
+                + ", ingresos=" + ingresos
+                + ", cantidadMovimientos=" + cantidadMovimientos
                 + '}';
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.proyecto.gastospersonales.domain.dto;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 /**
  * DTO para el dashboard con información resumida
@@ -13,9 +14,16 @@ public class DashboardDto {
     private final BigDecimal ingresosDelMes; 
     private final BigDecimal gastosDelMes;
     private final BigDecimal balanceDelMes;
+    private final Map<String, BigDecimal> gastosPorCategoriaDelMes;
 
     public DashboardDto(BigDecimal totalIngresos, BigDecimal totalGastos, 
                        int totalMovimientos, BigDecimal ingresosDelMes, BigDecimal gastosDelMes) {
+        this(totalIngresos, totalGastos, totalMovimientos, ingresosDelMes, gastosDelMes, Map.of());
+    }
+
+    public DashboardDto(BigDecimal totalIngresos, BigDecimal totalGastos, 
+                       int totalMovimientos, BigDecimal ingresosDelMes, BigDecimal gastosDelMes,
+                       Map<String, BigDecimal> gastosPorCategoriaDelMes) {
         this.totalIngresos = totalIngresos != null ? totalIngresos : BigDecimal.ZERO;
         this.totalGastos = totalGastos != null ? totalGastos : BigDecimal.ZERO;
         this.totalMovimientos = totalMovimientos;
@@ -23,6 +31,7 @@ public class DashboardDto {
         this.gastosDelMes = gastosDelMes != null ? gastosDelMes : BigDecimal.ZERO;
         this.balance = this.totalIngresos.subtract(this.totalGastos);
         this.balanceDelMes = this.ingresosDelMes.subtract(this.gastosDelMes);
+        this.gastosPorCategoriaDelMes = gastosPorCategoriaDelMes != null ? gastosPorCategoriaDelMes : Map.of();
     }
 
     public BigDecimal getTotalIngresos() {
@@ -52,4 +61,8 @@ public class DashboardDto {
     public BigDecimal getBalanceDelMes() {
         return balanceDelMes;
     }
+
+    public Map<String, BigDecimal> getGastosPorCategoriaDelMes() {
+        return gastosPorCategoriaDelMes;
+    }
 }
\ No newline at end of file
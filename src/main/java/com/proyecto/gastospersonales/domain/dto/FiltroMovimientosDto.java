@@ -0,0 +1,89 @@
+package com.proyecto.gastospersonales.domain.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * DTO con los criterios de filtrado de movimientos
+ * Todos los criterios son opcionales; los que se indican se combinan con AND
+ * Las fechas son inclusivas y el rango de montos también
+ */
+public class FiltroMovimientosDto {
+    private Long usuarioId;
+    private TipoMovimiento tipo;
+    private List<Long> categoriaIds;
+    private LocalDate desde;
+    private LocalDate hasta;
+    private BigDecimal montoMinimo;
+    private BigDecimal montoMaximo;
+    private String texto;
+    
+    public FiltroMovimientosDto() {}
+    
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+    
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+    
+    public TipoMovimiento getTipo() {
+        return tipo;
+    }
+    
+    public void setTipo(TipoMovimiento tipo) {
+        this.tipo = tipo;
+    }
+    
+    public List<Long> getCategoriaIds() {
+        return categoriaIds;
+    }
+    
+    public void setCategoriaIds(List<Long> categoriaIds) {
+        this.categoriaIds = categoriaIds;
+    }
+    
+    public LocalDate getDesde() {
+        return desde;
+    }
+    
+    public void setDesde(LocalDate desde) {
+        this.desde = desde;
+    }
+    
+    public LocalDate getHasta() {
+        return hasta;
+    }
+    
+    public void setHasta(LocalDate hasta) {
+        this.hasta = hasta;
+    }
+    
+    public BigDecimal getMontoMinimo() {
+        return montoMinimo;
+    }
+    
+    public void setMontoMinimo(BigDecimal montoMinimo) {
+        this.montoMinimo = montoMinimo;
+    }
+    
+    public BigDecimal getMontoMaximo() {
+        return montoMaximo;
+    }
+    
+    public void setMontoMaximo(BigDecimal montoMaximo) {
+        this.montoMaximo = montoMaximo;
+    }
+    
+    public String getTexto() {
+        return texto;
+    }
+    
+    public void setTexto(String texto) {
+        this.texto = texto;
+    }
+}
\ No newline at end of file
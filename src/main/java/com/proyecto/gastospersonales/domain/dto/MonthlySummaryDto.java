@@ -7,12 +7,24 @@ import java.math.BigDecimal;
  */
 public class MonthlySummaryDto {
     private final String mes;
+    private final Integer anio;
+    private final Integer numeroMes;
     private final BigDecimal ingresos;
     private final BigDecimal gastos;
     private final BigDecimal balance;
 
     public MonthlySummaryDto(String mes, BigDecimal ingresos, BigDecimal gastos) {
+        this(mes, null, null, ingresos, gastos);
+    }
+
+    public MonthlySummaryDto(int anio, int numeroMes, BigDecimal ingresos, BigDecimal gastos) {
+        this(String.format("%04d-%02d", anio, numeroMes), anio, numeroMes, ingresos, gastos);
+    }
+
+    private MonthlySummaryDto(String mes, Integer anio, Integer numeroMes, BigDecimal ingresos, BigDecimal gastos) {
         this.mes = mes;
+        this.anio = anio;
+        this.numeroMes = numeroMes;
         this.ingresos = ingresos != null ? ingresos : BigDecimal.ZERO;
         this.gastos = gastos != null ? gastos : BigDecimal.ZERO;
         this.balance = this.ingresos.subtract(this.gastos);
@@ -22,6 +34,14 @@ public class MonthlySummaryDto {
         return mes;
     }
 
+    public Integer getAnio() {
+        return anio;
+    }
+
+    public Integer getNumeroMes() {
+        return numeroMes;
+    }
+
     public BigDecimal getIngresos() {
         return ingresos;
     }
@@ -0,0 +1,74 @@
+package com.proyecto.gastospersonales.domain.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * Proyección ligera de un movimiento para listados
+ * Se construye directamente en la consulta, sin hidratar la entidad ni su categoría
+ * y se serializa con MovimientoResumenSerializer, sin pasar por los getters
+ */
+@JsonSerialize(using = MovimientoResumenSerializer.class)
+public class MovimientoResumenDto {
+    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final Long id;
+    private final String descripcion;
+    private final BigDecimal monto;
+    private final LocalDateTime fecha;
+    private final TipoMovimiento tipo;
+    private final Long categoriaId;
+    private final String categoriaNombre;
+
+    public MovimientoResumenDto(Long id, String descripcion, BigDecimal monto, LocalDateTime fecha,
+                                TipoMovimiento tipo, Long categoriaId, String categoriaNombre) {
+        this.id = id;
+        this.descripcion = descripcion;
+        this.monto = monto;
+        this.fecha = fecha;
+        this.tipo = tipo;
+        this.categoriaId = categoriaId;
+        this.categoriaNombre = categoriaNombre;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public BigDecimal getMonto() {
+        return monto;
+    }
+
+    public LocalDateTime getFecha() {
+        return fecha;
+    }
+
+    public TipoMovimiento getTipo() {
+        return tipo;
+    }
+
+    public Long getCategoriaId() {
+        return categoriaId;
+    }
+
+    public String getCategoriaNombre() {
+        return categoriaNombre;
+    }
+
+    public String getFechaFormateada() {
+        return fecha != null ? FORMATO_FECHA.format(fecha) : null;
+    }
+
+    public String getMontoFormateado() {
+        return monto != null ? "$" + monto.setScale(2, RoundingMode.HALF_UP).toPlainString() : null;
+    }
+}
\ No newline at end of file
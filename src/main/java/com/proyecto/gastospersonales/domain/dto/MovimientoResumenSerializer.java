@@ -0,0 +1,209 @@
+package com.proyecto.gastospersonales.domain.dto;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Serializador de MovimientoResumenDto para listados grandes
+ * Escribe los campos directamente en el generador, con los nombres ya codificados; fechas y montos se
+ * formatean a mano en un búfer que comparten todas las filas de una misma serialización:
+ * sin introspección de getters ni cadenas temporales por fila.
+ * La salida es la misma que la serialización por getters (fecha ISO-8601, como JavaTimeModule)
+ */
+public class MovimientoResumenSerializer extends StdSerializer<MovimientoResumenDto> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString DESCRIPCION = new SerializedString("descripcion");
+    private static final SerializedString MONTO = new SerializedString("monto");
+    private static final SerializedString FECHA = new SerializedString("fecha");
+    private static final SerializedString TIPO = new SerializedString("tipo");
+    private static final SerializedString CATEGORIA_ID = new SerializedString("categoriaId");
+    private static final SerializedString CATEGORIA_NOMBRE = new SerializedString("categoriaNombre");
+    private static final SerializedString FECHA_FORMATEADA = new SerializedString("fechaFormateada");
+    private static final SerializedString MONTO_FORMATEADO = new SerializedString("montoFormateado");
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn + dd/MM/yyyy HH:mm + $ y el monto (signo, 19 dígitos y punto)
+    private static final int INICIO_FECHA_VISIBLE = 29;
+    private static final int INICIO_MONTO = 29 + 16;
+    private static final int TAMANIO_BUFER = INICIO_MONTO + 1 + 21;
+
+    // Atributo de la serialización en curso: el búfer vive lo que dura una llamada a writeValue
+    private static final Object ATRIBUTO_BUFER = MovimientoResumenSerializer.class;
+
+    public MovimientoResumenSerializer() {
+        super(MovimientoResumenDto.class);
+    }
+
+    @Override
+    public void serialize(MovimientoResumenDto movimiento, JsonGenerator generador, SerializerProvider proveedor)
+            throws IOException {
+        char[] bufer = bufer(proveedor);
+        generador.writeStartObject(movimiento);
+
+        generador.writeFieldName(ID);
+        escribirLong(generador, movimiento.getId());
+        generador.writeFieldName(DESCRIPCION);
+        generador.writeString(movimiento.getDescripcion());
+
+        // Con escala 2 (la de la columna) los mismos dígitos sirven para el número y para el monto formateado
+        BigDecimal monto = movimiento.getMonto();
+        int largoMonto = monto != null && monto.scale() == 2 ? escribirMonto(monto, bufer) : 0;
+        generador.writeFieldName(MONTO);
+        if (largoMonto > 0) {
+            generador.writeNumber(bufer, INICIO_MONTO + 1, largoMonto);
+        } else {
+            generador.writeNumber(monto);
+        }
+
+        // Desde el año 1: antes, el yyyy de getFechaFormateada (año de la era) ya no coincide con el año ISO
+        LocalDateTime fecha = movimiento.getFecha();
+        boolean fechaDirecta = fecha != null && fecha.getYear() >= 1 && fecha.getYear() <= 9999;
+        generador.writeFieldName(FECHA);
+        if (fechaDirecta) {
+            int largo = escribirFechaIso(fecha, bufer);
+            generador.writeString(bufer, 0, largo);
+        } else if (fecha != null) {
+            generador.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(fecha));
+        } else {
+            generador.writeNull();
+        }
+
+        generador.writeFieldName(TIPO);
+        if (movimiento.getTipo() != null) {
+            generador.writeString(movimiento.getTipo().name());
+        } else {
+            generador.writeNull();
+        }
+        generador.writeFieldName(CATEGORIA_ID);
+        escribirLong(generador, movimiento.getCategoriaId());
+        generador.writeFieldName(CATEGORIA_NOMBRE);
+        generador.writeString(movimiento.getCategoriaNombre());
+
+        generador.writeFieldName(FECHA_FORMATEADA);
+        if (fechaDirecta) {
+            escribirFechaVisible(fecha, bufer, INICIO_FECHA_VISIBLE);
+            generador.writeString(bufer, INICIO_FECHA_VISIBLE, 16);
+        } else {
+            generador.writeString(movimiento.getFechaFormateada());
+        }
+
+        generador.writeFieldName(MONTO_FORMATEADO);
+        if (largoMonto > 0) {
+            bufer[INICIO_MONTO] = '$';
+            generador.writeString(bufer, INICIO_MONTO, largoMonto + 1);
+        } else {
+            generador.writeString(movimiento.getMontoFormateado());
+        }
+
+        generador.writeEndObject();
+    }
+
+    private static char[] bufer(SerializerProvider proveedor) {
+        char[] bufer = (char[]) proveedor.getAttribute(ATRIBUTO_BUFER);
+        if (bufer == null) {
+            bufer = new char[TAMANIO_BUFER];
+            proveedor.setAttribute(ATRIBUTO_BUFER, bufer);
+        }
+        return bufer;
+    }
+
+    private static void escribirLong(JsonGenerator generador, Long valor) throws IOException {
+        if (valor != null) {
+            generador.writeNumber(valor.longValue());
+        } else {
+            generador.writeNull();
+        }
+    }
+
+    /**
+     * Escribe un monto de escala 2 como toPlainString, a partir de sus dígitos sin escala
+     * Devuelve el largo escrito tras la posición del "$", o 0 si no cabe en un long
+     */
+    private static int escribirMonto(BigDecimal monto, char[] bufer) {
+        BigInteger sinEscala = monto.unscaledValue();
+        if (sinEscala.bitLength() > 62) {
+            return 0;
+        }
+        long valor = sinEscala.longValue();
+        boolean negativo = valor < 0;
+        long absoluto = Math.abs(valor);
+
+        // De derecha a izquierda: centavos, punto y parte entera (al menos un 0)
+        int posicion = TAMANIO_BUFER;
+        bufer[--posicion] = (char) ('0' + absoluto % 10);
+        bufer[--posicion] = (char) ('0' + absoluto / 10 % 10);
+        bufer[--posicion] = '.';
+        long entero = absoluto / 100;
+        do {
+            bufer[--posicion] = (char) ('0' + entero % 10);
+            entero /= 10;
+        } while (entero > 0);
+        if (negativo) {
+            bufer[--posicion] = '-';
+        }
+
+        // Se alinea tras el "$" para escribir número y monto formateado desde el mismo tramo
+        int largo = TAMANIO_BUFER - posicion;
+        System.arraycopy(bufer, posicion, bufer, INICIO_MONTO + 1, largo);
+        return largo;
+    }
+
+    /**
+     * Escribe la fecha como ISO_LOCAL_DATE_TIME: segundos siempre y fracción sin ceros finales
+     */
+    private static int escribirFechaIso(LocalDateTime fecha, char[] bufer) {
+        digitos(bufer, 0, fecha.getYear(), 4);
+        bufer[4] = '-';
+        digitos(bufer, 5, fecha.getMonthValue(), 2);
+        bufer[7] = '-';
+        digitos(bufer, 8, fecha.getDayOfMonth(), 2);
+        bufer[10] = 'T';
+        digitos(bufer, 11, fecha.getHour(), 2);
+        bufer[13] = ':';
+        digitos(bufer, 14, fecha.getMinute(), 2);
+        bufer[16] = ':';
+        digitos(bufer, 17, fecha.getSecond(), 2);
+        if (fecha.getNano() == 0) {
+            return 19;
+        }
+        bufer[19] = '.';
+        digitos(bufer, 20, fecha.getNano(), 9);
+        int largo = 29;
+        while (bufer[largo - 1] == '0') {
+            largo--;
+        }
+        return largo;
+    }
+
+    /**
+     * Escribe la fecha como dd/MM/yyyy HH:mm, el formato de getFechaFormateada
+     */
+    private static void escribirFechaVisible(LocalDateTime fecha, char[] bufer, int inicio) {
+        digitos(bufer, inicio, fecha.getDayOfMonth(), 2);
+        bufer[inicio + 2] = '/';
+        digitos(bufer, inicio + 3, fecha.getMonthValue(), 2);
+        bufer[inicio + 5] = '/';
+        digitos(bufer, inicio + 6, fecha.getYear(), 4);
+        bufer[inicio + 10] = ' ';
+        digitos(bufer, inicio + 11, fecha.getHour(), 2);
+        bufer[inicio + 13] = ':';
+        digitos(bufer, inicio + 14, fecha.getMinute(), 2);
+    }
+
+    private static void digitos(char[] bufer, int inicio, int valor, int ancho) {
+        for (int i = inicio + ancho - 1; i >= inicio; i--) {
+            bufer[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.proyecto.gastospersonales.domain.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para una fila de un alta masiva de movimientos
+ * La fecha es opcional; si no se indica se usa el momento del registro
+ */
+public class NuevoMovimientoDto {
+    private String descripcion;
+    private BigDecimal monto;
+    private String tipo;
+    private Long categoriaId;
+    private LocalDateTime fecha;
+    
+    public NuevoMovimientoDto() {}
+    
+    public NuevoMovimientoDto(String descripcion, BigDecimal monto, String tipo, Long categoriaId, LocalDateTime fecha) {
+        this.descripcion = descripcion;
+        this.monto = monto;
+        this.tipo = tipo;
+        this.categoriaId = categoriaId;
+        this.fecha = fecha;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+    
+    public BigDecimal getMonto() {
+        return monto;
+    }
+    
+    public void setMonto(BigDecimal monto) {
+        this.monto = monto;
+    }
+    
+    public String getTipo() {
+        return tipo;
+    }
+    
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+    
+    public Long getCategoriaId() {
+        return categoriaId;
+    }
+    
+    public void setCategoriaId(Long categoriaId) {
+        this.categoriaId = categoriaId;
+    }
+    
+    public LocalDateTime getFecha() {
+        return fecha;
+    }
+    
+    public void setFecha(LocalDateTime fecha) {
+        this.fecha = fecha;
+    }
+}
\ No newline at end of file
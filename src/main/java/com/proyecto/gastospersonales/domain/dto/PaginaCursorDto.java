@@ -0,0 +1,35 @@
+package com.proyecto.gastospersonales.domain.dto;
+
+import java.util.List;
+
+/**
+ * DTO para representar una página de resultados paginada por cursor (keyset)
+ * El cursor es opaco para el cliente: basta con reenviarlo para obtener la página siguiente
+ */
+public class PaginaCursorDto<T> {
+    private final List<T> contenido;
+    private final String siguienteCursor;
+    private final int tamanio;
+
+    public PaginaCursorDto(List<T> contenido, String siguienteCursor, int tamanio) {
+        this.contenido = contenido != null ? contenido : List.of();
+        this.siguienteCursor = siguienteCursor;
+        this.tamanio = tamanio;
+    }
+
+    public List<T> getContenido() {
+        return contenido;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    public boolean isHayMas() {
+        return siguienteCursor != null;
+    }
+}
\ No newline at end of file
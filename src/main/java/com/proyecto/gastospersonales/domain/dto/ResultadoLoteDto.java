@@ -0,0 +1,52 @@
+package com.proyecto.gastospersonales.domain.dto;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de un alta masiva de movimientos
+ * Las filas con errores se informan por su posición (base 0) y no se insertan
+ */
+public class ResultadoLoteDto {
+    private final int recibidos;
+    private final int insertados;
+    private final List<ErrorFila> errores;
+
+    public ResultadoLoteDto(int recibidos, int insertados, List<ErrorFila> errores) {
+        this.recibidos = recibidos;
+        this.insertados = insertados;
+        this.errores = errores != null ? errores : List.of();
+    }
+
+    public int getRecibidos() {
+        return recibidos;
+    }
+
+    public int getInsertados() {
+        return insertados;
+    }
+
+    public List<ErrorFila> getErrores() {
+        return errores;
+    }
+
+    /**
+     * Error de validación de una fila concreta del lote
+     */
+    public static class ErrorFila {
+        private final int fila;
+        private final String mensaje;
+
+        public ErrorFila(int fila, String mensaje) {
+            this.fila = fila;
+            this.mensaje = mensaje;
+        }
+
+        public int getFila() {
+            return fila;
+        }
+
+        public String getMensaje() {
+            return mensaje;
+        }
+    }
+}
\ No newline at end of file
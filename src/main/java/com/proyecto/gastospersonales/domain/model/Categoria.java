@@ -5,10 +5,14 @@ import java.util.List;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -24,6 +28,7 @@ import jakarta.validation.constraints.Size;
  */
 @Entity
 @Table(name = "categoria")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Categoria {
     
     @Id
@@ -42,6 +47,10 @@ public class Categoria {
     @Column(name = "es_predefinida", nullable = false)
     private Boolean esPredefinida = false;
     
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TipoCategoria tipo = TipoCategoria.GASTO;
+    
     // Relación uno a muchos con movimientos
     @OneToMany(mappedBy = "categoria", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonBackReference
@@ -62,6 +71,13 @@ public class Categoria {
         this.esPredefinida = esPredefinida;
     }
     
+    public Categoria(String nombre, String descripcion, Boolean esPredefinida, TipoCategoria tipo) {
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+        this.esPredefinida = esPredefinida;
+        this.tipo = tipo;
+    }
+    
     // Getters y Setters
     public Long getId() {
         return id;
@@ -95,6 +111,14 @@ public class Categoria {
         this.esPredefinida = esPredefinida;
     }
     
+    public TipoCategoria getTipo() {
+        return tipo;
+    }
+    
+    public void setTipo(TipoCategoria tipo) {
+        this.tipo = tipo;
+    }
+    
     public List<Movimiento> getMovimientos() {
         return movimientos;
     }
@@ -114,6 +138,8 @@ public class Categoria {
         movimiento.setCategoria(null);
     }
     
+    // No se serializa: obligaría a cargar todos los movimientos de cada categoría
+    @JsonIgnore
     public int getCantidadMovimientos() {
         return movimientos.size();
     }
@@ -0,0 +1,13 @@
+package com.proyecto.gastospersonales.domain.model;
+
+/**
+ * Enumeración que define los estados de una importación de extracto
+ * EN_CURSO: se están procesando bloques; una importación interrumpida queda en este estado
+ * COMPLETADA: se leyó el archivo completo
+ * FALLIDA: un bloque no pudo confirmarse; puede reanudarse desde el último bloque confirmado
+ */
+public enum EstadoImportacion {
+    EN_CURSO,
+    COMPLETADA,
+    FALLIDA
+}
\ No newline at end of file
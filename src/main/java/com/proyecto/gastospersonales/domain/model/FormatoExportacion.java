@@ -0,0 +1,27 @@
+package com.proyecto.gastospersonales.domain.model;
+
+/**
+ * Enumeración de los formatos de exportación de movimientos
+ * CSV: una fila por movimiento con encabezado
+ * NDJSON: un objeto JSON por línea
+ */
+public enum FormatoExportacion {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+    
+    private final String tipoContenido;
+    private final String extension;
+    
+    FormatoExportacion(String tipoContenido, String extension) {
+        this.tipoContenido = tipoContenido;
+        this.extension = extension;
+    }
+    
+    public String getTipoContenido() {
+        return tipoContenido;
+    }
+    
+    public String getExtension() {
+        return extension;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.proyecto.gastospersonales.domain.model;
+
+/**
+ * Enumeración de los formatos de extracto bancario admitidos por el importador
+ * CSV: texto separado por comas o punto y coma, con fila de encabezados
+ * OFX: Open Financial Exchange (SGML o XML)
+ */
+public enum FormatoImportacion {
+    CSV,
+    OFX;
+    
+    /**
+     * Deduce el formato a partir de la extensión del archivo
+     */
+    public static FormatoImportacion desdeNombreArchivo(String nombreArchivo) {
+        String nombre = nombreArchivo != null ? nombreArchivo.toLowerCase() : "";
+        if (nombre.endsWith(".ofx") || nombre.endsWith(".qfx")) {
+            return OFX;
+        }
+        return CSV;
+    }
+}
\ No newline at end of file
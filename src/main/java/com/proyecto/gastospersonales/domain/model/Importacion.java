@@ -0,0 +1,163 @@
+package com.proyecto.gastospersonales.domain.model;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+/**
+ * Entidad que registra el progreso de la importación de un extracto bancario
+ * El contador de filas procesadas se confirma junto con cada bloque de movimientos,
+ * de modo que una importación interrumpida se reanuda sin duplicar ni perder filas
+ */
+@Entity
+@Table(name = "importacion", indexes = {
+    @Index(name = "idx_importacion_usuario", columnList = "usuario_id, fecha_creacion DESC")
+})
+public class Importacion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    @Column(name = "nombre_archivo", nullable = false, length = 255)
+    private String nombreArchivo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private FormatoImportacion formato;
+
+    // Copia local del archivo subido; se elimina al completar la importación
+    @JsonIgnore
+    @Column(name = "ruta_archivo", nullable = false, length = 500)
+    private String rutaArchivo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoImportacion estado = EstadoImportacion.EN_CURSO;
+
+    @Column(name = "filas_procesadas", nullable = false)
+    private Long filasProcesadas = 0L;
+
+    @Column(name = "filas_insertadas", nullable = false)
+    private Long filasInsertadas = 0L;
+
+    @Column(name = "filas_con_error", nullable = false)
+    private Long filasConError = 0L;
+
+    @Column(name = "ultimo_error", length = 500)
+    private String ultimoError;
+
+    @Column(name = "fecha_creacion", nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(name = "fecha_actualizacion", nullable = false)
+    private LocalDateTime fechaActualizacion;
+
+    // Constructores
+    public Importacion() {}
+
+    public Importacion(Long usuarioId, String nombreArchivo, FormatoImportacion formato, String rutaArchivo) {
+        this.usuarioId = usuarioId;
+        this.nombreArchivo = nombreArchivo;
+        this.formato = formato;
+        this.rutaArchivo = rutaArchivo;
+    }
+
+    // Métodos de ciclo de vida JPA
+    @PrePersist
+    protected void onCreate() {
+        fechaCreacion = LocalDateTime.now();
+        fechaActualizacion = fechaCreacion;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        fechaActualizacion = LocalDateTime.now();
+    }
+
+    // Métodos de utilidad
+    public void avanzar(long filas, long insertadas, long conError, String error) {
+        filasProcesadas += filas;
+        filasInsertadas += insertadas;
+        filasConError += conError;
+        if (error != null) {
+            ultimoError = error.length() > 500 ? error.substring(0, 500) : error;
+        }
+    }
+
+    public boolean isReanudable() {
+        return estado != EstadoImportacion.COMPLETADA;
+    }
+
+    // Getters y Setters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public String getNombreArchivo() {
+        return nombreArchivo;
+    }
+
+    public FormatoImportacion getFormato() {
+        return formato;
+    }
+
+    public String getRutaArchivo() {
+        return rutaArchivo;
+    }
+
+    public EstadoImportacion getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoImportacion estado) {
+        this.estado = estado;
+    }
+
+    public Long getFilasProcesadas() {
+        return filasProcesadas;
+    }
+
+    public Long getFilasInsertadas() {
+        return filasInsertadas;
+    }
+
+    public Long getFilasConError() {
+        return filasConError;
+    }
+
+    public String getUltimoError() {
+        return ultimoError;
+    }
+
+    public void setUltimoError(String ultimoError) {
+        this.ultimoError = ultimoError;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+}
\ No newline at end of file
@@ -15,8 +15,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
@@ -30,11 +32,20 @@ import jakarta.validation.constraints.Size;
  * Puede ser un gasto o un ingreso, siempre asociado a una categoría
  */
 @Entity
-@Table(name = "movimiento")
+@Table(name = "movimiento", indexes = {
+    @Index(name = "idx_movimiento_usuario_fecha", columnList = "usuario_id, fecha DESC, id DESC"),
+    @Index(name = "idx_movimiento_usuario_tipo_fecha", columnList = "usuario_id, tipo, fecha"),
+    @Index(name = "idx_movimiento_categoria", columnList = "categoria_id"),
+    @Index(name = "idx_movimiento_fecha", columnList = "fecha DESC, id DESC")
+})
 public class Movimiento {
     
+    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    
+    // Secuencia con asignación en bloques de 50: permite agrupar los INSERT en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movimiento_seq")
+    @SequenceGenerator(name = "movimiento_seq", sequenceName = "movimiento_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "La descripción es obligatoria")
@@ -59,8 +70,9 @@ public class Movimiento {
     private TipoMovimiento tipo;
     
     // Relación muchos a uno con categoría
+    // LAZY: las consultas que la necesitan la traen con @EntityGraph o con proyecciones
     @NotNull(message = "La categoría es obligatoria")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "categoria_id", nullable = false)
     @JsonManagedReference
     private Categoria categoria;
@@ -159,8 +171,7 @@ public class Movimiento {
     
     // Métodos de utilidad
     public String getFechaFormateada() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        return fecha.format(formatter);
+        return fecha.format(FORMATO_FECHA);
     }
     
     public String getMontoFormateado() {
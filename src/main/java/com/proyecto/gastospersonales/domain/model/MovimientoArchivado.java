@@ -0,0 +1,95 @@
+package com.proyecto.gastospersonales.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * Movimiento antiguo trasladado al archivo (ver V8__archivo_movimiento.sql)
+ * Mismas columnas que Movimiento; es de solo lectura porque las filas llegan al archivo desde la base de datos
+ */
+@Entity
+@Immutable
+@Table(name = "movimiento_archivo", indexes = {
+    @Index(name = "idx_movimiento_archivo_usuario_fecha", columnList = "usuario_id, fecha DESC, id DESC"),
+    @Index(name = "idx_movimiento_archivo_categoria", columnList = "categoria_id")
+})
+public class MovimientoArchivado {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false, length = 200)
+    private String descripcion;
+    
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal monto;
+    
+    @Column(nullable = false)
+    private LocalDateTime fecha;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoMovimiento tipo;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "categoria_id", nullable = false)
+    private Categoria categoria;
+    
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+    
+    protected MovimientoArchivado() {
+    }
+    
+    /**
+     * Copia no gestionada como Movimiento, para devolverla junto con los movimientos en caliente
+     */
+    public Movimiento aMovimiento() {
+        Movimiento movimiento = new Movimiento(descripcion, monto, tipo, categoria, fecha);
+        movimiento.setId(id);
+        movimiento.setUsuarioId(usuarioId);
+        return movimiento;
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public BigDecimal getMonto() {
+        return monto;
+    }
+    
+    public LocalDateTime getFecha() {
+        return fecha;
+    }
+    
+    public TipoMovimiento getTipo() {
+        return tipo;
+    }
+    
+    public Categoria getCategoria() {
+        return categoria;
+    }
+    
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.proyecto.gastospersonales.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Entidad que materializa los totales de un usuario para un mes concreto
+ * Se mantiene junto con SaldoUsuario a partir de los mismos deltas
+ */
+@Entity
+@Table(name = "saldo_mensual",
+       uniqueConstraints = @UniqueConstraint(name = "uk_saldo_mensual_usuario_periodo", 
+                                             columnNames = {"usuario_id", "anio", "mes"}))
+public class SaldoMensual {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    @Column(nullable = false)
+    private Integer anio;
+
+    @Column(nullable = false)
+    private Integer mes;
+
+    @Column(name = "total_ingresos", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalIngresos = BigDecimal.ZERO;
+
+    @Column(name = "total_gastos", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalGastos = BigDecimal.ZERO;
+
+    @Column(name = "cantidad_movimientos", nullable = false)
+    private Long cantidadMovimientos = 0L;
+
+    @Column(name = "fecha_actualizacion", nullable = false)
+    private LocalDateTime fechaActualizacion;
+
+    // Constructores
+    public SaldoMensual() {}
+
+    public SaldoMensual(Long usuarioId, Integer anio, Integer mes) {
+        this.usuarioId = usuarioId;
+        this.anio = anio;
+        this.mes = mes;
+    }
+
+    // Métodos de ciclo de vida JPA
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        fechaActualizacion = LocalDateTime.now();
+    }
+
+    // Métodos de utilidad
+    public void aplicar(TipoMovimiento tipo, BigDecimal monto, long cantidad) {
+        if (tipo == TipoMovimiento.INGRESO) {
+            totalIngresos = totalIngresos.add(monto);
+        } else {
+            totalGastos = totalGastos.add(monto);
+        }
+        cantidadMovimientos += cantidad;
+    }
+
+    public BigDecimal getBalance() {
+        return totalIngresos.subtract(totalGastos);
+    }
+
+    // Getters y Setters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public Integer getAnio() {
+        return anio;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public BigDecimal getTotalIngresos() {
+        return totalIngresos;
+    }
+
+    public void setTotalIngresos(BigDecimal totalIngresos) {
+        this.totalIngresos = totalIngresos;
+    }
+
+    public BigDecimal getTotalGastos() {
+        return totalGastos;
+    }
+
+    public void setTotalGastos(BigDecimal totalGastos) {
+        this.totalGastos = totalGastos;
+    }
+
+    public Long getCantidadMovimientos() {
+        return cantidadMovimientos;
+    }
+
+    public void setCantidadMovimientos(Long cantidadMovimientos) {
+        this.cantidadMovimientos = cantidadMovimientos;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+}
\ No newline at end of file
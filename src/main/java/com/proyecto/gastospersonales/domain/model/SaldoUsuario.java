@@ -0,0 +1,101 @@
+package com.proyecto.gastospersonales.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+/**
+ * Entidad que materializa los totales acumulados de un usuario
+ * Se actualiza con deltas en cada alta, modificación o baja de movimientos
+ */
+@Entity
+@Table(name = "saldo_usuario")
+public class SaldoUsuario {
+
+    @Id
+    @Column(name = "usuario_id")
+    private Long usuarioId;
+
+    @Column(name = "total_ingresos", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalIngresos = BigDecimal.ZERO;
+
+    @Column(name = "total_gastos", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalGastos = BigDecimal.ZERO;
+
+    @Column(name = "cantidad_movimientos", nullable = false)
+    private Long cantidadMovimientos = 0L;
+
+    @Column(name = "fecha_actualizacion", nullable = false)
+    private LocalDateTime fechaActualizacion;
+
+    // Constructores
+    public SaldoUsuario() {}
+
+    public SaldoUsuario(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    // Métodos de ciclo de vida JPA
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        fechaActualizacion = LocalDateTime.now();
+    }
+
+    // Métodos de utilidad
+    public void aplicar(TipoMovimiento tipo, BigDecimal monto, long cantidad) {
+        if (tipo == TipoMovimiento.INGRESO) {
+            totalIngresos = totalIngresos.add(monto);
+        } else {
+            totalGastos = totalGastos.add(monto);
+        }
+        cantidadMovimientos += cantidad;
+    }
+
+    public BigDecimal getBalance() {
+        return totalIngresos.subtract(totalGastos);
+    }
+
+    // Getters y Setters
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public BigDecimal getTotalIngresos() {
+        return totalIngresos;
+    }
+
+    public void setTotalIngresos(BigDecimal totalIngresos) {
+        this.totalIngresos = totalIngresos;
+    }
+
+    public BigDecimal getTotalGastos() {
+        return totalGastos;
+    }
+
+    public void setTotalGastos(BigDecimal totalGastos) {
+        this.totalGastos = totalGastos;
+    }
+
+    public Long getCantidadMovimientos() {
+        return cantidadMovimientos;
+    }
+
+    public void setCantidadMovimientos(Long cantidadMovimientos) {
+        this.cantidadMovimientos = cantidadMovimientos;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+}
\ No newline at end of file
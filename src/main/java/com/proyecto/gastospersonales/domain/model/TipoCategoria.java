@@ -0,0 +1,35 @@
+package com.proyecto.gastospersonales.domain.model;
+
+/**
+ * Enumeración que define para qué movimientos se usa una categoría
+ * INGRESO: solo ingresos (salario, inversiones...)
+ * GASTO: solo gastos (alimentación, transporte...)
+ * AMBOS: válida para ingresos y gastos
+ */
+public enum TipoCategoria {
+    INGRESO("Ingreso"),
+    GASTO("Gasto"),
+    AMBOS("Ambos");
+    
+    private final String descripcion;
+    
+    TipoCategoria(String descripcion) {
+        this.descripcion = descripcion;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    /**
+     * Indica si la categoría puede usarse para el tipo de movimiento dado
+     */
+    public boolean admite(TipoMovimiento tipoMovimiento) {
+        return this == AMBOS || name().equals(tipoMovimiento.name());
+    }
+    
+    @Override
+    public String toString() {
+        return descripcion;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.proyecto.gastospersonales.domain.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+
+/**
+ * Interfaz del servicio de dominio para la búsqueda de movimientos por texto
+ * Los resultados se limitan a un usuario, se ordenan por relevancia y se devuelven por páginas
+ * Las sugerencias de autocompletado se resuelven en memoria sin consultar la base de datos
+ */
+public interface BusquedaMovimientosService {
+    
+    List<MovimientoResumenDto> buscar(Long usuarioId, String texto, int pagina, int tamanio);
+    
+    List<String> sugerir(Long usuarioId, String texto, int limite);
+    
+    Map<String, Object> obtenerEstadisticasSugerencias();
+}
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.proyecto.gastospersonales.domain.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.TipoCategoria;
 
 /**
  * Interfaz del servicio de dominio para categorías
@@ -23,8 +25,12 @@ public interface CategoriaService {
     
     Categoria crearCategoria(String nombre, String descripcion);
     
+    Categoria crearCategoria(String nombre, String descripcion, TipoCategoria tipo);
+    
     Categoria actualizarCategoria(Long id, String nuevoNombre, String nuevaDescripcion);
     
+    Categoria actualizarCategoria(Long id, String nuevoNombre, String nuevaDescripcion, TipoCategoria nuevoTipo);
+    
     void eliminarCategoria(Long id);
     
     List<Categoria> buscarCategoriasPorTexto(String texto);
@@ -33,6 +39,8 @@ public interface CategoriaService {
     
     List<Categoria> obtenerCategoriasConMovimientos();
     
+    Map<Long, Long> obtenerUsoCategorias();
+    
     List<Categoria> obtenerCategoriasParaGastos();
     
     List<Categoria> obtenerCategoriasParaIngresos();
@@ -40,4 +48,6 @@ public interface CategoriaService {
     boolean existeCategoriaPorNombre(String nombre);
     
     void inicializarCategoriasPredefinidas();
+    
+    Map<String, Object> obtenerEstadisticasCache();
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.proyecto.gastospersonales.domain.service;
+
+import java.util.Map;
+
+/**
+ * Interfaz del servicio que compone el dashboard completo de un usuario
+ * Cada parte es un agregado independiente; si una falla o tarda demasiado el dashboard se devuelve sin ella
+ */
+public interface ComposicionDashboardService {
+    
+    /**
+     * Devuelve las partes calculadas y, en "partesNoDisponibles", las que no llegaron a tiempo
+     */
+    Map<String, Object> obtenerDashboard(Long usuarioId);
+}
\ No newline at end of file
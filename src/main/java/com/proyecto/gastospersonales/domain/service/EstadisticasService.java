@@ -0,0 +1,31 @@
+package com.proyecto.gastospersonales.domain.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.proyecto.gastospersonales.domain.dto.CategoriaResumenDto;
+import com.proyecto.gastospersonales.domain.dto.DashboardDto;
+import com.proyecto.gastospersonales.domain.dto.MonthlySummaryDto;
+
+/**
+ * Interfaz del servicio de dominio para estadísticas
+ * Define las consultas agregadas usadas por el dashboard y los reportes
+ */
+public interface EstadisticasService {
+    
+    DashboardDto obtenerDashboard();
+    
+    List<CategoriaResumenDto> obtenerResumenPorCategorias(LocalDate desde, LocalDate hasta);
+    
+    List<MonthlySummaryDto> obtenerResumenMensual(int meses);
+    
+    List<MonthlySummaryDto> obtenerResumenAnual(int anio);
+    
+    DashboardDto obtenerDashboard(Long usuarioId);
+    
+    List<CategoriaResumenDto> obtenerResumenPorCategorias(Long usuarioId, LocalDate desde, LocalDate hasta);
+    
+    List<MonthlySummaryDto> obtenerResumenMensual(Long usuarioId, int meses);
+    
+    List<MonthlySummaryDto> obtenerResumenAnual(Long usuarioId, int anio);
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.proyecto.gastospersonales.domain.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+import com.proyecto.gastospersonales.domain.model.FormatoExportacion;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * Interfaz del servicio de dominio para exportar movimientos
+ * Los filtros nulos no restringen la exportación
+ */
+public interface ExportacionService {
+    
+    long exportarMovimientos(Long usuarioId, LocalDate desde, LocalDate hasta, TipoMovimiento tipo, Long categoriaId,
+                             FormatoExportacion formato, OutputStream salida) throws IOException;
+}
\ No newline at end of file
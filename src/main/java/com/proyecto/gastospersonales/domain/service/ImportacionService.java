@@ -0,0 +1,24 @@
+package com.proyecto.gastospersonales.domain.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import com.proyecto.gastospersonales.domain.model.FormatoImportacion;
+import com.proyecto.gastospersonales.domain.model.Importacion;
+
+/**
+ * Interfaz del servicio de dominio para la importación de extractos bancarios
+ * Define las operaciones para importar, reanudar y consultar importaciones
+ */
+public interface ImportacionService {
+    
+    Importacion importarExtracto(InputStream contenido, String nombreArchivo, FormatoImportacion formato, Long usuarioId) throws IOException;
+    
+    Importacion reanudarImportacion(Long id, Long usuarioId) throws IOException;
+    
+    Optional<Importacion> obtenerImportacion(Long id, Long usuarioId);
+    
+    List<Importacion> obtenerImportaciones(Long usuarioId);
+}
\ No newline at end of file
@@ -6,6 +6,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.proyecto.gastospersonales.domain.dto.FiltroMovimientosDto;
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.dto.NuevoMovimientoDto;
+import com.proyecto.gastospersonales.domain.dto.PaginaCursorDto;
+import com.proyecto.gastospersonales.domain.dto.ResultadoLoteDto;
 import com.proyecto.gastospersonales.domain.model.Movimiento;
 import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
 
@@ -23,13 +28,25 @@ public interface MovimientoService {
     
     Movimiento registrarIngreso(String descripcion, BigDecimal monto, Long categoriaId, Long usuarioId);
     
+    ResultadoLoteDto registrarLote(List<NuevoMovimientoDto> movimientos, Long usuarioId);
+    
     List<Movimiento> obtenerTodosLosMovimientos();
     
+    List<MovimientoResumenDto> listarMovimientos();
+    
+    List<MovimientoResumenDto> listarMovimientosPorTipo(TipoMovimiento tipo);
+    
+    List<MovimientoResumenDto> buscarMovimientosResumen(String texto);
+    
+    PaginaCursorDto<MovimientoResumenDto> obtenerMovimientosPaginados(String cursor, int tamanio);
+    
+    PaginaCursorDto<MovimientoResumenDto> filtrarMovimientos(FiltroMovimientosDto filtro, String cursor, int tamanio);
+    
     Optional<Movimiento> obtenerMovimientoPorId(Long id);
     
     List<Movimiento> obtenerUltimosMovimientos();
     
-    List<Movimiento> obtenerUltimosMovimientos(Long usuarioId, int limite);
+    List<MovimientoResumenDto> obtenerUltimosMovimientos(Long usuarioId, int limite);
     
     List<Movimiento> obtenerMovimientosPorTipo(TipoMovimiento tipo);
     
@@ -54,4 +71,32 @@ public interface MovimientoService {
     List<Movimiento> obtenerMovimientosDelMes();
     
     List<Movimiento> obtenerMovimientosPorPeriodo(LocalDate inicio, LocalDate fin);
+    
+    // Variantes acotadas a los movimientos de un usuario
+    
+    List<MovimientoResumenDto> listarMovimientos(Long usuarioId);
+    
+    List<MovimientoResumenDto> listarMovimientosPorTipo(Long usuarioId, TipoMovimiento tipo);
+    
+    PaginaCursorDto<MovimientoResumenDto> obtenerMovimientosPaginados(Long usuarioId, String cursor, int tamanio);
+    
+    Optional<Movimiento> obtenerMovimientoPorId(Long id, Long usuarioId);
+    
+    BigDecimal calcularBalanceTotal(Long usuarioId);
+    
+    BigDecimal calcularTotalIngresos(Long usuarioId);
+    
+    BigDecimal calcularTotalGastos(Long usuarioId);
+    
+    Map<String, BigDecimal> obtenerGastosPorCategoriaDelMes(Long usuarioId);
+    
+    Map<String, BigDecimal> obtenerResumenMensual(Long usuarioId);
+    
+    Movimiento actualizarMovimiento(Long id, Long usuarioId, String nuevaDescripcion, BigDecimal nuevoMonto, Long nuevaCategoriaId);
+    
+    void eliminarMovimiento(Long id, Long usuarioId);
+    
+    List<Movimiento> obtenerMovimientosDelMes(Long usuarioId);
+    
+    List<Movimiento> obtenerMovimientosPorPeriodo(Long usuarioId, LocalDate inicio, LocalDate fin);
 }
\ No newline at end of file
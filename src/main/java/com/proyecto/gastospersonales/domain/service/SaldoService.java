@@ -0,0 +1,31 @@
+package com.proyecto.gastospersonales.domain.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.proyecto.gastospersonales.domain.dto.DashboardDto;
+import com.proyecto.gastospersonales.domain.dto.MonthlySummaryDto;
+import com.proyecto.gastospersonales.domain.model.Movimiento;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * Interfaz del servicio de dominio para saldos materializados
+ * Mantiene los totales por usuario y por mes a partir de deltas de movimientos
+ */
+public interface SaldoService {
+    
+    void registrarAlta(Movimiento movimiento);
+    
+    void registrarAltas(List<Movimiento> movimientos);
+    
+    void registrarBaja(Movimiento movimiento);
+    
+    void aplicarDelta(Long usuarioId, LocalDateTime fecha, TipoMovimiento tipo, BigDecimal monto, long cantidad);
+    
+    DashboardDto obtenerResumenUsuario(Long usuarioId);
+    
+    MonthlySummaryDto obtenerSaldoMensual(Long usuarioId, int anio, int mes);
+    
+    void reconstruirSaldos(Long usuarioId);
+}
\ No newline at end of file
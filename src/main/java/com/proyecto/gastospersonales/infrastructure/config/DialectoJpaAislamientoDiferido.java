@@ -0,0 +1,57 @@
+package com.proyecto.gastospersonales.infrastructure.config;
+
+import java.sql.SQLException;
+
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DelegatingTransactionDefinition;
+import org.springframework.transaction.support.ResourceTransactionDefinition;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * HibernateJpaDialect que admite niveles de aislamiento con la conexión liberada al terminar cada transacción
+ * En ese modo la sesión no tiene conexión al empezar la transacción y HibernateJpaDialect rechaza cualquier
+ * aislamiento distinto del predeterminado. Aquí se omite al empezar y lo aplica IsolationLevelDataSourceAdapter
+ * cuando se pide la conexión real, con la transacción ya sincronizada
+ */
+public class DialectoJpaAislamientoDiferido extends HibernateJpaDialect {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definicion)
+            throws PersistenceException, SQLException {
+        if (definicion.getIsolationLevel() == TransactionDefinition.ISOLATION_DEFAULT) {
+            return super.beginTransaction(entityManager, definicion);
+        }
+        return super.beginTransaction(entityManager, new SinAislamiento(definicion));
+    }
+
+    /**
+     * La misma definición con el aislamiento predeterminado, conservando si el recurso es local
+     */
+    private static final class SinAislamiento extends DelegatingTransactionDefinition
+            implements ResourceTransactionDefinition {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean recursoLocal;
+
+        SinAislamiento(TransactionDefinition definicion) {
+            super(definicion);
+            this.recursoLocal = definicion instanceof ResourceTransactionDefinition recurso && recurso.isLocalResource();
+        }
+
+        @Override
+        public int getIsolationLevel() {
+            return ISOLATION_DEFAULT;
+        }
+
+        @Override
+        public boolean isLocalResource() {
+            return recursoLocal;
+        }
+    }
+}
\ No newline at end of file
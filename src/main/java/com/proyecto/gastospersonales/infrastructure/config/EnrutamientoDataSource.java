@@ -0,0 +1,121 @@
+package com.proyecto.gastospersonales.infrastructure.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Envía las transacciones de solo lectura a la réplica y todo lo demás a la primaria
+ * Una sesión que acaba de confirmar una escritura sigue leyendo de la primaria durante la ventana
+ * de lectura propia, para no ver datos anteriores a su cambio mientras la réplica se pone al día.
+ * Debe usarse detrás de LazyConnectionDataSourceProxy: la conexión real se pide en la primera sentencia,
+ * cuando la transacción ya está marcada como de solo lectura
+ */
+public class EnrutamientoDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARIA = "primaria";
+    static final String REPLICA = "replica";
+    static final String ATRIBUTO_ULTIMA_ESCRITURA = "ultimaEscrituraPrimaria";
+
+    // Última escritura de la sesión que originó la tarea, en hilos de trabajo sin petición
+    private static final ThreadLocal<Long> ULTIMA_ESCRITURA_HEREDADA = new ThreadLocal<>();
+
+    private final EstadoReplica estadoReplica;
+    private final long lecturaPropiaMillis;
+
+    private final LongAdder lecturasReplica = new LongAdder();
+    private final LongAdder lecturasPrimaria = new LongAdder();
+
+    public EnrutamientoDataSource(DataSource primaria, DataSource replica, EstadoReplica estadoReplica,
+                                  Duration lecturaPropia) {
+        this.estadoReplica = estadoReplica;
+        this.lecturaPropiaMillis = lecturaPropia.toMillis();
+        setTargetDataSources(Map.of(PRIMARIA, primaria, REPLICA, replica));
+        setDefaultTargetDataSource(primaria);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARIA;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registrarEscrituraAlConfirmar();
+            return PRIMARIA;
+        }
+        if (!estadoReplica.isDisponible() || escribioRecientemente()) {
+            lecturasPrimaria.increment();
+            return PRIMARIA;
+        }
+        lecturasReplica.increment();
+        return REPLICA;
+    }
+
+    /**
+     * Al confirmar una transacción de escritura se anota el momento en la sesión HTTP, si la hay
+     */
+    private void registrarEscrituraAlConfirmar() {
+        RequestAttributes peticion = RequestContextHolder.getRequestAttributes();
+        if (peticion == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                peticion.setAttribute(ATRIBUTO_ULTIMA_ESCRITURA, System.currentTimeMillis(),
+                        RequestAttributes.SCOPE_SESSION);
+            }
+        });
+    }
+
+    private boolean escribioRecientemente() {
+        Long ultimaEscritura = ultimaEscrituraDeLaSesion();
+        return ultimaEscritura != null && System.currentTimeMillis() - ultimaEscritura < lecturaPropiaMillis;
+    }
+
+    /**
+     * Prepara una tarea para otro hilo conservando la lectura propia de la sesión actual
+     * Solo se copia el momento de la última escritura y no la petición: la tarea puede seguir
+     * en ejecución cuando el contenedor ya recicló la petición
+     */
+    public static Runnable conLecturaPropia(Runnable tarea) {
+        Long ultimaEscritura = ultimaEscrituraDeLaSesion();
+        if (ultimaEscritura == null) {
+            return tarea;
+        }
+        return () -> {
+            ULTIMA_ESCRITURA_HEREDADA.set(ultimaEscritura);
+            try {
+                tarea.run();
+            } finally {
+                ULTIMA_ESCRITURA_HEREDADA.remove();
+            }
+        };
+    }
+
+    private static Long ultimaEscrituraDeLaSesion() {
+        RequestAttributes peticion = RequestContextHolder.getRequestAttributes();
+        if (peticion == null) {
+            return ULTIMA_ESCRITURA_HEREDADA.get();
+        }
+        return peticion.getAttribute(ATRIBUTO_ULTIMA_ESCRITURA, RequestAttributes.SCOPE_SESSION) instanceof Long momento
+                ? momento : null;
+    }
+
+    public long getLecturasReplica() {
+        return lecturasReplica.sum();
+    }
+
+    public long getLecturasPrimaria() {
+        return lecturasPrimaria.sum();
+    }
+}
\ No newline at end of file
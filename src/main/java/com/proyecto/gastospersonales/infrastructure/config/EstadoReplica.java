@@ -0,0 +1,63 @@
+package com.proyecto.gastospersonales.infrastructure.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Mide periódicamente el retraso de la réplica de lectura
+ * Mientras supere la tolerancia configurada, o la réplica no responda, las lecturas vuelven a la primaria
+ */
+public class EstadoReplica {
+
+    private static final Logger logger = LoggerFactory.getLogger(EstadoReplica.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String consultaRetraso;
+    private final Duration retrasoMaximo;
+
+    private volatile boolean disponible = true;
+    private volatile double retrasoSegundos;
+
+    public EstadoReplica(DataSource replica, String consultaRetraso, Duration retrasoMaximo) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.jdbcTemplate.setQueryTimeout(5);
+        this.consultaRetraso = consultaRetraso;
+        this.retrasoMaximo = retrasoMaximo;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.intervalo-verificacion:PT2S}")
+    public void verificar() {
+        boolean disponibleAntes = disponible;
+        try {
+            Number retraso = jdbcTemplate.queryForObject(consultaRetraso, Number.class);
+            retrasoSegundos = retraso != null ? retraso.doubleValue() : 0;
+            disponible = retrasoSegundos * 1000 <= retrasoMaximo.toMillis();
+        } catch (RuntimeException e) {
+            disponible = false;
+            if (disponibleAntes) {
+                logger.warn("Réplica de lectura sin respuesta; las lecturas se envían a la primaria", e);
+            }
+            return;
+        }
+        if (disponibleAntes && !disponible) {
+            logger.warn("Réplica de lectura con {} s de retraso (máximo {}); las lecturas se envían a la primaria",
+                    retrasoSegundos, retrasoMaximo);
+        } else if (!disponibleAntes && disponible) {
+            logger.info("Réplica de lectura al día ({} s de retraso); se vuelve a leer de ella", retrasoSegundos);
+        }
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+
+    public double getRetrasoSegundos() {
+        return retrasoSegundos;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.proyecto.gastospersonales.infrastructure.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnJava;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+/**
+ * Modo de ejecución con hilos virtuales (spring.threads.virtual.enabled=true)
+ * Spring Boot ya atiende las peticiones de Tomcat y las tareas asíncronas en hilos virtuales;
+ * aquí se añade el límite de concurrencia JDBC, para que miles de peticiones en curso no agoten
+ * el pool de conexiones ni esperen en él más de lo configurado.
+ * Los hilos virtuales requieren un JRE 21: en versiones anteriores Spring Boot ignora la propiedad
+ * y tampoco se registra el límite, porque Tomcat ya acota la concurrencia con su pool de hilos
+ */
+@Configuration
+@ConditionalOnJava(JavaVersion.TWENTY_ONE)
+@ConditionalOnProperty(name = "app.jdbc.limite-concurrencia.habilitado", havingValue = "true")
+public class HilosVirtualesConfig {
+
+    /**
+     * Envuelve el DataSource principal (el bean "dataSource"), que también usa Flyway salvo con réplica de lectura:
+     * en ese caso Flyway migra con dataSourcePrimaria y los pools de primaria y réplica no pasan por el límite
+     * Static: los BeanPostProcessor se registran antes que el resto de beans de la configuración
+     */
+    @Bean
+    public static BeanPostProcessor limiteConcurrenciaJdbc(Environment entorno) {
+        int maximo = entorno.getProperty("app.jdbc.limite-concurrencia.maximo", Integer.class, 10);
+        Duration esperaMaxima = entorno.getProperty("app.jdbc.limite-concurrencia.espera-maxima",
+                Duration.class, Duration.ofSeconds(30));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String nombre) {
+                if ("dataSource".equals(nombre) && bean instanceof DataSource dataSource
+                        && !(bean instanceof LimiteConcurrenciaDataSource)) {
+                    return new LimiteConcurrenciaDataSource(dataSource, maximo, esperaMaxima);
+                }
+                return bean;
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -3,13 +3,15 @@ package com.proyecto.gastospersonales.infrastructure.config;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Configuración de la infraestructura para Clean Architecture
- * Especifica el escaneo de entidades y repositorios
+ * Especifica el escaneo de entidades y repositorios, y habilita las tareas programadas
  */
 @Configuration
 @EntityScan(basePackages = "com.proyecto.gastospersonales.domain.model")
 @EnableJpaRepositories(basePackages = "com.proyecto.gastospersonales.infrastructure.repository")
+@EnableScheduling
 public class InfrastructureConfig {
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.proyecto.gastospersonales.infrastructure.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Limita cuántas conexiones JDBC pueden estar en uso a la vez con un semáforo justo
+ * Con hilos virtuales puede haber miles de peticiones simultáneas: las que exceden el pool esperan
+ * aparcadas en el semáforo, en orden de llegada y sin ocupar un hilo portador, y si la espera supera
+ * el máximo fallan con SQLTransientConnectionException en lugar de acumularse en el pool.
+ * El permiso se devuelve al cerrar la conexión
+ */
+public class LimiteConcurrenciaDataSource extends DelegatingDataSource {
+
+    private final Semaphore permisos;
+    private final int maximo;
+    private final long esperaMaximaNanos;
+
+    private final LongAdder rechazadas = new LongAdder();
+
+    public LimiteConcurrenciaDataSource(DataSource destino, int maximo, Duration esperaMaxima) {
+        super(destino);
+        this.maximo = maximo;
+        this.permisos = new Semaphore(maximo, true);
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        return conLiberacion(() -> obtenerTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        return conLiberacion(() -> obtenerTargetDataSource().getConnection(username, password));
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permisos.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS)) {
+                rechazadas.increment();
+                throw new SQLTransientConnectionException(
+                        "Se alcanzó el límite de " + maximo + " conexiones JDBC concurrentes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrumpido esperando una conexión JDBC", e);
+        }
+    }
+
+    /**
+     * Obtiene la conexión real y la envuelve para devolver el permiso una sola vez al cerrarla
+     * Si no se pudo obtener, el permiso se devuelve de inmediato
+     */
+    private Connection conLiberacion(ProveedorConexion proveedor) throws SQLException {
+        Connection conexion;
+        try {
+            conexion = proveedor.obtener();
+        } catch (SQLException | RuntimeException e) {
+            permisos.release();
+            throw e;
+        }
+        AtomicBoolean liberada = new AtomicBoolean();
+        InvocationHandler manejador = (proxy, metodo, argumentos) -> {
+            if ("close".equals(metodo.getName()) && liberada.compareAndSet(false, true)) {
+                try {
+                    return metodo.invoke(conexion, argumentos);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    permisos.release();
+                }
+            }
+            try {
+                return metodo.invoke(conexion, argumentos);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, manejador);
+    }
+
+    private DataSource obtenerTargetDataSource() {
+        DataSource destino = getTargetDataSource();
+        if (destino == null) {
+            throw new IllegalStateException("LimiteConcurrenciaDataSource sin DataSource destino");
+        }
+        return destino;
+    }
+
+    public int getDisponibles() {
+        return permisos.availablePermits();
+    }
+
+    public int getEnEspera() {
+        return permisos.getQueueLength();
+    }
+
+    public long getRechazadas() {
+        return rechazadas.sum();
+    }
+
+    @FunctionalInterface
+    private interface ProveedorConexion {
+        Connection obtener() throws SQLException;
+    }
+}
\ No newline at end of file
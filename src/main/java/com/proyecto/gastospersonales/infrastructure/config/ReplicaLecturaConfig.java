@@ -0,0 +1,115 @@
+package com.proyecto.gastospersonales.infrastructure.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.IsolationLevelDataSourceAdapter;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Réplica de lectura: solo se activa si se configura app.datasource.replica.url
+ * Sustituye el DataSource autoconfigurado por dos pools (primaria y réplica) y un DataSource enrutador.
+ * Las transacciones @Transactional(readOnly = true) leen de la réplica; las escrituras, las migraciones
+ * de Flyway y el JDBC fuera de transacción usan siempre la primaria
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReplicaLecturaConfig {
+
+    /**
+     * Pool de la primaria con la configuración habitual de spring.datasource y spring.datasource.hikari
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimaria(DataSourceProperties propiedades) {
+        HikariDataSource dataSource = propiedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primaria");
+        return dataSource;
+    }
+
+    /**
+     * Pool de la réplica; el usuario y la clave por defecto son los de la primaria
+     * El tamaño y demás opciones del pool se configuran en app.datasource.replica.hikari
+     */
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource dataSourceReplica(@Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username}}") String usuario,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password}}") String clave) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url).username(usuario).password(clave).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public EstadoReplica estadoReplica(@Qualifier("dataSourceReplica") DataSource replica,
+                                       @Value("${app.datasource.replica.consulta-retraso}") String consultaRetraso,
+                                       @Value("${app.datasource.replica.retraso-maximo:5s}") Duration retrasoMaximo) {
+        return new EstadoReplica(replica, consultaRetraso, retrasoMaximo);
+    }
+
+    /**
+     * DataSource que usan JPA y el resto de la aplicación
+     * El adaptador aplica a la conexión real el aislamiento de la transacción en curso (ver DialectoJpaAislamientoDiferido)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("dataSourcePrimaria") DataSource primaria,
+                                 @Qualifier("dataSourceReplica") DataSource replica,
+                                 EstadoReplica estadoReplica,
+                                 @Value("${app.datasource.replica.lectura-propia:5s}") Duration lecturaPropia) {
+        IsolationLevelDataSourceAdapter aislamiento = new IsolationLevelDataSourceAdapter();
+        aislamiento.setTargetDataSource(new EnrutamientoDataSource(primaria, replica, estadoReplica, lecturaPropia));
+        return new LazyConnectionDataSourceProxy(aislamiento);
+    }
+
+    /**
+     * Devuelve la conexión al terminar cada transacción
+     * Por defecto Spring hace que la sesión de Hibernate retenga la conexión hasta cerrarse, y con open-in-view
+     * la sesión dura toda la petición: una escritura después de una lectura reutilizaría la conexión de la réplica.
+     * Así cada transacción pide su propia conexión y el enrutador decide de nuevo
+     */
+    @Bean
+    public HibernatePropertiesCustomizer liberarConexionAlTerminarTransaccion() {
+        return propiedades -> propiedades.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * Con la conexión liberada por transacción, HibernateJpaDialect no admite @Transactional(isolation = ...)
+     * El dialecto se fija en la fábrica de EntityManager: JpaTransactionManager toma de ella el suyo
+     */
+    @Bean
+    public static BeanPostProcessor aislamientoDiferido() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String nombre) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean fabrica) {
+                    fabrica.setJpaDialect(new DialectoJpaAislamientoDiferido());
+                }
+                return bean;
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.proyecto.gastospersonales.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.proyecto.gastospersonales.interfaz.web.VersionDatosInterceptor;
+
+/**
+ * Registra el GET condicional (ETag / 304) en las APIs de movimientos y categorías
+ */
+@Configuration
+public class VersionDatosConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private VersionDatosInterceptor versionDatosInterceptor;
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(versionDatosInterceptor)
+                .addPathPatterns("/api/movimientos", "/api/movimientos/**", "/api/categorias", "/api/categorias/**");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.proyecto.gastospersonales.infrastructure.importacion;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * Fila leída de un extracto bancario, ya normalizada
+ * El monto es siempre positivo; el signo original determina el tipo cuando el extracto no lo indica.
+ * Si la fila no pudo interpretarse, solo se informa el error
+ */
+public class FilaExtracto {
+    private final String descripcion;
+    private final BigDecimal monto;
+    private final TipoMovimiento tipo;
+    private final LocalDateTime fecha;
+    private final String categoria;
+    private final String error;
+
+    public FilaExtracto(String descripcion, BigDecimal monto, TipoMovimiento tipo, LocalDateTime fecha, String categoria) {
+        this.descripcion = descripcion;
+        this.monto = monto;
+        this.tipo = tipo;
+        this.fecha = fecha;
+        this.categoria = categoria;
+        this.error = null;
+    }
+
+    private FilaExtracto(String error) {
+        this.descripcion = null;
+        this.monto = null;
+        this.tipo = null;
+        this.fecha = null;
+        this.categoria = null;
+        this.error = error;
+    }
+
+    public static FilaExtracto conError(String error) {
+        return new FilaExtracto(error);
+    }
+
+    public boolean isValida() {
+        return error == null;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public BigDecimal getMonto() {
+        return monto;
+    }
+
+    public TipoMovimiento getTipo() {
+        return tipo;
+    }
+
+    public LocalDateTime getFecha() {
+        return fecha;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
\ No newline at end of file
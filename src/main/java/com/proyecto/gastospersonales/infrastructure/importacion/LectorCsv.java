@@ -0,0 +1,187 @@
+package com.proyecto.gastospersonales.infrastructure.importacion;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * Lector de extractos en CSV con fila de encabezados
+ * Columnas reconocidas: fecha, descripción (o concepto), monto (o importe), y opcionalmente tipo y categoría.
+ * El separador (coma o punto y coma) se detecta en el encabezado; se admiten campos entre comillas con saltos de línea
+ */
+class LectorCsv implements LectorExtracto {
+    
+    private static final int LONGITUD_CAMPO_MAXIMA = 10_000;
+    
+    private final BufferedReader reader;
+    private final char separador;
+    private final int columnaFecha;
+    private final int columnaDescripcion;
+    private final int columnaMonto;
+    private final int columnaTipo;
+    private final int columnaCategoria;
+    
+    private final StringBuilder campo = new StringBuilder();
+    private final List<String> campos = new ArrayList<>();
+    private long numeroFila;
+    
+    LectorCsv(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        
+        reader.mark(LONGITUD_CAMPO_MAXIMA);
+        String primeraLinea = reader.readLine();
+        if (primeraLinea == null) {
+            throw new IllegalArgumentException("El archivo CSV está vacío");
+        }
+        reader.reset();
+        this.separador = contar(primeraLinea, ';') > contar(primeraLinea, ',') ? ';' : ',';
+        
+        List<String> encabezados = leerRegistro();
+        int fecha = -1, descripcion = -1, monto = -1, tipo = -1, categoria = -1;
+        for (int i = 0; i < encabezados.size(); i++) {
+            String nombre = normalizar(encabezados.get(i));
+            if (fecha < 0 && (nombre.startsWith("fecha") || nombre.equals("date"))) {
+                fecha = i;
+            } else if (descripcion < 0 && (nombre.equals("descripcion") || nombre.equals("concepto") 
+                    || nombre.equals("detalle") || nombre.equals("description"))) {
+                descripcion = i;
+            } else if (monto < 0 && (nombre.equals("monto") || nombre.equals("importe") 
+                    || nombre.equals("valor") || nombre.equals("amount"))) {
+                monto = i;
+            } else if (tipo < 0 && (nombre.equals("tipo") || nombre.equals("type"))) {
+                tipo = i;
+            } else if (categoria < 0 && (nombre.equals("categoria") || nombre.equals("category"))) {
+                categoria = i;
+            }
+        }
+        
+        if (fecha < 0 || descripcion < 0 || monto < 0) {
+            throw new IllegalArgumentException("El encabezado CSV debe incluir las columnas fecha, descripcion y monto");
+        }
+        
+        this.columnaFecha = fecha;
+        this.columnaDescripcion = descripcion;
+        this.columnaMonto = monto;
+        this.columnaTipo = tipo;
+        this.columnaCategoria = categoria;
+    }
+    
+    @Override
+    public FilaExtracto siguiente() throws IOException {
+        List<String> registro;
+        do {
+            registro = leerRegistro();
+            if (registro == null) {
+                return null;
+            }
+            numeroFila++;
+        } while (registro.size() == 1 && registro.get(0).isBlank());
+        
+        try {
+            BigDecimal monto = ValoresExtracto.monto(valor(registro, columnaMonto));
+            LocalDateTime fecha = ValoresExtracto.fecha(valor(registro, columnaFecha));
+            String descripcion = ValoresExtracto.descripcion(valor(registro, columnaDescripcion));
+            String categoria = columnaCategoria >= 0 ? valor(registro, columnaCategoria).trim() : "";
+            
+            TipoMovimiento tipo = monto.signum() < 0 ? TipoMovimiento.GASTO : TipoMovimiento.INGRESO;
+            if (columnaTipo >= 0 && !valor(registro, columnaTipo).isBlank()) {
+                tipo = TipoMovimiento.valueOf(normalizar(valor(registro, columnaTipo)).toUpperCase());
+            }
+            
+            return new FilaExtracto(descripcion, monto.abs(), tipo, fecha, categoria.isEmpty() ? null : categoria);
+        } catch (IllegalArgumentException e) {
+            return FilaExtracto.conError("Fila " + numeroFila + ": " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    /**
+     * Lee el siguiente registro CSV, que puede ocupar varias líneas si tiene campos entre comillas
+     * Devuelve null al final del archivo; la lista devuelta se reutiliza en la siguiente lectura
+     */
+    private List<String> leerRegistro() throws IOException {
+        campos.clear();
+        campo.setLength(0);
+        
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        
+        boolean entreComillas = false;
+        while (c != -1) {
+            char caracter = (char) c;
+            if (entreComillas) {
+                if (caracter == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        campo.append('"');
+                    } else {
+                        entreComillas = false;
+                        reader.reset();
+                    }
+                } else {
+                    campo.append(caracter);
+                }
+            } else if (caracter == '"') {
+                entreComillas = true;
+            } else if (caracter == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (caracter == '\n' || caracter == '\r') {
+                if (caracter == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                break;
+            } else {
+                campo.append(caracter);
+            }
+            
+            if (campo.length() > LONGITUD_CAMPO_MAXIMA) {
+                throw new IOException("Campo CSV demasiado largo; revise las comillas cerca de la fila " + (numeroFila + 1));
+            }
+            c = reader.read();
+        }
+        
+        campos.add(campo.toString());
+        return campos;
+    }
+    
+    private String valor(List<String> registro, int columna) {
+        if (columna >= registro.size()) {
+            throw new IllegalArgumentException("Faltan columnas");
+        }
+        return registro.get(columna);
+    }
+    
+    private static int contar(String texto, char caracter) {
+        int total = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) == caracter) {
+                total++;
+            }
+        }
+        return total;
+    }
+    
+    /**
+     * Pasa a minúsculas y elimina acentos y la marca BOM para comparar encabezados y tipos
+     */
+    private static String normalizar(String texto) {
+        return Normalizer.normalize(texto.replace("\uFEFF", "").trim().toLowerCase(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+    }
+}
\ No newline at end of file
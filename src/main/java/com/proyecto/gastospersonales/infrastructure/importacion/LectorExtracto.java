@@ -0,0 +1,34 @@
+package com.proyecto.gastospersonales.infrastructure.importacion;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import com.proyecto.gastospersonales.domain.model.FormatoImportacion;
+
+/**
+ * Lector secuencial de extractos bancarios
+ * Las implementaciones leen una fila cada vez, por lo que la memoria usada no depende del tamaño del archivo
+ */
+public interface LectorExtracto extends Closeable {
+    
+    /**
+     * Devuelve la siguiente fila del extracto, o null al llegar al final
+     */
+    FilaExtracto siguiente() throws IOException;
+    
+    /**
+     * Abre el lector adecuado para el formato indicado
+     * Los caracteres no válidos en UTF-8 se sustituyen en lugar de interrumpir la lectura
+     */
+    static LectorExtracto abrir(FormatoImportacion formato, InputStream contenido) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(contenido, StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)), 64 * 1024);
+        return formato == FormatoImportacion.OFX ? new LectorOfx(reader) : new LectorCsv(reader);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.proyecto.gastospersonales.infrastructure.importacion;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * Lector de extractos OFX (versiones 1.x en SGML y 2.x en XML)
+ * Recorre las etiquetas en secuencia y devuelve una fila por cada bloque STMTTRN,
+ * sin construir el documento completo en memoria
+ */
+class LectorOfx implements LectorExtracto {
+    
+    private static final int LONGITUD_VALOR_MAXIMA = 1_000;
+    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter FORMATO_HORA = DateTimeFormatter.ofPattern("HHmmss");
+    
+    private final BufferedReader reader;
+    private final StringBuilder buffer = new StringBuilder();
+    private long numeroTransaccion;
+    
+    LectorOfx(BufferedReader reader) {
+        this.reader = reader;
+    }
+    
+    @Override
+    public FilaExtracto siguiente() throws IOException {
+        String etiqueta;
+        while ((etiqueta = leerEtiqueta()) != null) {
+            if (etiqueta.equals("STMTTRN")) {
+                numeroTransaccion++;
+                return leerTransaccion();
+            }
+        }
+        return null;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    /**
+     * Lee las etiquetas de una transacción hasta su cierre y construye la fila
+     */
+    private FilaExtracto leerTransaccion() throws IOException {
+        String fecha = null, monto = null, nombre = null, memo = null;
+        
+        String etiqueta;
+        while ((etiqueta = leerEtiqueta()) != null && !etiqueta.equals("/STMTTRN")) {
+            if (etiqueta.startsWith("/")) {
+                continue;
+            }
+            switch (etiqueta) {
+                case "DTPOSTED" -> fecha = leerValor();
+                case "TRNAMT" -> monto = leerValor();
+                case "NAME" -> nombre = leerValor();
+                case "MEMO" -> memo = leerValor();
+                default -> leerValor();
+            }
+        }
+        
+        try {
+            if (fecha == null || monto == null) {
+                throw new IllegalArgumentException("Transacción sin DTPOSTED o TRNAMT");
+            }
+            
+            BigDecimal importe = ValoresExtracto.montoSinMiles(monto);
+            TipoMovimiento tipo = importe.signum() < 0 ? TipoMovimiento.GASTO : TipoMovimiento.INGRESO;
+            String descripcion = ValoresExtracto.descripcion(nombre != null && !nombre.isBlank() ? nombre : memo);
+            return new FilaExtracto(descripcion, importe.abs(), tipo, fecha(fecha), null);
+        } catch (IllegalArgumentException e) {
+            return FilaExtracto.conError("Transacción " + numeroTransaccion + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Avanza hasta la siguiente etiqueta y devuelve su nombre en mayúsculas, o null al final del archivo
+     */
+    private String leerEtiqueta() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            // se descarta el texto fuera de las etiquetas reconocidas
+        }
+        if (c == -1) {
+            return null;
+        }
+        
+        buffer.setLength(0);
+        while ((c = reader.read()) != -1 && c != '>') {
+            if (buffer.length() < LONGITUD_VALOR_MAXIMA) {
+                buffer.append((char) c);
+            }
+        }
+        return buffer.toString().trim().toUpperCase();
+    }
+    
+    /**
+     * Lee el texto que sigue a una etiqueta hasta el inicio de la siguiente, sin consumirla
+     */
+    private String leerValor() throws IOException {
+        buffer.setLength(0);
+        reader.mark(1);
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            if (buffer.length() < LONGITUD_VALOR_MAXIMA) {
+                buffer.append((char) c);
+            }
+            reader.mark(1);
+        }
+        if (c == '<') {
+            reader.reset();
+        }
+        return buffer.toString().trim()
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&amp;", "&");
+    }
+    
+    /**
+     * Interpreta fechas OFX del tipo AAAAMMDD[HHMMSS[.XXX]][[-5:EST]]
+     */
+    private static LocalDateTime fecha(String texto) {
+        try {
+            LocalDate dia = LocalDate.parse(texto.substring(0, 8), FORMATO_FECHA);
+            if (texto.length() >= 14 && Character.isDigit(texto.charAt(13))) {
+                return dia.atTime(LocalTime.parse(texto.substring(8, 14), FORMATO_HORA));
+            }
+            return dia.atStartOfDay();
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Fecha OFX no válida: " + texto);
+        }
+    }
+}
\ No newline at end of file
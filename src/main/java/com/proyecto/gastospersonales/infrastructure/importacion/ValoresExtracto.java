@@ -0,0 +1,124 @@
+package com.proyecto.gastospersonales.infrastructure.importacion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Conversión de los valores de texto de un extracto a fechas y montos
+ */
+final class ValoresExtracto {
+    
+    private static final int LONGITUD_DESCRIPCION_MAXIMA = 200;
+    
+    private static final List<DateTimeFormatter> FORMATOS_FECHA_HORA = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm[:ss]"));
+    
+    private static final List<DateTimeFormatter> FORMATOS_FECHA = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+            DateTimeFormatter.BASIC_ISO_DATE);
+    
+    private ValoresExtracto() {}
+    
+    /**
+     * Interpreta una fecha con o sin hora en los formatos habituales de los bancos
+     */
+    static LocalDateTime fecha(String texto) {
+        String valor = texto.trim();
+        for (DateTimeFormatter formato : FORMATOS_FECHA_HORA) {
+            try {
+                return LocalDateTime.parse(valor, formato);
+            } catch (DateTimeParseException e) {
+                // probar el siguiente formato
+            }
+        }
+        for (DateTimeFormatter formato : FORMATOS_FECHA) {
+            try {
+                return LocalDate.parse(valor, formato).atStartOfDay();
+            } catch (DateTimeParseException e) {
+                // probar el siguiente formato
+            }
+        }
+        throw new IllegalArgumentException("Fecha no válida: " + valor);
+    }
+    
+    /**
+     * Interpreta un monto con signo, admitiendo símbolos de moneda, paréntesis para negativos
+     * y tanto coma como punto decimal, con o sin separador de miles
+     * Con los dos separadores presentes el último es el decimal. Con uno solo, repetido es de miles y
+     * único es decimal si le siguen uno o dos dígitos; seguido de tres ("1,234" o "1.234") es ambiguo y se rechaza
+     */
+    static BigDecimal monto(String texto) {
+        return monto(texto, true);
+    }
+    
+    /**
+     * Interpreta un monto sin separador de miles, como los de OFX: el separador presente es siempre el decimal
+     */
+    static BigDecimal montoSinMiles(String texto) {
+        return monto(texto, false);
+    }
+    
+    private static BigDecimal monto(String texto, boolean admiteMiles) {
+        String valor = texto.trim().replace("$", "").replace("€", "").replace(" ", "").replace("\u00A0", "");
+        boolean negativo = false;
+        if (valor.startsWith("(") && valor.endsWith(")")) {
+            negativo = true;
+            valor = valor.substring(1, valor.length() - 1);
+        }
+        
+        if (!admiteMiles) {
+            valor = valor.replace(',', '.');
+        } else {
+            int ultimaComa = valor.lastIndexOf(',');
+            int ultimoPunto = valor.lastIndexOf('.');
+            if (ultimaComa >= 0 && ultimoPunto >= 0) {
+                valor = ultimaComa > ultimoPunto 
+                        ? valor.replace(".", "").replace(',', '.') 
+                        : valor.replace(",", "");
+            } else if (ultimaComa >= 0 || ultimoPunto >= 0) {
+                char separador = ultimaComa >= 0 ? ',' : '.';
+                int posicion = Math.max(ultimaComa, ultimoPunto);
+                if (valor.indexOf(separador) != posicion) {
+                    // Repetido solo puede separar miles
+                    valor = valor.replace(String.valueOf(separador), "");
+                } else if (valor.length() - posicion - 1 == 3 && !parteEnteraNula(valor.substring(0, posicion))) {
+                    throw new IllegalArgumentException("Monto ambiguo: " + texto.trim() 
+                            + " (no se sabe si '" + separador + "' separa miles o decimales)");
+                } else {
+                    valor = valor.replace(separador, '.');
+                }
+            }
+        }
+        
+        try {
+            BigDecimal monto = new BigDecimal(valor);
+            return negativo ? monto.negate() : monto;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Monto no válido: " + texto);
+        }
+    }
+    
+    /**
+     * Parte entera vacía o cero ("0,500", "-,500"): el separador no puede ser de miles
+     */
+    private static boolean parteEnteraNula(String parteEntera) {
+        String digitos = parteEntera.startsWith("-") || parteEntera.startsWith("+") ? parteEntera.substring(1) : parteEntera;
+        return digitos.isEmpty() || digitos.equals("0");
+    }
+    
+    /**
+     * Normaliza la descripción recortando espacios y la longitud máxima admitida
+     */
+    static String descripcion(String texto) {
+        String valor = texto != null ? texto.trim().replaceAll("\\s+", " ") : "";
+        return valor.length() > LONGITUD_DESCRIPCION_MAXIMA ? valor.substring(0, LONGITUD_DESCRIPCION_MAXIMA) : valor;
+    }
+}
\ No newline at end of file
@@ -43,16 +43,14 @@ public interface CategoriaRepositoryInterface extends JpaRepository<Categoria, L
     List<Categoria> findByNombre(String nombre);
     
     /**
-     * Obtiene categorías que no tienen movimientos asociados
+     * Cuenta los movimientos de cada categoría en una única agregación
+     * Las categorías sin movimientos no aparecen en el resultado
+     * Cada fila contiene: [categoriaId, cantidad]
      */
-    @Query("SELECT c FROM Categoria c WHERE c.movimientos IS EMPTY")
-    List<Categoria> findCategoriasVacias();
-    
-    /**
-     * Obtiene categorías con al menos un movimiento
-     */
-    @Query("SELECT c FROM Categoria c WHERE SIZE(c.movimientos) > 0")
-    List<Categoria> findCategoriasConMovimientos();
+    @Query("SELECT m.categoria.id, COUNT(m) FROM Movimiento m " +
+           "WHERE m.categoria IS NOT NULL " +
+           "GROUP BY m.categoria.id")
+    List<Object[]> countMovimientosGroupByCategoria();
     
     /**
      * Cuenta cuántas categorías personalizadas (no predefinidas) existen
@@ -62,9 +60,11 @@ public interface CategoriaRepositoryInterface extends JpaRepository<Categoria, L
     
     /**
      * Obtiene categorías con su cantidad de movimientos
+     * Se agrupa sobre un LEFT JOIN en lugar de un subquery correlacionado por categoría
      */
-    @Query("SELECT c, SIZE(c.movimientos) as cantidadMovimientos " +
-           "FROM Categoria c " +
+    @Query("SELECT c, COUNT(m) as cantidadMovimientos " +
+           "FROM Categoria c LEFT JOIN Movimiento m ON m.categoria = c " +
+           "GROUP BY c " +
            "ORDER BY cantidadMovimientos DESC, c.nombre ASC")
     List<Object[]> findCategoriasConCantidadMovimientos();
     
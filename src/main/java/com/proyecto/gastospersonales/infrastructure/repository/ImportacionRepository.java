@@ -0,0 +1,20 @@
+package com.proyecto.gastospersonales.infrastructure.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.proyecto.gastospersonales.domain.model.Importacion;
+
+/**
+ * Repositorio JPA para el progreso de las importaciones de extractos
+ */
+@Repository
+public interface ImportacionRepository extends JpaRepository<Importacion, Long> {
+    
+    Optional<Importacion> findByIdAndUsuarioId(Long id, Long usuarioId);
+    
+    List<Importacion> findByUsuarioIdOrderByFechaCreacionDesc(Long usuarioId);
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.proyecto.gastospersonales.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.model.MovimientoArchivado;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repositorio de solo lectura para los movimientos archivados
+ * Replica las lecturas por rango de fechas de MovimientoRepositoryInterface que deben incluir el historial antiguo
+ */
+@Repository
+public interface MovimientoArchivadoRepository extends JpaRepository<MovimientoArchivado, Long> {
+    
+    /**
+     * Movimientos archivados en un rango de fechas, de todos los usuarios
+     */
+    @EntityGraph(attributePaths = "categoria")
+    List<MovimientoArchivado> findByFechaBetweenOrderByFechaDesc(LocalDateTime fechaInicio, LocalDateTime fechaFin);
+    
+    /**
+     * Movimientos archivados de un usuario en un rango semiabierto [fechaInicio, fechaFin)
+     */
+    @EntityGraph(attributePaths = "categoria")
+    List<MovimientoArchivado> findByUsuarioIdAndFechaGreaterThanEqualAndFechaLessThanOrderByFechaDesc(
+            Long usuarioId, LocalDateTime fechaInicio, LocalDateTime fechaFin);
+    
+    /**
+     * Igual que MovimientoRepositoryInterface.streamParaExportar, sobre el archivo
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto(" +
+           "a.id, a.descripcion, a.monto, a.fecha, a.tipo, c.id, c.nombre) " +
+           "FROM MovimientoArchivado a JOIN a.categoria c " +
+           "WHERE a.usuarioId = :usuarioId " +
+           "AND a.fecha >= :fechaInicio AND a.fecha < :fechaFin " +
+           "AND (:tipo IS NULL OR a.tipo = :tipo) " +
+           "AND (:categoriaId IS NULL OR c.id = :categoriaId) " +
+           "ORDER BY a.fecha DESC, a.id DESC")
+    Stream<MovimientoResumenDto> streamParaExportar(
+            @Param("usuarioId") Long usuarioId,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("tipo") TipoMovimiento tipo,
+            @Param("categoriaId") Long categoriaId);
+    
+    /**
+     * Serie mensual de ingresos y gastos en un rango semiabierto [fechaInicio, fechaFin)
+     * Columnas: año, mes, total ingresos, total gastos
+     */
+    @Query("SELECT YEAR(a.fecha), MONTH(a.fecha), " +
+           "SUM(CASE WHEN a.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.INGRESO THEN a.monto ELSE 0 END), " +
+           "SUM(CASE WHEN a.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.GASTO THEN a.monto ELSE 0 END) " +
+           "FROM MovimientoArchivado a " +
+           "WHERE a.fecha >= :fechaInicio AND a.fecha < :fechaFin " +
+           "GROUP BY YEAR(a.fecha), MONTH(a.fecha)")
+    List<Object[]> sumMontoGroupByMes(
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Igual que sumMontoGroupByMes, para un usuario
+     */
+    @Query("SELECT YEAR(a.fecha), MONTH(a.fecha), " +
+           "SUM(CASE WHEN a.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.INGRESO THEN a.monto ELSE 0 END), " +
+           "SUM(CASE WHEN a.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.GASTO THEN a.monto ELSE 0 END) " +
+           "FROM MovimientoArchivado a " +
+           "WHERE a.usuarioId = :usuarioId AND a.fecha >= :fechaInicio AND a.fecha < :fechaFin " +
+           "GROUP BY YEAR(a.fecha), MONTH(a.fecha)")
+    List<Object[]> sumMontoGroupByMesDeUsuario(
+            @Param("usuarioId") Long usuarioId,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Igual que MovimientoRepositoryInterface.resumirPorTipoYCategoria, sobre el archivo
+     * Columnas: tipo, nombre de categoría, cantidad, total, total del período
+     */
+    @Query("SELECT a.tipo, a.categoria.nombre, COUNT(a), SUM(a.monto), " +
+           "SUM(CASE WHEN a.fecha BETWEEN :fechaInicio AND :fechaFin THEN a.monto ELSE 0 END) " +
+           "FROM MovimientoArchivado a " +
+           "GROUP BY a.tipo, a.categoria.nombre")
+    List<Object[]> resumirPorTipoYCategoria(
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Igual que resumirPorTipoYCategoria, para un usuario
+     */
+    @Query("SELECT a.tipo, a.categoria.nombre, COUNT(a), SUM(a.monto), " +
+           "SUM(CASE WHEN a.fecha BETWEEN :fechaInicio AND :fechaFin THEN a.monto ELSE 0 END) " +
+           "FROM MovimientoArchivado a " +
+           "WHERE a.usuarioId = :usuarioId " +
+           "GROUP BY a.tipo, a.categoria.nombre")
+    List<Object[]> resumirPorTipoYCategoriaDeUsuario(
+            @Param("usuarioId") Long usuarioId,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Igual que MovimientoRepositoryInterface.sumMontoGroupByCategoriaYTipo, sobre el archivo
+     * Columnas: id de categoría, nombre, total ingresos, total gastos, cantidad
+     */
+    @Query("SELECT c.id, c.nombre, " +
+           "SUM(CASE WHEN a.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.INGRESO THEN a.monto ELSE 0 END), " +
+           "SUM(CASE WHEN a.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.GASTO THEN a.monto ELSE 0 END), " +
+           "COUNT(a) " +
+           "FROM MovimientoArchivado a JOIN a.categoria c " +
+           "WHERE a.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "GROUP BY c.id, c.nombre")
+    List<Object[]> sumMontoGroupByCategoriaYTipo(
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Igual que sumMontoGroupByCategoriaYTipo, para un usuario
+     */
+    @Query("SELECT c.id, c.nombre, " +
+           "SUM(CASE WHEN a.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.INGRESO THEN a.monto ELSE 0 END), " +
+           "SUM(CASE WHEN a.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.GASTO THEN a.monto ELSE 0 END), " +
+           "COUNT(a) " +
+           "FROM MovimientoArchivado a JOIN a.categoria c " +
+           "WHERE a.usuarioId = :usuarioId AND a.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "GROUP BY c.id, c.nombre")
+    List<Object[]> sumMontoGroupByCategoriaYTipoDeUsuario(
+            @Param("usuarioId") Long usuarioId,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Cantidad de movimientos archivados de una categoría
+     */
+    long countByCategoriaId(Long categoriaId);
+    
+    /**
+     * Igual que CategoriaRepositoryInterface.countMovimientosGroupByCategoria, sobre el archivo
+     * Cada fila contiene: [categoriaId, cantidad]
+     */
+    @Query("SELECT a.categoria.id, COUNT(a) FROM MovimientoArchivado a " +
+           "WHERE a.categoria IS NOT NULL " +
+           "GROUP BY a.categoria.id")
+    List<Object[]> countGroupByCategoria();
+}
\ No newline at end of file
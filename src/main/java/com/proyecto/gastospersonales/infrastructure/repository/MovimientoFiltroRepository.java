@@ -0,0 +1,20 @@
+package com.proyecto.gastospersonales.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.proyecto.gastospersonales.domain.dto.FiltroMovimientosDto;
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+
+/**
+ * Fragmento del repositorio de movimientos para consultas con criterios combinables
+ * Evita declarar un método derivado por cada combinación de filtros
+ */
+public interface MovimientoFiltroRepository {
+    
+    /**
+     * Movimientos que cumplen el filtro, ordenados por fecha e ID descendentes
+     * Si se indica una posición (fecha, id) se devuelven solo los posteriores a ella en ese orden
+     */
+    List<MovimientoResumenDto> filtrar(FiltroMovimientosDto filtro, LocalDateTime fechaCursor, Long idCursor, int limite);
+}
\ No newline at end of file
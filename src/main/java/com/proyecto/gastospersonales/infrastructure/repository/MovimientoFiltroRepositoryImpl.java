@@ -0,0 +1,94 @@
+package com.proyecto.gastospersonales.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.proyecto.gastospersonales.domain.dto.FiltroMovimientosDto;
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.Movimiento;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementación con Criteria API del filtrado de movimientos
+ * Solo se añaden a la consulta los predicados de los criterios indicados, de modo que la base
+ * aplica todo el filtro y puede elegir el índice adecuado para cada combinación
+ */
+public class MovimientoFiltroRepositoryImpl implements MovimientoFiltroRepository {
+    
+    private static final char ESCAPE_LIKE = '\\';
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<MovimientoResumenDto> filtrar(FiltroMovimientosDto filtro, LocalDateTime fechaCursor, Long idCursor, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MovimientoResumenDto> consulta = cb.createQuery(MovimientoResumenDto.class);
+        Root<Movimiento> m = consulta.from(Movimiento.class);
+        Join<Movimiento, Categoria> c = m.join("categoria");
+        
+        Path<LocalDateTime> fecha = m.get("fecha");
+        Path<Long> id = m.get("id");
+        
+        // Misma proyección que SELECT_RESUMEN en MovimientoRepositoryInterface
+        consulta.select(cb.construct(MovimientoResumenDto.class,
+                id, m.get("descripcion"), m.get("monto"), fecha, m.get("tipo"), c.get("id"), c.get("nombre")));
+        
+        List<Predicate> predicados = new ArrayList<>();
+        if (filtro.getUsuarioId() != null) {
+            predicados.add(cb.equal(m.get("usuarioId"), filtro.getUsuarioId()));
+        }
+        if (filtro.getTipo() != null) {
+            predicados.add(cb.equal(m.get("tipo"), filtro.getTipo()));
+        }
+        if (filtro.getCategoriaIds() != null && !filtro.getCategoriaIds().isEmpty()) {
+            predicados.add(c.get("id").in(filtro.getCategoriaIds()));
+        }
+        if (filtro.getDesde() != null) {
+            predicados.add(cb.greaterThanOrEqualTo(fecha, filtro.getDesde().atStartOfDay()));
+        }
+        if (filtro.getHasta() != null) {
+            predicados.add(cb.lessThan(fecha, filtro.getHasta().plusDays(1).atStartOfDay()));
+        }
+        if (filtro.getMontoMinimo() != null) {
+            predicados.add(cb.greaterThanOrEqualTo(m.get("monto"), filtro.getMontoMinimo()));
+        }
+        if (filtro.getMontoMaximo() != null) {
+            predicados.add(cb.lessThanOrEqualTo(m.get("monto"), filtro.getMontoMaximo()));
+        }
+        if (filtro.getTexto() != null && !filtro.getTexto().isBlank()) {
+            String patron = "%" + escaparLike(filtro.getTexto().trim().toLowerCase(Locale.ROOT)) + "%";
+            predicados.add(cb.like(cb.lower(m.get("descripcion")), patron, ESCAPE_LIKE));
+        }
+        if (fechaCursor != null && idCursor != null) {
+            predicados.add(cb.or(
+                    cb.lessThan(fecha, fechaCursor),
+                    cb.and(cb.equal(fecha, fechaCursor), cb.lessThan(id, idCursor))));
+        }
+        
+        consulta.where(predicados.toArray(new Predicate[0]));
+        consulta.orderBy(cb.desc(fecha), cb.desc(id));
+        
+        return entityManager.createQuery(consulta)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+    
+    /**
+     * Escapa los comodines de LIKE para que el texto se busque literalmente
+     */
+    private static String escaparLike(String texto) {
+        return texto.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
\ No newline at end of file
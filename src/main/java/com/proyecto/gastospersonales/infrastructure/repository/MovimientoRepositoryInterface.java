@@ -1,50 +1,83 @@
 package com.proyecto.gastospersonales.infrastructure.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
 import com.proyecto.gastospersonales.domain.model.Categoria;
 import com.proyecto.gastospersonales.domain.model.Movimiento;
 import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Interfaz del repositorio para manejar las operaciones de persistencia de Movimiento
  * Incluye consultas personalizadas para reportes y análisis financiero
+ * Los filtros por fecha se escriben como rangos directos sobre m.fecha, sin funciones sobre la columna,
+ * para que PostgreSQL descarte las particiones mensuales fuera del rango (ver V7__particion_movimiento.sql)
  */
 @Repository
-public interface MovimientoRepositoryInterface extends JpaRepository<Movimiento, Long> {
+public interface MovimientoRepositoryInterface extends JpaRepository<Movimiento, Long>, MovimientoFiltroRepository {
+    
+    /**
+     * Proyección común de los listados: evita cargar la entidad Categoria completa por cada fila
+     */
+    String SELECT_RESUMEN = "SELECT new com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto(" +
+                            "m.id, m.descripcion, m.monto, m.fecha, m.tipo, c.id, c.nombre) " +
+                            "FROM Movimiento m JOIN m.categoria c ";
+    
+    /**
+     * La categoría es LAZY; al buscar un movimiento por ID se trae en la misma consulta
+     */
+    @Override
+    @EntityGraph(attributePaths = "categoria")
+    Optional<Movimiento> findById(Long id);
     
     /**
      * Consultas por tipo de movimiento
      */
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findByTipoOrderByFechaDesc(TipoMovimiento tipo);
     
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findByTipoAndFechaBetweenOrderByFechaDesc(
             TipoMovimiento tipo, LocalDateTime fechaInicio, LocalDateTime fechaFin);
     
     /**
      * Consultas por categoría
      */
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findByCategoriaOrderByFechaDesc(Categoria categoria);
     
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findByCategoriaAndTipoOrderByFechaDesc(Categoria categoria, TipoMovimiento tipo);
     
     /**
      * Consultas por rango de fechas
      */
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findByFechaBetweenOrderByFechaDesc(LocalDateTime fechaInicio, LocalDateTime fechaFin);
     
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findByFechaAfterOrderByFechaDesc(LocalDateTime fecha);
     
     /**
      * Consultas por descripción
      */
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findByDescripcionContainingIgnoreCaseOrderByFechaDesc(String descripcion);
     
     /**
@@ -98,6 +131,62 @@ public interface MovimientoRepositoryInterface extends JpaRepository<Movimiento,
             @Param("fechaInicio") LocalDateTime fechaInicio, 
             @Param("fechaFin") LocalDateTime fechaFin);
     
+    /**
+     * Desglose por categoría de ingresos, gastos y cantidad de movimientos en un rango de fechas
+     * Columnas: id de categoría, nombre, total ingresos, total gastos, cantidad
+     */
+    @Query("SELECT c.id, c.nombre, " +
+           "SUM(CASE WHEN m.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.INGRESO THEN m.monto ELSE 0 END), " +
+           "SUM(CASE WHEN m.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.GASTO THEN m.monto ELSE 0 END), " +
+           "COUNT(m) " +
+           "FROM Movimiento m JOIN m.categoria c " +
+           "WHERE m.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "GROUP BY c.id, c.nombre")
+    List<Object[]> sumMontoGroupByCategoriaYTipo(
+            @Param("fechaInicio") LocalDateTime fechaInicio, 
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Serie mensual de ingresos y gastos en un rango semiabierto [fechaInicio, fechaFin)
+     * Columnas: año, mes, total ingresos, total gastos
+     */
+    @Query("SELECT YEAR(m.fecha), MONTH(m.fecha), " +
+           "SUM(CASE WHEN m.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.INGRESO THEN m.monto ELSE 0 END), " +
+           "SUM(CASE WHEN m.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.GASTO THEN m.monto ELSE 0 END) " +
+           "FROM Movimiento m " +
+           "WHERE m.fecha >= :fechaInicio AND m.fecha < :fechaFin " +
+           "GROUP BY YEAR(m.fecha), MONTH(m.fecha)")
+    List<Object[]> sumMontoGroupByMes(
+            @Param("fechaInicio") LocalDateTime fechaInicio, 
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Agregado único para el dashboard: cantidad y total por tipo y categoría,
+     * junto con el subtotal del período indicado, en un solo recorrido de la tabla
+     * Columnas: tipo, nombre de categoría, cantidad, total, total del período
+     */
+    @Query("SELECT m.tipo, m.categoria.nombre, COUNT(m), SUM(m.monto), " +
+           "SUM(CASE WHEN m.fecha BETWEEN :fechaInicio AND :fechaFin THEN m.monto ELSE 0 END) " +
+           "FROM Movimiento m " +
+           "GROUP BY m.tipo, m.categoria.nombre")
+    List<Object[]> resumirPorTipoYCategoria(
+            @Param("fechaInicio") LocalDateTime fechaInicio, 
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Totales por mes y tipo de un usuario, en caliente y archivados, para reconstruir sus saldos
+     * Una sola consulta sobre ambas tablas: ve una única instantánea aunque un archivado mueva filas a la vez
+     * Columnas: año, mes, tipo (texto), total, cantidad
+     */
+    @Query(value = "SELECT CAST(EXTRACT(YEAR FROM m.fecha) AS INTEGER), CAST(EXTRACT(MONTH FROM m.fecha) AS INTEGER), " +
+                   "m.tipo, SUM(m.monto), COUNT(*) " +
+                   "FROM (SELECT fecha, tipo, monto FROM movimiento WHERE usuario_id = :usuarioId " +
+                   "      UNION ALL " +
+                   "      SELECT fecha, tipo, monto FROM movimiento_archivo WHERE usuario_id = :usuarioId) m " +
+                   "GROUP BY CAST(EXTRACT(YEAR FROM m.fecha) AS INTEGER), CAST(EXTRACT(MONTH FROM m.fecha) AS INTEGER), m.tipo",
+           nativeQuery = true)
+    List<Object[]> sumMontoDeUsuarioGroupByMesYTipo(@Param("usuarioId") Long usuarioId);
+    
     /**
      * Consultas estadísticas
      */
@@ -116,26 +205,244 @@ public interface MovimientoRepositoryInterface extends JpaRepository<Movimiento,
     /**
      * Últimos movimientos
      */
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findTop10ByOrderByFechaDesc();
     
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findByUsuarioIdOrderByFechaDesc(Long usuarioId);
     
+    /**
+     * Últimos movimientos de un usuario como proyección ligera
+     * El límite del Pageable se traduce a LIMIT en SQL y recorre solo el índice (usuario_id, fecha DESC, id DESC)
+     */
+    @Query(SELECT_RESUMEN +
+           "WHERE m.usuarioId = :usuarioId " +
+           "ORDER BY m.fecha DESC, m.id DESC")
+    List<MovimientoResumenDto> findRecientesByUsuarioId(@Param("usuarioId") Long usuarioId, Pageable pageable);
+    
+    /**
+     * Movimientos de un usuario para exportar, con los mismos filtros que las búsquedas por fecha, tipo y categoría
+     * Se leen con un cursor de solo avance (fetch size) como proyección no gestionada, de modo que ni el
+     * driver ni el contexto de persistencia acumulan filas; el Stream debe consumirse dentro de una transacción
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESUMEN +
+           "WHERE m.usuarioId = :usuarioId " +
+           "AND m.fecha >= :fechaInicio AND m.fecha < :fechaFin " +
+           "AND (:tipo IS NULL OR m.tipo = :tipo) " +
+           "AND (:categoriaId IS NULL OR c.id = :categoriaId) " +
+           "ORDER BY m.fecha DESC, m.id DESC")
+    Stream<MovimientoResumenDto> streamParaExportar(
+            @Param("usuarioId") Long usuarioId,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("tipo") TipoMovimiento tipo,
+            @Param("categoriaId") Long categoriaId);
+    
+    /**
+     * Búsqueda de texto completo (solo PostgreSQL) sobre la descripción de los movimientos de un usuario
+     * Usa el índice GIN idx_movimiento_descripcion_fts; los resultados se ordenan por relevancia y fecha
+     * La consulta recibida ya debe estar en sintaxis tsquery (ver BusquedaMovimientosServiceImpl)
+     * Columnas: id, descripcion, monto, fecha, tipo, categoriaId, categoriaNombre
+     */
+    @Query(value = "SELECT m.id, m.descripcion, m.monto, m.fecha, m.tipo, c.id AS categoria_id, c.nombre AS categoria_nombre " +
+                   "FROM movimiento m JOIN categoria c ON c.id = m.categoria_id " +
+                   "WHERE m.usuario_id = :usuarioId " +
+                   "AND to_tsvector('spanish', m.descripcion) @@ to_tsquery('spanish', :consulta) " +
+                   "ORDER BY ts_rank(to_tsvector('spanish', m.descripcion), to_tsquery('spanish', :consulta)) DESC, " +
+                   "m.fecha DESC, m.id DESC " +
+                   "LIMIT :limite OFFSET :desplazamiento",
+           nativeQuery = true)
+    List<Object[]> buscarTextoCompleto(
+            @Param("usuarioId") Long usuarioId,
+            @Param("consulta") String consulta,
+            @Param("limite") int limite,
+            @Param("desplazamiento") int desplazamiento);
+    
+    /**
+     * Descripciones de todos los movimientos con usuario, agrupadas por usuario, para poblar el índice de sugerencias
+     * Columnas: usuarioId, id, descripcion
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m.usuarioId, m.id, m.descripcion FROM Movimiento m " +
+           "WHERE m.usuarioId IS NOT NULL " +
+           "ORDER BY m.usuarioId, m.id")
+    Stream<Object[]> streamDescripciones();
+    
+    /**
+     * Descripciones de los movimientos de un usuario, para poblar su índice de sugerencias
+     * Columnas: id, descripcion
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m.id, m.descripcion FROM Movimiento m " +
+           "WHERE m.usuarioId = :usuarioId " +
+           "ORDER BY m.id")
+    Stream<Object[]> streamDescripcionesDeUsuario(@Param("usuarioId") Long usuarioId);
+    
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findTop5ByTipoOrderByMontoDesc(TipoMovimiento tipo);
     
+    /**
+     * Movimientos en un rango semiabierto [fechaInicio, fechaFin)
+     * Predicado de rango directo sobre la columna para que pueda usar los índices por fecha
+     */
+    @EntityGraph(attributePaths = "categoria")
+    List<Movimiento> findByFechaGreaterThanEqualAndFechaLessThanOrderByFechaDesc(
+            LocalDateTime fechaInicio, LocalDateTime fechaFin);
+    
     /**
      * Movimientos del mes actual
      */
-    @Query("SELECT m FROM Movimiento m WHERE YEAR(m.fecha) = YEAR(CURRENT_DATE) AND MONTH(m.fecha) = MONTH(CURRENT_DATE) ORDER BY m.fecha DESC")
-    List<Movimiento> findMovimientosDelMesActual();
+    default List<Movimiento> findMovimientosDelMesActual() {
+        LocalDate inicioMes = LocalDate.now().withDayOfMonth(1);
+        return findByFechaGreaterThanEqualAndFechaLessThanOrderByFechaDesc(
+                inicioMes.atStartOfDay(), inicioMes.plusMonths(1).atStartOfDay());
+    }
     
     /**
      * Movimientos del año actual
      */
-    @Query("SELECT m FROM Movimiento m WHERE YEAR(m.fecha) = YEAR(CURRENT_DATE) ORDER BY m.fecha DESC")
-    List<Movimiento> findMovimientosDelAnioActual();
+    default List<Movimiento> findMovimientosDelAnioActual() {
+        LocalDate inicioAnio = LocalDate.now().withDayOfYear(1);
+        return findByFechaGreaterThanEqualAndFechaLessThanOrderByFechaDesc(
+                inicioAnio.atStartOfDay(), inicioAnio.plusYears(1).atStartOfDay());
+    }
     
     /**
      * Consulta general ordenada por fecha
      */
+    @EntityGraph(attributePaths = "categoria")
     List<Movimiento> findAllByOrderByFechaDesc();
+    
+    /**
+     * Listados como proyección, ordenados por fecha descendente
+     */
+    @Query(SELECT_RESUMEN + "ORDER BY m.fecha DESC, m.id DESC")
+    List<MovimientoResumenDto> findResumenes();
+    
+    @Query(SELECT_RESUMEN + "WHERE m.tipo = :tipo ORDER BY m.fecha DESC, m.id DESC")
+    List<MovimientoResumenDto> findResumenesByTipo(@Param("tipo") TipoMovimiento tipo);
+    
+    @Query(SELECT_RESUMEN + 
+           "WHERE LOWER(m.descripcion) LIKE LOWER(CONCAT('%', :texto, '%')) " +
+           "ORDER BY m.fecha DESC, m.id DESC")
+    List<MovimientoResumenDto> findResumenesByDescripcion(@Param("texto") String texto);
+    
+    /**
+     * Paginación por cursor (keyset) sobre (fecha, id) en orden descendente
+     * El tamaño de página se limita con el Pageable, sin consulta de conteo
+     */
+    @Query(SELECT_RESUMEN + "ORDER BY m.fecha DESC, m.id DESC")
+    List<MovimientoResumenDto> findPrimeraPagina(Pageable pageable);
+    
+    @Query(SELECT_RESUMEN + 
+           "WHERE m.fecha <= :fecha AND (m.fecha < :fecha OR m.id < :id) " +
+           "ORDER BY m.fecha DESC, m.id DESC")
+    List<MovimientoResumenDto> findPaginaDespuesDe(
+            @Param("fecha") LocalDateTime fecha, 
+            @Param("id") Long id, 
+            Pageable pageable);
+    
+    // ---------------------------------------------------------------------------------------------
+    // Variantes acotadas a un usuario
+    // Todas filtran por usuario_id, de modo que el coste depende del historial del usuario y no del
+    // total de la tabla; usan los índices (usuario_id, fecha DESC, id DESC) y (usuario_id, tipo, fecha)
+    // ---------------------------------------------------------------------------------------------
+    
+    @EntityGraph(attributePaths = "categoria")
+    Optional<Movimiento> findByIdAndUsuarioId(Long id, Long usuarioId);
+    
+    @Query(SELECT_RESUMEN + 
+           "WHERE m.usuarioId = :usuarioId AND m.tipo = :tipo " +
+           "ORDER BY m.fecha DESC, m.id DESC")
+    List<MovimientoResumenDto> findResumenesByUsuarioIdAndTipo(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("tipo") TipoMovimiento tipo);
+    
+    @Query(SELECT_RESUMEN + 
+           "WHERE m.usuarioId = :usuarioId " +
+           "AND m.fecha <= :fecha AND (m.fecha < :fecha OR m.id < :id) " +
+           "ORDER BY m.fecha DESC, m.id DESC")
+    List<MovimientoResumenDto> findPaginaDeUsuarioDespuesDe(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("fecha") LocalDateTime fecha, 
+            @Param("id") Long id, 
+            Pageable pageable);
+    
+    @EntityGraph(attributePaths = "categoria")
+    List<Movimiento> findByUsuarioIdAndFechaGreaterThanEqualAndFechaLessThanOrderByFechaDesc(
+            Long usuarioId, LocalDateTime fechaInicio, LocalDateTime fechaFin);
+    
+    @Query("SELECT COALESCE(SUM(m.monto), 0) FROM Movimiento m WHERE m.usuarioId = :usuarioId AND m.tipo = :tipo")
+    BigDecimal sumMontoByUsuarioIdAndTipo(@Param("usuarioId") Long usuarioId, @Param("tipo") TipoMovimiento tipo);
+    
+    @Query("SELECT COALESCE(SUM(m.monto), 0) FROM Movimiento m " +
+           "WHERE m.usuarioId = :usuarioId AND m.tipo = :tipo AND m.fecha BETWEEN :fechaInicio AND :fechaFin")
+    BigDecimal sumMontoByUsuarioIdAndTipoAndFechaBetween(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("tipo") TipoMovimiento tipo, 
+            @Param("fechaInicio") LocalDateTime fechaInicio, 
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    @Query("SELECT m.categoria, SUM(m.monto) as total " +
+           "FROM Movimiento m " +
+           "WHERE m.usuarioId = :usuarioId AND m.tipo = :tipo AND m.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "GROUP BY m.categoria " +
+           "ORDER BY total DESC")
+    List<Object[]> sumMontoByUsuarioIdAndTipoAndFechaGroupByCategoria(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("tipo") TipoMovimiento tipo, 
+            @Param("fechaInicio") LocalDateTime fechaInicio, 
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Igual que sumMontoGroupByCategoriaYTipo, para un usuario
+     */
+    @Query("SELECT c.id, c.nombre, " +
+           "SUM(CASE WHEN m.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.INGRESO THEN m.monto ELSE 0 END), " +
+           "SUM(CASE WHEN m.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.GASTO THEN m.monto ELSE 0 END), " +
+           "COUNT(m) " +
+           "FROM Movimiento m JOIN m.categoria c " +
+           "WHERE m.usuarioId = :usuarioId AND m.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "GROUP BY c.id, c.nombre")
+    List<Object[]> sumMontoGroupByCategoriaYTipoDeUsuario(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("fechaInicio") LocalDateTime fechaInicio, 
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Igual que sumMontoGroupByMes, para un usuario
+     */
+    @Query("SELECT YEAR(m.fecha), MONTH(m.fecha), " +
+           "SUM(CASE WHEN m.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.INGRESO THEN m.monto ELSE 0 END), " +
+           "SUM(CASE WHEN m.tipo = com.proyecto.gastospersonales.domain.model.TipoMovimiento.GASTO THEN m.monto ELSE 0 END) " +
+           "FROM Movimiento m " +
+           "WHERE m.usuarioId = :usuarioId AND m.fecha >= :fechaInicio AND m.fecha < :fechaFin " +
+           "GROUP BY YEAR(m.fecha), MONTH(m.fecha)")
+    List<Object[]> sumMontoGroupByMesDeUsuario(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("fechaInicio") LocalDateTime fechaInicio, 
+            @Param("fechaFin") LocalDateTime fechaFin);
+    
+    /**
+     * Igual que resumirPorTipoYCategoria, para un usuario
+     */
+    @Query("SELECT m.tipo, m.categoria.nombre, COUNT(m), SUM(m.monto), " +
+           "SUM(CASE WHEN m.fecha BETWEEN :fechaInicio AND :fechaFin THEN m.monto ELSE 0 END) " +
+           "FROM Movimiento m " +
+           "WHERE m.usuarioId = :usuarioId " +
+           "GROUP BY m.tipo, m.categoria.nombre")
+    List<Object[]> resumirPorTipoYCategoriaDeUsuario(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("fechaInicio") LocalDateTime fechaInicio, 
+            @Param("fechaFin") LocalDateTime fechaFin);
 }
\ No newline at end of file
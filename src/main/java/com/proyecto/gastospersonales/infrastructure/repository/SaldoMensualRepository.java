@@ -0,0 +1,83 @@
+package com.proyecto.gastospersonales.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.proyecto.gastospersonales.domain.model.SaldoMensual;
+
+/**
+ * Repositorio para los totales materializados por usuario y mes
+ */
+@Repository
+public interface SaldoMensualRepository extends JpaRepository<SaldoMensual, Long> {
+
+    /**
+     * Busca el saldo de un mes concreto
+     */
+    Optional<SaldoMensual> findByUsuarioIdAndAnioAndMes(Long usuarioId, Integer anio, Integer mes);
+
+    /**
+     * Obtiene todos los meses de un usuario, del más reciente al más antiguo
+     */
+    List<SaldoMensual> findByUsuarioIdOrderByAnioDescMesDesc(Long usuarioId);
+
+    /**
+     * Suma un delta al total del mes, creando la fila si aún no existe (solo PostgreSQL)
+     * Igual que en SaldoUsuarioRepository.acumular, el primer movimiento de cada mes no compite por la clave única
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO saldo_mensual (usuario_id, anio, mes, total_ingresos, total_gastos, cantidad_movimientos, fecha_actualizacion) " +
+                   "VALUES (:usuarioId, :anio, :mes, :ingresos, :gastos, :cantidad, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (usuario_id, anio, mes) DO UPDATE SET " +
+                   "total_ingresos = saldo_mensual.total_ingresos + EXCLUDED.total_ingresos, " +
+                   "total_gastos = saldo_mensual.total_gastos + EXCLUDED.total_gastos, " +
+                   "cantidad_movimientos = saldo_mensual.cantidad_movimientos + EXCLUDED.cantidad_movimientos, " +
+                   "fecha_actualizacion = EXCLUDED.fecha_actualizacion",
+           nativeQuery = true)
+    int acumular(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("anio") Integer anio, 
+            @Param("mes") Integer mes, 
+            @Param("ingresos") BigDecimal ingresos, 
+            @Param("gastos") BigDecimal gastos, 
+            @Param("cantidad") long cantidad);
+    
+    /**
+     * Variante de acumular con MERGE del estándar SQL, para bases sin ON CONFLICT (H2 en el perfil de pruebas)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO saldo_mensual s " +
+                   "USING (VALUES (CAST(:usuarioId AS BIGINT), CAST(:anio AS INTEGER), CAST(:mes AS INTEGER), " +
+                   "CAST(:ingresos AS DECIMAL(14, 2)), CAST(:gastos AS DECIMAL(14, 2)), CAST(:cantidad AS BIGINT))) " +
+                   "AS d (usuario_id, anio, mes, ingresos, gastos, cantidad) " +
+                   "ON s.usuario_id = d.usuario_id AND s.anio = d.anio AND s.mes = d.mes " +
+                   "WHEN MATCHED THEN UPDATE SET " +
+                   "total_ingresos = s.total_ingresos + d.ingresos, " +
+                   "total_gastos = s.total_gastos + d.gastos, " +
+                   "cantidad_movimientos = s.cantidad_movimientos + d.cantidad, " +
+                   "fecha_actualizacion = CURRENT_TIMESTAMP " +
+                   "WHEN NOT MATCHED THEN INSERT (usuario_id, anio, mes, total_ingresos, total_gastos, cantidad_movimientos, fecha_actualizacion) " +
+                   "VALUES (d.usuario_id, d.anio, d.mes, d.ingresos, d.gastos, d.cantidad, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int acumularConMerge(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("anio") Integer anio, 
+            @Param("mes") Integer mes, 
+            @Param("ingresos") BigDecimal ingresos, 
+            @Param("gastos") BigDecimal gastos, 
+            @Param("cantidad") long cantidad);
+    
+    /**
+     * Elimina todos los meses de un usuario antes de recalcularlos
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SaldoMensual s WHERE s.usuarioId = :usuarioId")
+    int deleteByUsuarioId(@Param("usuarioId") Long usuarioId);
+}
\ No newline at end of file
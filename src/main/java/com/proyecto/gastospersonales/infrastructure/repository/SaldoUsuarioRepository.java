@@ -0,0 +1,61 @@
+package com.proyecto.gastospersonales.infrastructure.repository;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.proyecto.gastospersonales.domain.model.SaldoUsuario;
+
+/**
+ * Repositorio para los totales materializados por usuario
+ */
+@Repository
+public interface SaldoUsuarioRepository extends JpaRepository<SaldoUsuario, Long> {
+
+    /**
+     * Suma un delta al total del usuario, creando la fila si aún no existe (solo PostgreSQL)
+     * El INSERT ... ON CONFLICT es atómico: dos primeras escrituras concurrentes no chocan con la clave,
+     * y la fila queda bloqueada hasta el final de la transacción
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO saldo_usuario (usuario_id, total_ingresos, total_gastos, cantidad_movimientos, fecha_actualizacion) " +
+                   "VALUES (:usuarioId, :ingresos, :gastos, :cantidad, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (usuario_id) DO UPDATE SET " +
+                   "total_ingresos = saldo_usuario.total_ingresos + EXCLUDED.total_ingresos, " +
+                   "total_gastos = saldo_usuario.total_gastos + EXCLUDED.total_gastos, " +
+                   "cantidad_movimientos = saldo_usuario.cantidad_movimientos + EXCLUDED.cantidad_movimientos, " +
+                   "fecha_actualizacion = EXCLUDED.fecha_actualizacion",
+           nativeQuery = true)
+    int acumular(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("ingresos") BigDecimal ingresos, 
+            @Param("gastos") BigDecimal gastos, 
+            @Param("cantidad") long cantidad);
+    
+    /**
+     * Variante de acumular con MERGE del estándar SQL, para bases sin ON CONFLICT (H2 en el perfil de pruebas)
+     * En PostgreSQL dos MERGE concurrentes sobre una fila inexistente pueden chocar con la clave: allí se usa acumular
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO saldo_usuario s " +
+                   "USING (VALUES (CAST(:usuarioId AS BIGINT), CAST(:ingresos AS DECIMAL(14, 2)), " +
+                   "CAST(:gastos AS DECIMAL(14, 2)), CAST(:cantidad AS BIGINT))) AS d (usuario_id, ingresos, gastos, cantidad) " +
+                   "ON s.usuario_id = d.usuario_id " +
+                   "WHEN MATCHED THEN UPDATE SET " +
+                   "total_ingresos = s.total_ingresos + d.ingresos, " +
+                   "total_gastos = s.total_gastos + d.gastos, " +
+                   "cantidad_movimientos = s.cantidad_movimientos + d.cantidad, " +
+                   "fecha_actualizacion = CURRENT_TIMESTAMP " +
+                   "WHEN NOT MATCHED THEN INSERT (usuario_id, total_ingresos, total_gastos, cantidad_movimientos, fecha_actualizacion) " +
+                   "VALUES (d.usuario_id, d.ingresos, d.gastos, d.cantidad, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int acumularConMerge(
+            @Param("usuarioId") Long usuarioId, 
+            @Param("ingresos") BigDecimal ingresos, 
+            @Param("gastos") BigDecimal gastos, 
+            @Param("cantidad") long cantidad);
+}
\ No newline at end of file
@@ -6,6 +6,7 @@ package com.proyecto.gastospersonales.interfaz.web;
 public class CategoriaRequest {
     private String nombre;
     private String descripcion;
+    private String tipo;
     
     public CategoriaRequest() {}
     
@@ -29,4 +30,12 @@ public class CategoriaRequest {
     public void setDescripcion(String descripcion) {
         this.descripcion = descripcion;
     }
+    
+    public String getTipo() {
+        return tipo;
+    }
+    
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.TipoCategoria;
 import com.proyecto.gastospersonales.domain.service.CategoriaService;
 
 /**
@@ -65,6 +66,14 @@ public class CategoriaRestController {
         }
     }
     
+    /**
+     * Obtiene las métricas de la caché de categorías
+     */
+    @GetMapping("/cache/estadisticas")
+    public ResponseEntity<Map<String, Object>> obtenerEstadisticasCache() {
+        return ResponseEntity.ok(categoriaService.obtenerEstadisticasCache());
+    }
+    
     /**
      * Obtiene categorías predefinidas
      */
@@ -132,7 +141,8 @@ public class CategoriaRestController {
                 return ResponseEntity.badRequest().body(Map.of("error", "El nombre de la categoría es requerido"));
             }
             
-            Categoria nuevaCategoria = categoriaService.crearCategoria(request.getNombre(), request.getDescripcion());
+            Categoria nuevaCategoria = categoriaService.crearCategoria(
+                request.getNombre(), request.getDescripcion(), parsearTipo(request.getTipo()));
             return ResponseEntity.status(HttpStatus.CREATED).body(nuevaCategoria);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -185,6 +195,19 @@ public class CategoriaRestController {
         }
     }
     
+    /**
+     * Obtiene la cantidad de movimientos por categoría (solo categorías en uso)
+     */
+    @GetMapping("/uso")
+    public ResponseEntity<Map<Long, Long>> obtenerUsoCategorias() {
+        try {
+            return ResponseEntity.ok(categoriaService.obtenerUsoCategorias());
+        } catch (Exception e) {
+            logger.error("Error obteniendo uso de categorias", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * Actualiza una categoría
      */
@@ -204,7 +227,7 @@ public class CategoriaRestController {
             }
             
             Categoria categoriaActualizada = categoriaService.actualizarCategoria(
-                id, request.getNombre(), request.getDescripcion());
+                id, request.getNombre(), request.getDescripcion(), parsearTipo(request.getTipo()));
             return ResponseEntity.ok(categoriaActualizada);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -236,4 +259,18 @@ public class CategoriaRestController {
                 .body(Map.of("error", "Error interno del servidor: " + e.getMessage()));
         }
     }
+    
+    /**
+     * Convierte el tipo recibido en el enum; null si no se indicó
+     */
+    private TipoCategoria parsearTipo(String tipo) {
+        if (tipo == null || tipo.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return TipoCategoria.valueOf(tipo.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de categoría inválido: " + tipo + ". Use INGRESO, GASTO o AMBOS");
+        }
+    }
 }
\ No newline at end of file
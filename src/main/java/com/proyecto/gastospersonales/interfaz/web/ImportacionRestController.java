@@ -0,0 +1,122 @@
+package com.proyecto.gastospersonales.interfaz.web;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.proyecto.gastospersonales.domain.model.FormatoImportacion;
+import com.proyecto.gastospersonales.domain.model.Importacion;
+import com.proyecto.gastospersonales.domain.model.Usuario;
+import com.proyecto.gastospersonales.domain.service.ImportacionService;
+
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Controlador REST para importar extractos bancarios (CSV u OFX)
+ * El archivo se recibe como multipart y se procesa por bloques sin cargarlo completo en memoria
+ */
+@RestController
+@RequestMapping("/api/importaciones")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173", "http://localhost:5174"}, allowCredentials = "true") // React/Vite dev servers
+public class ImportacionRestController {
+    
+    @Autowired
+    private ImportacionService importacionService;
+    private static final Logger logger = LoggerFactory.getLogger(ImportacionRestController.class);
+    
+    /**
+     * Importa un extracto del usuario autenticado
+     * El formato se deduce de la extensión si no se indica
+     */
+    @PostMapping
+    public ResponseEntity<?> importarExtracto(
+            @RequestParam("archivo") MultipartFile archivo,
+            @RequestParam(required = false) FormatoImportacion formato,
+            HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            if (archivo.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "El archivo está vacío"));
+            }
+            
+            FormatoImportacion formatoEfectivo = formato != null ? formato 
+                    : FormatoImportacion.desdeNombreArchivo(archivo.getOriginalFilename());
+            try (InputStream contenido = archivo.getInputStream()) {
+                Importacion importacion = importacionService.importarExtracto(
+                        contenido, archivo.getOriginalFilename(), formatoEfectivo, usuario.getId());
+                return ResponseEntity.status(HttpStatus.CREATED).body(importacion);
+            }
+        } catch (Exception e) {
+            logger.error("Error importando extracto", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Reanuda una importación interrumpida desde el último bloque confirmado
+     */
+    @PostMapping("/{id}/reanudar")
+    public ResponseEntity<?> reanudarImportacion(@PathVariable Long id, HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            return ResponseEntity.ok(importacionService.reanudarImportacion(id, usuario.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error reanudando importación {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Obtiene el estado y el progreso de una importación
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Importacion> obtenerImportacion(@PathVariable Long id, HttpSession session) {
+        Usuario usuario = (Usuario) session.getAttribute("usuario");
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        return importacionService.obtenerImportacion(id, usuario.getId())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Lista las importaciones del usuario, de la más reciente a la más antigua
+     */
+    @GetMapping
+    public ResponseEntity<List<Importacion>> obtenerImportaciones(HttpSession session) {
+        Usuario usuario = (Usuario) session.getAttribute("usuario");
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        return ResponseEntity.ok(importacionService.obtenerImportaciones(usuario.getId()));
+    }
+}
\ No newline at end of file
@@ -1,11 +1,19 @@
 package com.proyecto.gastospersonales.interfaz.web;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,10 +25,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.proyecto.gastospersonales.domain.dto.CategoriaResumenDto;
+import com.proyecto.gastospersonales.domain.dto.DashboardDto;
+import com.proyecto.gastospersonales.domain.dto.FiltroMovimientosDto;
+import com.proyecto.gastospersonales.domain.dto.MonthlySummaryDto;
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.dto.NuevoMovimientoDto;
+import com.proyecto.gastospersonales.domain.dto.PaginaCursorDto;
+import com.proyecto.gastospersonales.domain.dto.ResultadoLoteDto;
+import com.proyecto.gastospersonales.domain.model.FormatoExportacion;
 import com.proyecto.gastospersonales.domain.model.Movimiento;
 import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
 import com.proyecto.gastospersonales.domain.model.Usuario;
+import com.proyecto.gastospersonales.domain.service.BusquedaMovimientosService;
+import com.proyecto.gastospersonales.domain.service.ComposicionDashboardService;
+import com.proyecto.gastospersonales.domain.service.EstadisticasService;
+import com.proyecto.gastospersonales.domain.service.ExportacionService;
 import com.proyecto.gastospersonales.domain.service.MovimientoService;
 
 import jakarta.servlet.http.HttpSession;
@@ -37,26 +59,156 @@ public class MovimientoRestController {
     @Autowired
     private MovimientoService movimientoService;
     
+    @Autowired
+    private EstadisticasService estadisticasService;
+    
+    @Autowired
+    private ExportacionService exportacionService;
+    
+    @Autowired
+    private BusquedaMovimientosService busquedaMovimientosService;
+    
+    @Autowired
+    private ComposicionDashboardService composicionDashboardService;
+    
     /**
-     * Obtiene todos los movimientos
+     * Obtiene todos los movimientos del usuario
+     * Los listados devuelven proyecciones con el id y nombre de la categoría en lugar de la entidad completa
+     * Todos los endpoints de lectura y escritura se limitan a los movimientos del usuario de la sesión
      */
     @GetMapping
-    public ResponseEntity<List<Movimiento>> obtenerTodosLosMovimientos() {
+    public ResponseEntity<List<MovimientoResumenDto>> obtenerTodosLosMovimientos(HttpSession session) {
         try {
-            List<Movimiento> movimientos = movimientoService.obtenerTodosLosMovimientos();
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            List<MovimientoResumenDto> movimientos = movimientoService.listarMovimientos(usuario.getId());
             return ResponseEntity.ok(movimientos);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
+    /**
+     * Exporta los movimientos del usuario en CSV o NDJSON, opcionalmente comprimidos con gzip
+     * La respuesta se escribe a medida que se leen las filas, sin cargar la exportación en memoria
+     */
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarMovimientos(
+            @RequestParam(defaultValue = "CSV") FormatoExportacion formato,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(required = false) TipoMovimiento tipo,
+            @RequestParam(required = false) Long categoriaId,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpSession session) {
+        Usuario usuario = (Usuario) session.getAttribute("usuario");
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        if (desde != null && hasta != null && desde.isAfter(hasta)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        Long usuarioId = usuario.getId();
+        String nombreArchivo = "movimientos-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) 
+                + "." + formato.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody cuerpo = salida -> {
+            if (gzip) {
+                GZIPOutputStream comprimida = new GZIPOutputStream(salida, 64 * 1024);
+                exportacionService.exportarMovimientos(usuarioId, desde, hasta, tipo, categoriaId, formato, comprimida);
+                comprimida.finish();
+            } else {
+                exportacionService.exportarMovimientos(usuarioId, desde, hasta, tipo, categoriaId, formato, salida);
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nombreArchivo + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : formato.getTipoContenido()))
+                .body(cuerpo);
+    }
+    
+    /**
+     * Obtiene los movimientos paginados por cursor
+     * La primera página se pide sin cursor; las siguientes reenvían el siguienteCursor recibido
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaCursorDto<MovimientoResumenDto>> obtenerMovimientosPaginados(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanio,
+            HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            PaginaCursorDto<MovimientoResumenDto> pagina = 
+                    movimientoService.obtenerMovimientosPaginados(usuario.getId(), cursor, tamanio);
+            return ResponseEntity.ok(pagina);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Filtra los movimientos del usuario por cualquier combinación de criterios
+     * categoriaId puede repetirse para filtrar por varias categorías; la paginación es por cursor como en /pagina
+     */
+    @GetMapping("/filtrar")
+    public ResponseEntity<PaginaCursorDto<MovimientoResumenDto>> filtrarMovimientos(
+            @RequestParam(required = false) TipoMovimiento tipo,
+            @RequestParam(name = "categoriaId", required = false) List<Long> categoriaIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(required = false) BigDecimal montoMinimo,
+            @RequestParam(required = false) BigDecimal montoMaximo,
+            @RequestParam(required = false) String texto,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanio,
+            HttpSession session) {
+        Usuario usuario = (Usuario) session.getAttribute("usuario");
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        FiltroMovimientosDto filtro = new FiltroMovimientosDto();
+        filtro.setUsuarioId(usuario.getId());
+        filtro.setTipo(tipo);
+        filtro.setCategoriaIds(categoriaIds);
+        filtro.setDesde(desde);
+        filtro.setHasta(hasta);
+        filtro.setMontoMinimo(montoMinimo);
+        filtro.setMontoMaximo(montoMaximo);
+        filtro.setTexto(texto);
+        
+        try {
+            return ResponseEntity.ok(movimientoService.filtrarMovimientos(filtro, cursor, tamanio));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * Obtiene un movimiento por ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Movimiento> obtenerMovimientoPorId(@PathVariable Long id) {
+    public ResponseEntity<Movimiento> obtenerMovimientoPorId(@PathVariable Long id, HttpSession session) {
         try {
-            Optional<Movimiento> movimiento = movimientoService.obtenerMovimientoPorId(id);
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            Optional<Movimiento> movimiento = movimientoService.obtenerMovimientoPorId(id, usuario.getId());
             return movimiento.map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
@@ -102,6 +254,29 @@ public class MovimientoRestController {
         }
     }
     
+    /**
+     * Registra un lote de movimientos del usuario en una sola petición
+     * Responde con el número de filas insertadas y los errores de validación por fila
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<ResultadoLoteDto> registrarLote(
+            @RequestBody List<NuevoMovimientoDto> movimientos,
+            HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            ResultadoLoteDto resultado = movimientoService.registrarLote(movimientos, usuario.getId());
+            return ResponseEntity.ok(resultado);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * Registra un nuevo gasto
      */
@@ -158,9 +333,16 @@ public class MovimientoRestController {
      * Obtiene movimientos por tipo
      */
     @GetMapping("/tipo/{tipo}")
-    public ResponseEntity<List<Movimiento>> obtenerMovimientosPorTipo(@PathVariable TipoMovimiento tipo) {
+    public ResponseEntity<List<MovimientoResumenDto>> obtenerMovimientosPorTipo(
+            @PathVariable TipoMovimiento tipo,
+            HttpSession session) {
         try {
-            List<Movimiento> movimientos = movimientoService.obtenerMovimientosPorTipo(tipo);
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            List<MovimientoResumenDto> movimientos = movimientoService.listarMovimientosPorTipo(usuario.getId(), tipo);
             return ResponseEntity.ok(movimientos);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -168,30 +350,89 @@ public class MovimientoRestController {
     }
     
     /**
-     * Busca movimientos por texto
+     * Busca movimientos del usuario por texto, ordenados por relevancia y paginados
      */
     @GetMapping("/buscar")
-    public ResponseEntity<List<Movimiento>> buscarMovimientos(@RequestParam String q) {
+    public ResponseEntity<List<MovimientoResumenDto>> buscarMovimientos(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "20") int tamanio,
+            HttpSession session) {
         try {
-            List<Movimiento> movimientos = movimientoService.buscarMovimientos(q);
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            List<MovimientoResumenDto> movimientos = 
+                    busquedaMovimientosService.buscar(usuario.getId(), q, pagina, tamanio);
             return ResponseEntity.ok(movimientos);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
+    /**
+     * Sugerencias de autocompletado para la caja de búsqueda
+     * Se responden desde un índice en memoria del usuario, sin consultar la base de datos
+     */
+    @GetMapping("/sugerencias")
+    public ResponseEntity<List<String>> obtenerSugerencias(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limite,
+            HttpSession session) {
+        Usuario usuario = (Usuario) session.getAttribute("usuario");
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        try {
+            return ResponseEntity.ok(busquedaMovimientosService.sugerir(usuario.getId(), q, limite));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Métricas del índice de sugerencias en memoria
+     */
+    @GetMapping("/sugerencias/estadisticas")
+    public ResponseEntity<Map<String, Object>> obtenerEstadisticasSugerencias(HttpSession session) {
+        Usuario usuario = (Usuario) session.getAttribute("usuario");
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(busquedaMovimientosService.obtenerEstadisticasSugerencias());
+    }
+    
     /**
      * Obtiene estadísticas generales
+     * Todos los agregados se calculan con una sola consulta en el motor de estadísticas
      */
     @GetMapping("/estadisticas")
-    public ResponseEntity<Map<String, Object>> obtenerEstadisticas() {
+    public ResponseEntity<Map<String, Object>> obtenerEstadisticas(HttpSession session) {
         try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            DashboardDto dashboard = estadisticasService.obtenerDashboard(usuario.getId());
             Map<String, Object> estadisticas = Map.of(
-                "totalIngresos", movimientoService.calcularTotalIngresos(),
-                "totalGastos", movimientoService.calcularTotalGastos(),
-                "balance", movimientoService.calcularBalanceTotal(),
-                "resumenMensual", movimientoService.obtenerResumenMensual(),
-                "gastosPorCategoria", movimientoService.obtenerGastosPorCategoriaDelMes()
+                "totalIngresos", dashboard.getTotalIngresos(),
+                "totalGastos", dashboard.getTotalGastos(),
+                "balance", dashboard.getBalance(),
+                "totalMovimientos", dashboard.getTotalMovimientos(),
+                "resumenMensual", Map.of(
+                    "ingresos", dashboard.getIngresosDelMes(),
+                    "gastos", dashboard.getGastosDelMes(),
+                    "balance", dashboard.getBalanceDelMes()
+                ),
+                "gastosPorCategoria", dashboard.getGastosPorCategoriaDelMes()
             );
             return ResponseEntity.ok(estadisticas);
         } catch (Exception e) {
@@ -199,11 +440,88 @@ public class MovimientoRestController {
         }
     }
     
+    /**
+     * Obtiene el dashboard completo en una sola petición: resumen, últimos movimientos,
+     * serie de los últimos meses y gastos por categoría del mes, calculados en paralelo
+     * Las partes que no estén a tiempo se omiten y se listan en partesNoDisponibles
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<Map<String, Object>> obtenerDashboard(HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            Map<String, Object> dashboard = composicionDashboardService.obtenerDashboard(usuario.getId());
+            if (!((List<?>) dashboard.get("partesNoDisponibles")).isEmpty()) {
+                // Un dashboard incompleto no debe quedar guardado con el ETag de los datos: que se pida entero
+                return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(dashboard);
+            }
+            return ResponseEntity.ok(dashboard);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Obtiene el desglose de ingresos y gastos por categoría en un rango de fechas opcional
+     */
+    @GetMapping("/resumen-categorias")
+    public ResponseEntity<List<CategoriaResumenDto>> obtenerResumenPorCategorias(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            if (desde != null && hasta != null && desde.isAfter(hasta)) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            List<CategoriaResumenDto> resumen = estadisticasService.obtenerResumenPorCategorias(usuario.getId(), desde, hasta);
+            return ResponseEntity.ok(resumen);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Obtiene la serie mensual de ingresos, gastos y balance
+     * Con anio devuelve los doce meses de ese año; si no, los últimos meses indicados
+     */
+    @GetMapping("/resumen-mensual")
+    public ResponseEntity<List<MonthlySummaryDto>> obtenerResumenMensual(
+            @RequestParam(required = false) Integer anio,
+            @RequestParam(defaultValue = "12") int meses,
+            HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            if (meses < 1 || meses > 120) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            List<MonthlySummaryDto> serie = anio != null
+                    ? estadisticasService.obtenerResumenAnual(usuario.getId(), anio)
+                    : estadisticasService.obtenerResumenMensual(usuario.getId(), meses);
+            return ResponseEntity.ok(serie);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * Obtiene los últimos movimientos
      */
     @GetMapping("/recientes")
-    public ResponseEntity<List<Movimiento>> obtenerUltimosMovimientos(
+    public ResponseEntity<List<MovimientoResumenDto>> obtenerUltimosMovimientos(
             @RequestParam(defaultValue = "10") int limit,
             HttpSession session) {
         try {
@@ -212,7 +530,7 @@ public class MovimientoRestController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
             
-            List<Movimiento> movimientos = movimientoService.obtenerUltimosMovimientos(usuario.getId(), limit);
+            List<MovimientoResumenDto> movimientos = movimientoService.obtenerUltimosMovimientos(usuario.getId(), limit);
             return ResponseEntity.ok(movimientos);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -225,10 +543,16 @@ public class MovimientoRestController {
     @PutMapping("/{id}")
     public ResponseEntity<Movimiento> actualizarMovimiento(
             @PathVariable Long id,
-            @RequestBody MovimientoRequest request) {
+            @RequestBody MovimientoRequest request,
+            HttpSession session) {
         try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
             Movimiento movimientoActualizado = movimientoService.actualizarMovimiento(
-                    id, request.getDescripcion(), request.getMonto(), request.getCategoriaId());
+                    id, usuario.getId(), request.getDescripcion(), request.getMonto(), request.getCategoriaId());
             return ResponseEntity.ok(movimientoActualizado);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
@@ -241,9 +565,14 @@ public class MovimientoRestController {
      * Elimina un movimiento
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> eliminarMovimiento(@PathVariable Long id) {
+    public ResponseEntity<Void> eliminarMovimiento(@PathVariable Long id, HttpSession session) {
         try {
-            movimientoService.eliminarMovimiento(id);
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            movimientoService.eliminarMovimiento(id, usuario.getId());
             return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
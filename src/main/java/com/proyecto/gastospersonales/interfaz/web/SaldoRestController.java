@@ -0,0 +1,101 @@
+package com.proyecto.gastospersonales.interfaz.web;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.proyecto.gastospersonales.domain.dto.DashboardDto;
+import com.proyecto.gastospersonales.domain.dto.MonthlySummaryDto;
+import com.proyecto.gastospersonales.domain.model.Usuario;
+import com.proyecto.gastospersonales.domain.service.SaldoService;
+
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Controlador REST para los saldos materializados del usuario
+ * Las lecturas son búsquedas por clave, sin recorrer la tabla de movimientos
+ */
+@RestController
+@RequestMapping("/api/saldos")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173", "http://localhost:5174"}, allowCredentials = "true") // React/Vite dev servers
+public class SaldoRestController {
+    
+    @Autowired
+    private SaldoService saldoService;
+    private static final Logger logger = LoggerFactory.getLogger(SaldoRestController.class);
+    
+    /**
+     * Obtiene los totales del usuario autenticado y los del mes actual
+     */
+    @GetMapping
+    public ResponseEntity<DashboardDto> obtenerSaldo(HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            return ResponseEntity.ok(saldoService.obtenerResumenUsuario(usuario.getId()));
+        } catch (Exception e) {
+            logger.error("Error obteniendo saldo del usuario", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Obtiene los totales de un mes concreto del usuario autenticado
+     */
+    @GetMapping("/{anio}/{mes}")
+    public ResponseEntity<MonthlySummaryDto> obtenerSaldoMensual(
+            @PathVariable int anio,
+            @PathVariable int mes,
+            HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            if (mes < 1 || mes > 12) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            return ResponseEntity.ok(saldoService.obtenerSaldoMensual(usuario.getId(), anio, mes));
+        } catch (Exception e) {
+            logger.error("Error obteniendo saldo mensual {}-{}", anio, mes, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Recalcula los saldos del usuario autenticado desde sus movimientos
+     */
+    @PostMapping("/reconstruir")
+    public ResponseEntity<Map<String, Object>> reconstruirSaldos(HttpSession session) {
+        try {
+            Usuario usuario = (Usuario) session.getAttribute("usuario");
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            
+            saldoService.reconstruirSaldos(usuario.getId());
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "Saldos reconstruidos correctamente"
+            ));
+        } catch (Exception e) {
+            logger.error("Error reconstruyendo saldos", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", "Error interno del servidor"));
+        }
+    }
+}
\ No newline at end of file
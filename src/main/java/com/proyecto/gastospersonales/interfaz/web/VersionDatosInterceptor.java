@@ -0,0 +1,68 @@
+package com.proyecto.gastospersonales.interfaz.web;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.proyecto.gastospersonales.application.service.VersionesDatos;
+import com.proyecto.gastospersonales.domain.model.Usuario;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * GET condicional para las lecturas de movimientos y categorías
+ * El ETag se calcula con la versión en memoria de los datos, antes de llegar al controlador:
+ * si coincide con If-None-Match se responde 304 sin consultar la base ni serializar nada
+ */
+@Component
+public class VersionDatosInterceptor implements HandlerInterceptor {
+    
+    // Métricas y descargas: su contenido no depende solo de la versión de los datos
+    private static final Set<String> EXCLUIDAS = Set.of(
+            "/api/movimientos/exportar",
+            "/api/movimientos/sugerencias/estadisticas",
+            "/api/categorias/cache/estadisticas");
+    
+    // Lecturas de categorías que cuentan movimientos
+    private static final Set<String> CATEGORIAS_CON_USO = Set.of(
+            "/api/categorias/vacias",
+            "/api/categorias/con-movimientos",
+            "/api/categorias/uso");
+    
+    @Autowired
+    private VersionesDatos versionesDatos;
+    
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        if (EXCLUIDAS.contains(ruta)) {
+            return true;
+        }
+    
+        String etag;
+        if (ruta.startsWith("/api/categorias")) {
+            etag = versionesDatos.etagCategorias(CATEGORIAS_CON_USO.contains(ruta));
+        } else {
+            HttpSession session = request.getSession(false);
+            Usuario usuario = session != null ? (Usuario) session.getAttribute("usuario") : null;
+            if (usuario == null) {
+                return true;
+            }
+            etag = versionesDatos.etagMovimientos(usuario.getId());
+        }
+    
+        // El cliente debe revalidar siempre; la respuesta es propia de la sesión
+        response.setHeader("Cache-Control", "private, no-cache");
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
\ No newline at end of file
@@ -3,61 +3,61 @@
 -- Usando caracteres sin acentos para evitar problemas de codificacion
 
 -- Insertar categorias predefinidas si no existen
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Alimentacion', 'Gastos relacionados con comida y bebida', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Alimentacion', 'Gastos relacionados con comida y bebida', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Alimentacion');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Transporte', 'Gastos de movilizacion y transporte', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Transporte', 'Gastos de movilizacion y transporte', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Transporte');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Entretenimiento', 'Gastos de ocio, entretenimiento y diversion', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Entretenimiento', 'Gastos de ocio, entretenimiento y diversion', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Entretenimiento');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Salud', 'Gastos medicos y de salud', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Salud', 'Gastos medicos y de salud', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Salud');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Educacion', 'Gastos educativos y de formacion', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Educacion', 'Gastos educativos y de formacion', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Educacion');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Servicios', 'Servicios basicos como luz, agua, internet', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Servicios', 'Servicios basicos como luz, agua, internet', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Servicios');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Ropa', 'Gastos en vestimenta y calzado', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Ropa', 'Gastos en vestimenta y calzado', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Ropa');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Hogar', 'Gastos del hogar y decoracion', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Hogar', 'Gastos del hogar y decoracion', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Hogar');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Tecnologia', 'Gastos en dispositivos y software', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Tecnologia', 'Gastos en dispositivos y software', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Tecnologia');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Otros', 'Otros gastos no categorizados', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Otros', 'Otros gastos no categorizados', true, 'GASTO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Otros');
 
 -- Categorias para ingresos
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Salario', 'Ingresos por trabajo', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Salario', 'Ingresos por trabajo', true, 'INGRESO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Salario');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Inversiones', 'Ingresos por inversiones', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Inversiones', 'Ingresos por inversiones', true, 'INGRESO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Inversiones');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Negocios', 'Ingresos por actividades comerciales', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Negocios', 'Ingresos por actividades comerciales', true, 'INGRESO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Negocios');
 
-INSERT INTO categoria (nombre, descripcion, es_predefinida) 
-SELECT 'Otros Ingresos', 'Otros tipos de ingresos', true
+INSERT INTO categoria (nombre, descripcion, es_predefinida, tipo) 
+SELECT 'Otros Ingresos', 'Otros tipos de ingresos', true, 'INGRESO'
 WHERE NOT EXISTS (SELECT 1 FROM categoria WHERE nombre = 'Otros Ingresos');
 
 -- Usuario por defecto para testing
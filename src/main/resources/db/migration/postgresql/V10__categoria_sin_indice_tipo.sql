@@ -0,0 +1,5 @@
+-- Retira el índice (tipo, nombre) creado en V5
+-- Los listados de categorías para gastos o ingresos se filtran sobre la caché en memoria y ninguna consulta
+-- filtra categoria por tipo; con unas pocas filas la tabla se lee entera de todos modos
+
+DROP INDEX IF EXISTS idx_categoria_tipo;
\ No newline at end of file
@@ -0,0 +1,51 @@
+-- Esquema inicial del Gestor de Gastos Personales
+-- En bases de datos existentes esta versión se marca como línea base (spring.flyway.baseline-on-migrate)
+
+CREATE TABLE IF NOT EXISTS usuario (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    nombre_completo VARCHAR(150) NOT NULL,
+    activo BOOLEAN NOT NULL DEFAULT TRUE,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ultimo_acceso TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS categoria (
+    id BIGSERIAL PRIMARY KEY,
+    nombre VARCHAR(50) NOT NULL UNIQUE,
+    descripcion VARCHAR(200),
+    es_predefinida BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS movimiento (
+    id BIGSERIAL PRIMARY KEY,
+    descripcion VARCHAR(200) NOT NULL,
+    monto DECIMAL(12,2) NOT NULL,
+    fecha TIMESTAMP NOT NULL,
+    tipo VARCHAR(20) NOT NULL,
+    categoria_id BIGINT NOT NULL REFERENCES categoria(id),
+    usuario_id BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS saldo_usuario (
+    usuario_id BIGINT PRIMARY KEY,
+    total_ingresos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    total_gastos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    cantidad_movimientos BIGINT NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS saldo_mensual (
+    id BIGSERIAL PRIMARY KEY,
+    usuario_id BIGINT NOT NULL,
+    anio INTEGER NOT NULL,
+    mes INTEGER NOT NULL,
+    total_ingresos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    total_gastos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    cantidad_movimientos BIGINT NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_saldo_mensual_usuario_periodo UNIQUE (usuario_id, anio, mes)
+);
\ No newline at end of file
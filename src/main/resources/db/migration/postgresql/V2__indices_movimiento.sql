@@ -0,0 +1,20 @@
+-- Índices compuestos para las consultas de movimientos
+-- Todas las búsquedas filtran por usuario, tipo, fecha o categoría y ordenan por fecha descendente
+
+-- Listados y paginación por cursor de un usuario: WHERE usuario_id = ? ORDER BY fecha DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_movimiento_usuario_fecha
+    ON movimiento (usuario_id, fecha DESC, id DESC);
+
+-- Totales y filtros por tipo dentro de un rango de fechas
+CREATE INDEX IF NOT EXISTS idx_movimiento_usuario_tipo_fecha
+    ON movimiento (usuario_id, tipo, fecha);
+
+-- Búsquedas por categoría y verificación de categorías en uso
+CREATE INDEX IF NOT EXISTS idx_movimiento_categoria
+    ON movimiento (categoria_id);
+
+-- Listados globales y rangos de fechas sin filtro de usuario
+CREATE INDEX IF NOT EXISTS idx_movimiento_fecha
+    ON movimiento (fecha DESC, id DESC);
+
+ANALYZE movimiento;
\ No newline at end of file
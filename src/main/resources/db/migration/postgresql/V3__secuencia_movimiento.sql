@@ -0,0 +1,23 @@
+-- Identificadores de movimiento por secuencia con asignación en bloques
+-- IDENTITY obliga a Hibernate a insertar fila por fila; con la secuencia los INSERT se agrupan en lotes JDBC
+-- El incremento debe coincidir con allocationSize de Movimiento
+
+CREATE SEQUENCE IF NOT EXISTS movimiento_seq INCREMENT BY 50;
+
+-- Hibernate reserva los identificadores (valor - 49 .. valor), así que el primer valor
+-- entregado debe dejar libre todo el bloque por encima del máximo existente
+SELECT setval('movimiento_seq', COALESCE((SELECT MAX(id) FROM movimiento), 0) + 50, false);
+
+-- La columna deja de depender de su generador original: columna IDENTITY (esquemas creados por
+-- Hibernate o con GENERATED ... AS IDENTITY) o BIGSERIAL (setup-database.sql, V1)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_attribute
+               WHERE attrelid = 'movimiento'::regclass AND attname = 'id' AND attidentity <> '') THEN
+        -- La secuencia de la identidad se elimina con ella
+        ALTER TABLE movimiento ALTER COLUMN id DROP IDENTITY IF EXISTS;
+    ELSE
+        ALTER TABLE movimiento ALTER COLUMN id DROP DEFAULT;
+        DROP SEQUENCE IF EXISTS movimiento_id_seq;
+    END IF;
+END $$;
\ No newline at end of file
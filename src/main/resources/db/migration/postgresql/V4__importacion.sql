@@ -0,0 +1,19 @@
+-- Progreso de las importaciones de extractos bancarios
+-- filas_procesadas se confirma junto con cada bloque de movimientos para poder reanudar sin duplicar filas
+
+CREATE TABLE IF NOT EXISTS importacion (
+    id BIGSERIAL PRIMARY KEY,
+    usuario_id BIGINT NOT NULL,
+    nombre_archivo VARCHAR(255) NOT NULL,
+    formato VARCHAR(10) NOT NULL,
+    ruta_archivo VARCHAR(500) NOT NULL,
+    estado VARCHAR(20) NOT NULL,
+    filas_procesadas BIGINT NOT NULL DEFAULT 0,
+    filas_insertadas BIGINT NOT NULL DEFAULT 0,
+    filas_con_error BIGINT NOT NULL DEFAULT 0,
+    ultimo_error VARCHAR(500),
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_importacion_usuario ON importacion (usuario_id, fecha_creacion DESC);
\ No newline at end of file
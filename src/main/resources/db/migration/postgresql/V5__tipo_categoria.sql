@@ -0,0 +1,19 @@
+-- Clasificación persistida de cada categoría como de ingreso, de gasto o de ambos
+-- Sustituye la comparación por nombre que se hacía en cada listado de categorías
+
+ALTER TABLE categoria
+    ADD COLUMN IF NOT EXISTS tipo VARCHAR(10) NOT NULL DEFAULT 'GASTO';
+
+-- Rellenar las categorías existentes con la clasificación que antes se deducía del nombre
+UPDATE categoria
+   SET tipo = 'INGRESO'
+ WHERE LOWER(nombre) IN ('salario', 'inversiones', 'negocios', 'otros ingresos', 'regalos');
+
+ALTER TABLE categoria
+    ADD CONSTRAINT chk_categoria_tipo CHECK (tipo IN ('INGRESO', 'GASTO', 'AMBOS'));
+
+-- Listados de categorías para gastos o ingresos ordenados por nombre
+CREATE INDEX IF NOT EXISTS idx_categoria_tipo
+    ON categoria (tipo, nombre);
+
+ANALYZE categoria;
\ No newline at end of file
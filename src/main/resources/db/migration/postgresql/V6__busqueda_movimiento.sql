@@ -0,0 +1,8 @@
+-- Búsqueda de texto completo sobre la descripción de los movimientos
+-- Sustituye el LOWER(descripcion) LIKE '%texto%' que obligaba a recorrer la tabla entera
+
+-- Índice GIN sobre el tsvector en español; las consultas deben usar exactamente la misma expresión
+CREATE INDEX IF NOT EXISTS idx_movimiento_descripcion_fts
+    ON movimiento USING GIN (to_tsvector('spanish', descripcion));
+
+ANALYZE movimiento;
\ No newline at end of file
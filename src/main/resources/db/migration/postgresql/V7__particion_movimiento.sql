@@ -0,0 +1,94 @@
+-- Particionado declarativo de movimiento por rango mensual de fecha
+-- Los reportes filtran casi siempre por un rango de fechas: con particiones mensuales el planificador
+-- descarta los meses fuera del rango y el costo de un reporte mensual no crece con el historial
+
+-- La clave primaria de una tabla particionada debe incluir la columna de partición
+-- El id sigue siendo único porque lo asigna la secuencia movimiento_seq
+
+ALTER TABLE movimiento RENAME TO movimiento_sin_particionar;
+
+CREATE TABLE movimiento (
+    LIKE movimiento_sin_particionar INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (id, fecha)
+) PARTITION BY RANGE (fecha);
+
+-- Recoge las filas fuera de los meses creados; el mantenimiento las mueve a su partición al crearla
+CREATE TABLE movimiento_default PARTITION OF movimiento DEFAULT;
+
+-- Crea las particiones mensuales (movimiento_pAAAA_MM) entre dos fechas, ambas inclusive por mes
+-- Idempotente: los meses existentes se omiten. Devuelve la cantidad de particiones creadas
+-- La invoca MantenimientoParticiones para tener siempre creados los meses siguientes
+CREATE OR REPLACE FUNCTION crear_particiones_movimiento(desde DATE, hasta DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    mes DATE := date_trunc('month', desde)::date;
+    siguiente DATE;
+    nombre TEXT;
+    creadas INTEGER := 0;
+BEGIN
+    WHILE mes <= hasta LOOP
+        siguiente := (mes + INTERVAL '1 month')::date;
+        nombre := 'movimiento_p' || to_char(mes, 'YYYY_MM');
+
+        IF to_regclass(nombre) IS NULL THEN
+            -- Se crea suelta, se le pasan las filas del mes que hubieran caído en la partición por defecto
+            -- y recién entonces se adjunta; adjuntar crea los índices del padre en la partición nueva
+            EXECUTE format('CREATE TABLE %I (LIKE movimiento INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', nombre);
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (fecha >= %L AND fecha < %L)',
+                           nombre, nombre || '_rango', mes, siguiente);
+            EXECUTE format('WITH movidas AS (DELETE FROM movimiento_default WHERE fecha >= %L AND fecha < %L RETURNING *) '
+                           'INSERT INTO %I SELECT * FROM movidas', mes, siguiente, nombre);
+            EXECUTE format('ALTER TABLE movimiento ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           nombre, mes, siguiente);
+            -- El CHECK solo sirve para que ATTACH no tenga que recorrer la tabla
+            EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', nombre, nombre || '_rango');
+            creadas := creadas + 1;
+        END IF;
+
+        mes := siguiente;
+    END LOOP;
+    RETURN creadas;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Un mes por partición desde el movimiento más antiguo hasta tres meses por delante
+SELECT crear_particiones_movimiento(
+    COALESCE((SELECT MIN(fecha) FROM movimiento_sin_particionar)::date, CURRENT_DATE),
+    (CURRENT_DATE + INTERVAL '3 months')::date);
+
+INSERT INTO movimiento SELECT * FROM movimiento_sin_particionar;
+
+-- Las claves foráneas no se copian con LIKE: se recrean las que tuviera la tabla original
+-- (categoria en el esquema inicial; también usuario en las bases creadas con setup-database.sql)
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN SELECT conname, pg_get_constraintdef(oid) AS definicion
+              FROM pg_constraint
+              WHERE conrelid = 'movimiento_sin_particionar'::regclass AND contype = 'f' LOOP
+        EXECUTE format('ALTER TABLE movimiento_sin_particionar DROP CONSTRAINT %I', fk.conname);
+        EXECUTE format('ALTER TABLE movimiento ADD CONSTRAINT %I %s', fk.conname, fk.definicion);
+    END LOOP;
+END;
+$$;
+
+DROP TABLE movimiento_sin_particionar;
+
+-- Índices de V2 y V6, ahora particionados: cada partición tiene los suyos
+CREATE INDEX IF NOT EXISTS idx_movimiento_usuario_fecha
+    ON movimiento (usuario_id, fecha DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_movimiento_usuario_tipo_fecha
+    ON movimiento (usuario_id, tipo, fecha);
+
+CREATE INDEX IF NOT EXISTS idx_movimiento_categoria
+    ON movimiento (categoria_id);
+
+CREATE INDEX IF NOT EXISTS idx_movimiento_fecha
+    ON movimiento (fecha DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_movimiento_descripcion_fts
+    ON movimiento USING GIN (to_tsvector('spanish', descripcion));
+
+ANALYZE movimiento;
\ No newline at end of file
@@ -0,0 +1,62 @@
+-- Archivo de movimientos antiguos
+-- Los meses fuera del horizonte en caliente salen de la tabla particionada movimiento (y de sus índices)
+-- y pasan a movimiento_archivo, que solo se lee para rangos de fechas antiguos
+
+-- Solo recibe inserciones en bloque: sin espacio libre por página y con índices mínimos
+-- (sin el GIN de texto completo ni el índice por tipo de la tabla en caliente)
+CREATE TABLE IF NOT EXISTS movimiento_archivo (
+    LIKE movimiento INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+ALTER TABLE movimiento_archivo
+    ADD CONSTRAINT fk_movimiento_archivo_categoria FOREIGN KEY (categoria_id) REFERENCES categoria(id);
+
+-- Lecturas por usuario y rango (períodos, exportaciones, resúmenes anuales)
+CREATE INDEX IF NOT EXISTS idx_movimiento_archivo_usuario_fecha
+    ON movimiento_archivo (usuario_id, fecha DESC, id DESC);
+
+-- Verificación de categorías en uso y de la clave foránea al eliminar una categoría
+CREATE INDEX IF NOT EXISTS idx_movimiento_archivo_categoria
+    ON movimiento_archivo (categoria_id);
+
+-- Rangos de fechas sin usuario: las filas llegan ordenadas por mes, así que un BRIN ocupa unas pocas páginas
+CREATE INDEX IF NOT EXISTS idx_movimiento_archivo_fecha_brin
+    ON movimiento_archivo USING BRIN (fecha);
+
+-- Traslada al archivo los movimientos anteriores a la fecha de corte y devuelve cuántos se movieron
+-- Los meses completos se separan de movimiento (DETACH) y se eliminan tras copiarlos, sin dejar filas
+-- muertas en la tabla en caliente; de movimiento_default se mueven solo las filas anteriores al corte
+-- La invoca ArchivoMovimientos; todo ocurre en una transacción, así que una lectura ve cada fila
+-- en una sola de las dos tablas
+CREATE OR REPLACE FUNCTION archivar_movimientos(corte DATE)
+RETURNS BIGINT AS $$
+DECLARE
+    particion RECORD;
+    filas BIGINT;
+    movidos BIGINT := 0;
+BEGIN
+    FOR particion IN
+        SELECT c.relname AS nombre, to_date(substr(c.relname, 13), 'YYYY_MM') AS mes
+          FROM pg_inherits i
+          JOIN pg_class c ON c.oid = i.inhrelid
+         WHERE i.inhparent = 'movimiento'::regclass
+           AND c.relname ~ '^movimiento_p[0-9]{4}_[0-9]{2}$'
+         ORDER BY c.relname
+    LOOP
+        EXIT WHEN (particion.mes + INTERVAL '1 month')::date > corte;
+
+        EXECUTE format('ALTER TABLE movimiento DETACH PARTITION %I', particion.nombre);
+        EXECUTE format('INSERT INTO movimiento_archivo SELECT * FROM %I', particion.nombre);
+        GET DIAGNOSTICS filas = ROW_COUNT;
+        EXECUTE format('DROP TABLE %I', particion.nombre);
+        movidos := movidos + filas;
+    END LOOP;
+
+    WITH movidas AS (DELETE FROM movimiento_default WHERE fecha < corte RETURNING *)
+    INSERT INTO movimiento_archivo SELECT * FROM movidas;
+    GET DIAGNOSTICS filas = ROW_COUNT;
+
+    RETURN movidos + filas;
+END;
+$$ LANGUAGE plpgsql;
\ No newline at end of file
@@ -0,0 +1,47 @@
+-- Saldos materializados de los movimientos ya existentes
+-- Los totales solo se mantenían con deltas desde que existen sus tablas, así que en bases anteriores
+-- empezaban en cero. Se recalculan desde los movimientos en caliente y archivados; la migración corre
+-- al arrancar, antes de atender escrituras
+
+-- En bases marcadas como línea base (V1) las tablas aún no existen: las crearía Hibernate después de Flyway
+CREATE TABLE IF NOT EXISTS saldo_usuario (
+    usuario_id BIGINT PRIMARY KEY,
+    total_ingresos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    total_gastos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    cantidad_movimientos BIGINT NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS saldo_mensual (
+    id BIGSERIAL PRIMARY KEY,
+    usuario_id BIGINT NOT NULL,
+    anio INTEGER NOT NULL,
+    mes INTEGER NOT NULL,
+    total_ingresos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    total_gastos DECIMAL(14,2) NOT NULL DEFAULT 0,
+    cantidad_movimientos BIGINT NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_saldo_mensual_usuario_periodo UNIQUE (usuario_id, anio, mes)
+);
+
+DELETE FROM saldo_mensual;
+DELETE FROM saldo_usuario;
+
+-- Como SaldoUsuario.aplicar: todo lo que no es INGRESO suma a los gastos
+INSERT INTO saldo_mensual (usuario_id, anio, mes, total_ingresos, total_gastos, cantidad_movimientos, fecha_actualizacion)
+SELECT usuario_id,
+       EXTRACT(YEAR FROM fecha)::INTEGER,
+       EXTRACT(MONTH FROM fecha)::INTEGER,
+       COALESCE(SUM(monto) FILTER (WHERE tipo = 'INGRESO'), 0),
+       COALESCE(SUM(monto) FILTER (WHERE tipo <> 'INGRESO'), 0),
+       COUNT(*),
+       CURRENT_TIMESTAMP
+FROM (SELECT usuario_id, fecha, tipo, monto FROM movimiento WHERE usuario_id IS NOT NULL
+      UNION ALL
+      SELECT usuario_id, fecha, tipo, monto FROM movimiento_archivo WHERE usuario_id IS NOT NULL) m
+GROUP BY usuario_id, EXTRACT(YEAR FROM fecha)::INTEGER, EXTRACT(MONTH FROM fecha)::INTEGER;
+
+INSERT INTO saldo_usuario (usuario_id, total_ingresos, total_gastos, cantidad_movimientos, fecha_actualizacion)
+SELECT usuario_id, SUM(total_ingresos), SUM(total_gastos), SUM(cantidad_movimientos), CURRENT_TIMESTAMP
+FROM saldo_mensual
+GROUP BY usuario_id;
\ No newline at end of file
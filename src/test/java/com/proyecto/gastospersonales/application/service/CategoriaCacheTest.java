@@ -0,0 +1,78 @@
+package com.proyecto.gastospersonales.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.proyecto.gastospersonales.domain.model.Categoria;
+
+/**
+ * Pruebas de la caché de categorías frente a invalidaciones concurrentes
+ */
+class CategoriaCacheTest {
+    
+    private CategoriaCache cache;
+    private final AtomicInteger cargas = new AtomicInteger();
+    
+    @BeforeEach
+    void preparar() {
+        cache = new CategoriaCache();
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(10));
+    }
+    
+    @Test
+    void reutilizaLaListaCargada() {
+        Supplier<List<Categoria>> cargador = cargador("Comida");
+        cache.obtenerTodas(cargador);
+        cache.obtenerTodas(cargador);
+        
+        assertThat(cargas).hasValue(1);
+    }
+    
+    @Test
+    void noGuardaUnaListaCargadaDuranteUnaInvalidacion() {
+        // La escritura confirma mientras la lectura todavía está cargando la lista anterior
+        Supplier<List<Categoria>> lecturaVieja = () -> {
+            List<Categoria> anteriores = cargador("Comida").get();
+            cache.invalidar();
+            return anteriores;
+        };
+        
+        assertThat(cache.obtenerTodas(lecturaVieja)).extracting(Categoria::getNombre).containsExactly("Comida");
+        assertThat(cache.obtenerTodas(cargador("Comida", "Viajes")))
+                .extracting(Categoria::getNombre)
+                .containsExactly("Comida", "Viajes");
+        assertThat(cargas).hasValue(2);
+    }
+    
+    @Test
+    void invalidarDescartaLaLista() {
+        cache.obtenerTodas(cargador("Comida"));
+        cache.invalidar();
+        
+        assertThat(cache.obtenerPorNombre("viajes", cargador("Comida", "Viajes"))).isPresent();
+        assertThat(cargas).hasValue(2);
+    }
+    
+    private Supplier<List<Categoria>> cargador(String... nombres) {
+        return () -> {
+            cargas.incrementAndGet();
+            long id = 1;
+            List<Categoria> categorias = new ArrayList<>();
+            for (String nombre : nombres) {
+                Categoria categoria = new Categoria(nombre, null);
+                categoria.setId(id++);
+                categorias.add(categoria);
+            }
+            return categorias;
+        };
+    }
+}
\ No newline at end of file
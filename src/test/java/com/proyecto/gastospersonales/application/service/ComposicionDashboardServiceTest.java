@@ -0,0 +1,62 @@
+package com.proyecto.gastospersonales.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.proyecto.gastospersonales.domain.dto.DashboardDto;
+import com.proyecto.gastospersonales.domain.service.ComposicionDashboardService;
+import com.proyecto.gastospersonales.domain.service.EstadisticasService;
+
+/**
+ * Transacción de cada parte del dashboard compuesto
+ * Los servicios se unen a la transacción que abre la composición, así que es esta la que debe fijar
+ * REPEATABLE READ; el hilo de trabajo no debe recibir la petición HTTP
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:composicion;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ComposicionDashboardServiceTest {
+
+    @Autowired
+    private ComposicionDashboardService composicionDashboardService;
+
+    @MockBean
+    private EstadisticasService estadisticasService;
+
+    @Test
+    void cadaParteLeeConRepeatableReadYSinLaPeticion() {
+        Map<String, Object> observado = new ConcurrentHashMap<>();
+        when(estadisticasService.obtenerDashboard(anyLong())).thenAnswer(invocacion -> {
+            observado.put("aislamiento", TransactionSynchronizationManager.getCurrentTransactionIsolationLevel());
+            observado.put("soloLectura", TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            observado.put("conPeticion", RequestContextHolder.getRequestAttributes() != null);
+            return new DashboardDto(BigDecimal.ZERO, BigDecimal.ZERO, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+        });
+        when(estadisticasService.obtenerResumenMensual(anyLong(), anyInt())).thenReturn(List.of());
+        when(estadisticasService.obtenerResumenPorCategorias(anyLong(), any(), any())).thenReturn(List.of());
+
+        Map<String, Object> dashboard = composicionDashboardService.obtenerDashboard(1L);
+
+        assertThat(dashboard.get("partesNoDisponibles")).asList().isEmpty();
+        assertThat(observado)
+                .containsEntry("aislamiento", Connection.TRANSACTION_REPEATABLE_READ)
+                .containsEntry("soloLectura", true)
+                .containsEntry("conPeticion", false);
+    }
+}
\ No newline at end of file
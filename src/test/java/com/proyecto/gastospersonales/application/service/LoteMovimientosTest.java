@@ -0,0 +1,108 @@
+package com.proyecto.gastospersonales.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.proyecto.gastospersonales.domain.dto.NuevoMovimientoDto;
+import com.proyecto.gastospersonales.domain.dto.ResultadoLoteDto;
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.service.MovimientoService;
+import com.proyecto.gastospersonales.infrastructure.repository.CategoriaRepositoryInterface;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Lotes JDBC del alta masiva de movimientos (registrarLote)
+ * Con hibernate.jdbc.batch_size = 50 cada lote prepara una sola sentencia INSERT, y con allocationSize = 50
+ * la secuencia movimiento_seq se consulta una vez por cada 50 ids: N filas cuestan unas N/50 de cada una
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lote;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.proyecto.gastospersonales.application.service.LoteMovimientosTest$RegistroSql"
+})
+@ActiveProfiles("test")
+class LoteMovimientosTest {
+
+    private static final long USUARIO = 61L;
+    private static final int FILAS = 2_000;
+    private static final int TAMANIO_LOTE = 50;
+
+    @Autowired
+    private MovimientoService movimientoService;
+
+    @Autowired
+    private CategoriaRepositoryInterface categoriaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void unLoteJdbcYUnaConsultaDeSecuenciaPorCadaCincuentaFilas() {
+        Long categoria = categoriaRepository.save(new Categoria("Prueba de lotes", null)).getId();
+        List<NuevoMovimientoDto> lote = new ArrayList<>(FILAS);
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 8, 0);
+        for (int i = 0; i < FILAS; i++) {
+            lote.add(new NuevoMovimientoDto("Movimiento de lote " + i, BigDecimal.valueOf(i % 900 + 100, 2),
+                    i % 5 == 0 ? "INGRESO" : "GASTO", categoria, inicio.plusMinutes(i)));
+        }
+
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        RegistroSql.sentencias.clear();
+        ResultadoLoteDto resultado = movimientoService.registrarLote(lote, USUARIO);
+
+        assertThat(resultado.getInsertados()).isEqualTo(FILAS);
+        assertThat(estadisticas.getEntityInsertCount()).isEqualTo(FILAS);
+        assertThat(contar("insert into movimiento ")).isEqualTo(FILAS / TAMANIO_LOTE);
+        // El optimizador pooled hace una consulta extra la primera vez que usa la secuencia
+        assertThat(contar("movimiento_seq")).isBetween((long) FILAS / TAMANIO_LOTE, (long) FILAS / TAMANIO_LOTE + 1);
+        assertThat(estadisticas.getPrepareStatementCount()).isLessThan(FILAS / 10);
+
+        // Ids de la secuencia: contiguos, sin un viaje a la base por fila
+        Map<String, Object> ids = jdbcTemplate.queryForMap(
+                "SELECT COUNT(DISTINCT id) AS distintos, MAX(id) - MIN(id) + 1 AS rango FROM movimiento WHERE usuario_id = ?",
+                USUARIO);
+        assertThat(((Number) ids.get("DISTINTOS")).intValue()).isEqualTo(FILAS);
+        assertThat(((Number) ids.get("RANGO")).intValue()).isEqualTo(FILAS);
+    }
+
+    private static long contar(String fragmento) {
+        return RegistroSql.sentencias.stream()
+                .filter(sql -> sql.toLowerCase().contains(fragmento))
+                .count();
+    }
+
+    /**
+     * Registra el SQL que Hibernate prepara: con lotes JDBC, una vez por lote
+     */
+    public static class RegistroSql implements StatementInspector {
+
+        static final List<String> sentencias = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            sentencias.add(sql);
+            return sql;
+        }
+    }
+}
\ No newline at end of file
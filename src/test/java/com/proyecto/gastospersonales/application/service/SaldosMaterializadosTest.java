@@ -0,0 +1,93 @@
+package com.proyecto.gastospersonales.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.proyecto.gastospersonales.domain.dto.NuevoMovimientoDto;
+import com.proyecto.gastospersonales.domain.dto.ResultadoLoteDto;
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.Movimiento;
+import com.proyecto.gastospersonales.domain.service.MovimientoService;
+import com.proyecto.gastospersonales.domain.service.SaldoService;
+import com.proyecto.gastospersonales.infrastructure.repository.CategoriaRepositoryInterface;
+
+/**
+ * Saldos materializados mantenidos por las escrituras de MovimientoService
+ * Tras altas, lotes, modificaciones y bajas, los totales acumulados con deltas deben coincidir
+ * con los que reconstruirSaldos calcula desde cero. En H2 los deltas se aplican con MERGE
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:saldos;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class SaldosMaterializadosTest {
+
+    private static final long USUARIO = 41L;
+    private static final long OTRO_USUARIO = 42L;
+
+    private static final String SALDO_USUARIO = "SELECT usuario_id, total_ingresos, total_gastos, cantidad_movimientos "
+            + "FROM saldo_usuario WHERE usuario_id = ?";
+    private static final String SALDO_MENSUAL = "SELECT usuario_id, anio, mes, total_ingresos, total_gastos, cantidad_movimientos "
+            + "FROM saldo_mensual WHERE usuario_id = ? ORDER BY anio, mes";
+
+    @Autowired
+    private MovimientoService movimientoService;
+
+    @Autowired
+    private SaldoService saldoService;
+
+    @Autowired
+    private CategoriaRepositoryInterface categoriaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void losDeltasCoincidenConLaReconstruccion() {
+        Long categoria = categoriaRepository.save(new Categoria("Prueba de saldos", null)).getId();
+
+        Movimiento gasto = movimientoService.registrarGasto("Supermercado", new BigDecimal("45.50"), categoria, USUARIO);
+        Movimiento ingreso = movimientoService.registrarIngreso("Sueldo", new BigDecimal("1200"), categoria, USUARIO);
+        Movimiento eliminado = movimientoService.registrarGasto("Farmacia", new BigDecimal("8.25"), categoria, USUARIO);
+        movimientoService.registrarGasto("Cine", new BigDecimal("12"), categoria, OTRO_USUARIO);
+
+        // Lote repartido en varios meses, con una fila inválida que no debe contar
+        List<NuevoMovimientoDto> lote = new ArrayList<>();
+        LocalDateTime inicio = LocalDateTime.of(2023, 1, 15, 10, 0);
+        for (int i = 0; i < 120; i++) {
+            lote.add(new NuevoMovimientoDto("Movimiento de lote " + i, BigDecimal.valueOf(i + 1, 1),
+                    i % 3 == 0 ? "INGRESO" : "GASTO", categoria, inicio.plusDays(i * 5L)));
+        }
+        lote.add(new NuevoMovimientoDto("Sin categoría", BigDecimal.TEN, "GASTO", -1L, inicio));
+        ResultadoLoteDto resultado = movimientoService.registrarLote(lote, USUARIO);
+        assertThat(resultado.getInsertados()).isEqualTo(120);
+
+        movimientoService.actualizarMovimiento(gasto.getId(), USUARIO, null, new BigDecimal("50.10"), null);
+        movimientoService.actualizarMovimiento(ingreso.getId(), USUARIO, "Sueldo de marzo", new BigDecimal("1100.00"), null);
+        movimientoService.eliminarMovimiento(eliminado.getId(), USUARIO);
+
+        List<Map<String, Object>> totalesPorDeltas = jdbcTemplate.queryForList(SALDO_USUARIO, USUARIO);
+        List<Map<String, Object>> mesesPorDeltas = jdbcTemplate.queryForList(SALDO_MENSUAL, USUARIO);
+        assertThat(totalesPorDeltas).singleElement().satisfies(fila -> {
+            assertThat(fila.get("CANTIDAD_MOVIMIENTOS")).isEqualTo(122L);
+            assertThat(fila.get("TOTAL_INGRESOS")).isEqualTo(new BigDecimal("1338.00"));
+        });
+        assertThat(mesesPorDeltas).hasSizeGreaterThan(10);
+
+        saldoService.reconstruirSaldos(USUARIO);
+
+        assertThat(jdbcTemplate.queryForList(SALDO_USUARIO, USUARIO)).isEqualTo(totalesPorDeltas);
+        assertThat(jdbcTemplate.queryForList(SALDO_MENSUAL, USUARIO)).isEqualTo(mesesPorDeltas);
+        assertThat(jdbcTemplate.queryForObject("SELECT total_gastos FROM saldo_usuario WHERE usuario_id = ?",
+                BigDecimal.class, OTRO_USUARIO)).isEqualTo(new BigDecimal("12.00"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.proyecto.gastospersonales.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.dto.PaginaCursorDto;
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.Movimiento;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+import com.proyecto.gastospersonales.domain.service.MovimientoService;
+import com.proyecto.gastospersonales.infrastructure.repository.CategoriaRepositoryInterface;
+import com.proyecto.gastospersonales.infrastructure.repository.MovimientoRepositoryInterface;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cantidad de sentencias SQL de los listados de movimientos, medida con las estadísticas de Hibernate
+ * Cada página debe resolverse con una sola sentencia, sea cual sea su tamaño y la cantidad de categorías
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sentencias;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SentenciasPorPaginaTest {
+
+    private static final long USUARIO = 1L;
+    private static final int CANTIDAD_CATEGORIAS = 12;
+    private static final int CANTIDAD_MOVIMIENTOS = 300;
+
+    @Autowired
+    private MovimientoService movimientoService;
+
+    @Autowired
+    private MovimientoRepositoryInterface movimientoRepository;
+
+    @Autowired
+    private CategoriaRepositoryInterface categoriaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics estadisticas;
+
+    @BeforeAll
+    void poblar() {
+        // Cada movimiento en una categoría distinta de la anterior: una carga perezosa por fila se notaría
+        List<Long> categorias = new ArrayList<>();
+        for (int i = 1; i <= CANTIDAD_CATEGORIAS; i++) {
+            categorias.add(categoriaRepository.save(new Categoria("Prueba " + i, null)).getId());
+        }
+        List<Object[]> filas = new ArrayList<>();
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 1; i <= CANTIDAD_MOVIMIENTOS; i++) {
+            filas.add(new Object[] {(long) i, "Movimiento " + i, BigDecimal.valueOf(i), inicio.plusHours(i),
+                    i % 4 == 0 ? "INGRESO" : "GASTO", categorias.get(i % CANTIDAD_CATEGORIAS), USUARIO});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO movimiento (id, descripcion, monto, fecha, tipo, categoria_id, usuario_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", filas);
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void unaSentenciaPorPaginaSinImportarElTamanio() {
+        for (int tamanio : new int[] {10, 50, 100}) {
+            estadisticas.clear();
+            PaginaCursorDto<MovimientoResumenDto> pagina = movimientoService.obtenerMovimientosPaginados(USUARIO, null, tamanio);
+
+            assertThat(pagina.getContenido()).hasSize(tamanio);
+            assertThat(estadisticas.getPrepareStatementCount()).as("página de %d", tamanio).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void recorrerConCursorCuestaUnaSentenciaPorPagina() {
+        estadisticas.clear();
+        int paginas = 0;
+        int leidos = 0;
+        String cursor = null;
+        do {
+            PaginaCursorDto<MovimientoResumenDto> pagina = movimientoService.obtenerMovimientosPaginados(USUARIO, cursor, 40);
+            leidos += pagina.getContenido().size();
+            cursor = pagina.getSiguienteCursor();
+            paginas++;
+        } while (cursor != null);
+
+        assertThat(leidos).isEqualTo(CANTIDAD_MOVIMIENTOS);
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(paginas);
+    }
+
+    @Test
+    void listadosCompletosUsanUnaSentencia() {
+        estadisticas.clear();
+        assertThat(movimientoService.listarMovimientos(USUARIO)).hasSize(CANTIDAD_MOVIMIENTOS);
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(1);
+
+        estadisticas.clear();
+        assertThat(movimientoService.listarMovimientosPorTipo(USUARIO, TipoMovimiento.INGRESO))
+                .hasSize(CANTIDAD_MOVIMIENTOS / 4);
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    // Dentro de una transacción, como en la consola: sin el EntityGraph cada categoría sería una sentencia más
+    @Test
+    void entidadesConCategoriaSeCarganEnLaMismaSentencia() {
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        transaccion.setReadOnly(true);
+        estadisticas.clear();
+        long categoriasDistintas = transaccion.execute(estado -> {
+            List<Movimiento> movimientos = movimientoRepository.findByUsuarioIdOrderByFechaDesc(USUARIO);
+            return movimientos.stream().map(m -> m.getCategoria().getNombre()).distinct().count();
+        });
+
+        assertThat(categoriasDistintas).isEqualTo(CANTIDAD_CATEGORIAS);
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.proyecto.gastospersonales.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.service.MovimientoService;
+import com.proyecto.gastospersonales.infrastructure.repository.CategoriaRepositoryInterface;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Últimos movimientos de un usuario con historial corto y largo
+ * El límite debe llegar al SQL (fetch first ? rows) y el plan debe ser el mismo en ambos casos:
+ * recorrer el índice (usuario_id, fecha DESC, id DESC) ya ordenado, sin leer ni ordenar todo el historial
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:recientes;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.proyecto.gastospersonales.application.service.UltimosMovimientosTest$RegistroSql"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UltimosMovimientosTest {
+
+    private static final long HISTORIAL_CORTO = 1L;
+    private static final long HISTORIAL_LARGO = 2L;
+    private static final int LIMITE = 10;
+
+    @Autowired
+    private MovimientoService movimientoService;
+
+    @Autowired
+    private CategoriaRepositoryInterface categoriaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeAll
+    void poblar() {
+        Long categoria = categoriaRepository.save(new Categoria("Prueba de recientes", null)).getId();
+        List<Object[]> filas = new ArrayList<>();
+        LocalDateTime inicio = LocalDateTime.of(2015, 1, 1, 0, 0);
+        for (int i = 1; i <= 20_000; i++) {
+            filas.add(new Object[] {(long) i, "Movimiento " + i, BigDecimal.valueOf(i % 700 + 1),
+                    inicio.plusHours(i * 4L), i % 7 == 0 ? "INGRESO" : "GASTO", categoria, HISTORIAL_LARGO});
+        }
+        for (int i = 1; i <= 25; i++) {
+            filas.add(new Object[] {100_000L + i, "Reciente " + i, BigDecimal.TEN, inicio.plusDays(i),
+                    "GASTO", categoria, HISTORIAL_CORTO});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO movimiento (id, descripcion, monto, fecha, tipo, categoria_id, usuario_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", filas);
+        jdbcTemplate.execute("ANALYZE");
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void unaSentenciaConElLimiteEnElSql() {
+        for (long usuario : new long[] {HISTORIAL_CORTO, HISTORIAL_LARGO}) {
+            estadisticas.clear();
+            RegistroSql.sentencias.clear();
+            List<MovimientoResumenDto> recientes = movimientoService.obtenerUltimosMovimientos(usuario, LIMITE);
+
+            assertThat(recientes).hasSize(LIMITE)
+                    .isSortedAccordingTo(Comparator.comparing(MovimientoResumenDto::getFecha).reversed());
+            assertThat(estadisticas.getPrepareStatementCount()).as("usuario %d", usuario).isEqualTo(1);
+            assertThat(RegistroSql.sentencias).singleElement().asString().containsIgnoringCase("fetch first ? rows only");
+        }
+    }
+
+    @Test
+    void elPlanNoDependeDelHistorial() {
+        movimientoService.obtenerUltimosMovimientos(HISTORIAL_CORTO, LIMITE);
+        String sql = RegistroSql.sentencias.get(RegistroSql.sentencias.size() - 1);
+
+        String largo = plan(sql, HISTORIAL_LARGO);
+        assertThat(largo).containsIgnoringCase("idx_movimiento_usuario_fecha");
+        assertThat(largo).isEqualTo(plan(sql, HISTORIAL_CORTO));
+    }
+
+    private String plan(String sql, long usuario) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, usuario, LIMITE);
+    }
+
+    /**
+     * Registra el SQL que Hibernate envía a la base
+     */
+    public static class RegistroSql implements StatementInspector {
+
+        static final List<String> sentencias = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            sentencias.add(sql);
+            return sql;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+package com.proyecto.gastospersonales.domain.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * Equivalencia de MovimientoResumenSerializer con la serialización por getters
+ * Ambos mapeadores usan la configuración de fechas de Spring Boot; sin anotaciones Jackson ignora
+ * @JsonSerialize y vuelve a los getters. Se compara el contenido JSON con los decimales exactos, incluida la
+ * escala de los montos, pero no el orden: el de las propiedades sin campo depende de la reflexión.
+ * También se comparan los bytes asignados por fila en el hilo actual con cada uno
+ */
+class MovimientoResumenSerializerTest {
+
+    private static final LocalDateTime FECHA = LocalDateTime.of(2024, 3, 5, 14, 7, 9);
+    private static final int FILAS_MEDICION = 5_000;
+    private static final int ITERACIONES_CALENTAMIENTO = 150;
+    private static final int ITERACIONES_MEDICION = 40;
+
+    private final ObjectMapper conSerializador = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper porGetters = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(MapperFeature.USE_ANNOTATIONS)
+            .build();
+
+    // Lee a mapas y listas con los decimales como BigDecimal: equals ignora el orden de las propiedades
+    // pero no la escala, así que 1.5 y 1.50 siguen siendo distintos
+    private final ObjectMapper lector = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    @Test
+    void escribeLosCamposEsperados() throws JsonProcessingException {
+        String json = conSerializador.writeValueAsString(movimiento(new BigDecimal("1250.50"), FECHA));
+
+        assertThat(json).isEqualTo("{\"id\":1,\"descripcion\":\"Supermercado\",\"monto\":1250.50,"
+                + "\"fecha\":\"2024-03-05T14:07:09\",\"tipo\":\"GASTO\",\"categoriaId\":3,"
+                + "\"categoriaNombre\":\"Alimentación\",\"fechaFormateada\":\"05/03/2024 14:07\","
+                + "\"montoFormateado\":\"$1250.50\"}");
+    }
+
+    @Test
+    void camposNulos() throws JsonProcessingException {
+        assertEquivalente(new MovimientoResumenDto(null, null, null, null, null, null, null));
+        assertEquivalente(new MovimientoResumenDto(7L, "Sin fecha", new BigDecimal("3.00"), null,
+                TipoMovimiento.INGRESO, null, null));
+    }
+
+    @Test
+    void montosConEscalaDistintaDeDos() throws JsonProcessingException {
+        for (String monto : List.of("12.5", "7", "1.005", "0.001", "-3.40", "99999999.999")) {
+            assertEquivalente(movimiento(new BigDecimal(monto), FECHA));
+        }
+        assertEquivalente(movimiento(new BigDecimal("1E+3"), FECHA));
+        // Con escala 2 pero más largo que el búfer del serializador
+        assertEquivalente(movimiento(new BigDecimal("123456789012345678901234567890123.45"), FECHA));
+    }
+
+    @Test
+    void fechasConFraccionDeSegundo() throws JsonProcessingException {
+        for (int nanos : new int[] {1, 10, 500_000_000, 120_000_000, 123_456_000, 123_456_789, 999_999_999}) {
+            assertEquivalente(movimiento(new BigDecimal("10.00"), FECHA.withNano(nanos)));
+        }
+        assertEquivalente(movimiento(new BigDecimal("10.00"), LocalDateTime.of(2024, 1, 1, 0, 0)));
+        assertEquivalente(movimiento(new BigDecimal("10.00"), LocalDateTime.of(2024, 1, 1, 0, 0, 0, 5_000)));
+    }
+
+    @Test
+    void aniosFueraDeCuatroDigitos() throws JsonProcessingException {
+        for (int anio : new int[] {0, 1, 999, 9999, 10_000, 123_456, -1, -2024}) {
+            assertEquivalente(movimiento(new BigDecimal("10.00"), FECHA.withYear(anio)));
+        }
+        assertEquivalente(movimiento(new BigDecimal("10.00"), LocalDateTime.MAX));
+        assertEquivalente(movimiento(new BigDecimal("10.00"), LocalDateTime.MIN));
+    }
+
+    @Test
+    void textosQueRequierenEscape() throws JsonProcessingException {
+        assertEquivalente(new MovimientoResumenDto(1L, "Comillas \" y barra \\ con\tcontrol\n y ñ €",
+                new BigDecimal("1.00"), FECHA, TipoMovimiento.GASTO, 3L, "Categoría \u0001"));
+    }
+
+    @Test
+    void listadosCompletos() throws JsonProcessingException {
+        List<MovimientoResumenDto> movimientos = List.of(
+                movimiento(new BigDecimal("1.00"), FECHA),
+                new MovimientoResumenDto(null, null, null, null, null, null, null),
+                movimiento(new BigDecimal("2.5"), FECHA.withYear(12_000).withNano(1_000)));
+
+        assertThat(contenido(conSerializador, movimientos)).isEqualTo(contenido(porGetters, movimientos));
+    }
+
+    @Test
+    void asignaMenosMemoriaPorFilaQueLosGetters() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean hilos
+                && hilos.isThreadAllocatedMemorySupported(), "La JVM no mide la memoria asignada por hilo");
+        List<MovimientoResumenDto> movimientos = listado(FILAS_MEDICION);
+
+        double antes = bytesPorFila(porGetters, movimientos);
+        double despues = bytesPorFila(conSerializador, movimientos);
+        System.out.printf("Bytes asignados por fila: %.1f por getters, %.1f con MovimientoResumenSerializer%n",
+                antes, despues);
+
+        // Cota relativa, estable entre JVM: con toPlainString y un búfer por fila se asignaba más de un cuarto
+        assertThat(despues).isLessThan(antes / 8);
+    }
+
+    private static double bytesPorFila(ObjectMapper mapper, List<MovimientoResumenDto> movimientos) throws IOException {
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // Calentamiento para que el JIT compile ambos caminos antes de medir
+        for (int i = 0; i < ITERACIONES_CALENTAMIENTO; i++) {
+            mapper.writeValue(OutputStream.nullOutputStream(), movimientos);
+        }
+
+        long hilo = Thread.currentThread().getId();
+        long antes = hilos.getThreadAllocatedBytes(hilo);
+        for (int i = 0; i < ITERACIONES_MEDICION; i++) {
+            mapper.writeValue(OutputStream.nullOutputStream(), movimientos);
+        }
+        long bytes = hilos.getThreadAllocatedBytes(hilo) - antes;
+        return (double) bytes / ((long) ITERACIONES_MEDICION * movimientos.size());
+    }
+
+    private static List<MovimientoResumenDto> listado(int filas) {
+        List<MovimientoResumenDto> movimientos = new ArrayList<>(filas);
+        for (int i = 0; i < filas; i++) {
+            movimientos.add(new MovimientoResumenDto((long) i + 1, "Movimiento de prueba " + i,
+                    BigDecimal.valueOf(100 + i * 37L % 500_000, 2), FECHA.plusMinutes(i * 7L).plusNanos(i % 1000 * 1000L),
+                    i % 2 == 0 ? TipoMovimiento.GASTO : TipoMovimiento.INGRESO, (long) i % 15 + 1, "Categoría " + (i % 15 + 1)));
+        }
+        return movimientos;
+    }
+
+    private void assertEquivalente(MovimientoResumenDto movimiento) throws JsonProcessingException {
+        assertThat(contenido(conSerializador, movimiento)).isEqualTo(contenido(porGetters, movimiento));
+    }
+
+    private Object contenido(ObjectMapper mapper, Object valor) throws JsonProcessingException {
+        return lector.readValue(mapper.writeValueAsString(valor), Object.class);
+    }
+
+    private static MovimientoResumenDto movimiento(BigDecimal monto, LocalDateTime fecha) {
+        return new MovimientoResumenDto(1L, "Supermercado", monto, fecha, TipoMovimiento.GASTO, 3L, "Alimentación");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.proyecto.gastospersonales.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Enrutamiento entre los pools de primaria y réplica
+ * Ambos apuntan a la misma base H2 (el esquema lo crea Hibernate una sola vez), pero cada pool marca sus
+ * conexiones con una variable de sesión: cada transacción consulta la marca de la conexión que recibió
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:enrutamiento;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.connection-init-sql=SET @ORIGEN = 'primaria'",
+        "app.datasource.replica.url=jdbc:h2:mem:enrutamiento;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.hikari.connection-init-sql=SET @ORIGEN = 'replica'",
+        "app.datasource.replica.consulta-retraso=SELECT 0",
+        "app.datasource.replica.lectura-propia=1h"
+})
+@ActiveProfiles("test")
+class ReplicaLecturaConfigTest {
+
+    private static final String PRIMARIA = "primaria";
+    private static final String REPLICA = "replica";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EstadoReplica estadoReplica;
+
+    @AfterEach
+    void limpiar() {
+        RequestContextHolder.resetRequestAttributes();
+        estadoReplica.verificar();
+    }
+
+    // Fuera de una petición (tareas programadas) no hay sesión que recuerde escrituras
+    @Test
+    void lecturaDeSoloLecturaVaALaReplica() {
+        RequestContextHolder.resetRequestAttributes();
+        assertThat(baseDeLaTransaccion(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void escrituraVaALaPrimaria() {
+        assertThat(baseDeLaTransaccion(false)).isEqualTo(PRIMARIA);
+    }
+
+    @Test
+    void trasEscribirLaSesionLeeDeLaPrimaria() {
+        ServletRequestAttributes sesion = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(sesion);
+        assertThat(baseDeLaTransaccion(true)).isEqualTo(REPLICA);
+        assertThat(baseDeLaTransaccion(false)).isEqualTo(PRIMARIA);
+        assertThat(baseDeLaTransaccion(true)).isEqualTo(PRIMARIA);
+
+        // Otra sesión no escribió: sigue leyendo de la réplica
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(baseDeLaTransaccion(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void conReplicaNoDisponibleSeLeeDeLaPrimaria() {
+        RequestContextHolder.resetRequestAttributes();
+        ReflectionTestUtils.setField(estadoReplica, "disponible", false);
+        assertThat(baseDeLaTransaccion(true)).isEqualTo(PRIMARIA);
+    }
+
+    // Con la conexión liberada por transacción, el aislamiento se aplica al pedir la conexión real
+    @Test
+    void repeatableReadDeSoloLecturaVaALaReplicaConSuAislamiento() {
+        RequestContextHolder.resetRequestAttributes();
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        transaccion.setReadOnly(true);
+        transaccion.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        String resultado = transaccion.execute(estado -> sesion().doReturningWork(
+                conexion -> origen(conexion) + " " + conexion.getTransactionIsolation()));
+
+        assertThat(resultado).isEqualTo(REPLICA + " " + Connection.TRANSACTION_REPEATABLE_READ);
+        assertThat(baseDeLaTransaccion(true)).isEqualTo(REPLICA);
+    }
+
+    /**
+     * Tareas en otros hilos (dashboard compuesto): heredan la última escritura de la sesión, no la petición
+     */
+    @Test
+    void tareaEnOtroHiloConservaLaLecturaPropiaSinLaPeticion() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(baseDeLaTransaccion(false)).isEqualTo(PRIMARIA);
+        String[] resultado = new String[2];
+        Runnable tarea = EnrutamientoDataSource.conLecturaPropia(() -> {
+            resultado[0] = String.valueOf(RequestContextHolder.getRequestAttributes());
+            resultado[1] = baseDeLaTransaccion(true);
+        });
+        // La petición termina antes de que la tarea se ejecute
+        RequestContextHolder.resetRequestAttributes();
+        CompletableFuture.runAsync(tarea).join();
+        assertThat(resultado).containsExactly("null", PRIMARIA);
+
+        // Una sesión sin escrituras no hereda nada
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Runnable otraTarea = EnrutamientoDataSource.conLecturaPropia(() -> resultado[1] = baseDeLaTransaccion(true));
+        CompletableFuture.runAsync(otraTarea).join();
+        assertThat(resultado[1]).isEqualTo(REPLICA);
+    }
+
+    /**
+     * Open-in-view: la misma sesión de Hibernate atraviesa todas las transacciones de la petición
+     */
+    @Test
+    void conLaSesionAbiertaCadaTransaccionSeEnrutaDeNuevo() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            assertThat(baseDeLaTransaccion(true)).isEqualTo(REPLICA);
+            assertThat(baseDeLaTransaccion(false)).isEqualTo(PRIMARIA);
+            assertThat(baseDeLaTransaccion(true)).isEqualTo(PRIMARIA);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    private String baseDeLaTransaccion(boolean soloLectura) {
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        transaccion.setReadOnly(soloLectura);
+        return transaccion.execute(estado -> sesion().doReturningWork(ReplicaLecturaConfigTest::origen));
+    }
+
+    private Session sesion() {
+        EntityManager entityManager = ((EntityManagerHolder) TransactionSynchronizationManager
+                .getResource(entityManagerFactory)).getEntityManager();
+        return entityManager.unwrap(Session.class);
+    }
+
+    private static String origen(Connection conexion) throws SQLException {
+        try (Statement sentencia = conexion.createStatement();
+             ResultSet resultado = sentencia.executeQuery("SELECT @ORIGEN")) {
+            resultado.next();
+            return resultado.getString(1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.proyecto.gastospersonales.infrastructure.importacion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la interpretación de montos de los extractos
+ */
+class ValoresExtractoTest {
+    
+    @Test
+    void separadorUnicoConUnoODosDigitosEsDecimal() {
+        assertThat(ValoresExtracto.monto("12,5")).isEqualByComparingTo("12.5");
+        assertThat(ValoresExtracto.monto("12,50")).isEqualByComparingTo("12.50");
+        assertThat(ValoresExtracto.monto("12.50")).isEqualByComparingTo("12.50");
+        assertThat(ValoresExtracto.monto("-$ 7.05")).isEqualByComparingTo("-7.05");
+    }
+    
+    @Test
+    void separadorUnicoConTresDigitosEsAmbiguo() {
+        assertThatThrownBy(() -> ValoresExtracto.monto("1,234"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ambiguo");
+        assertThatThrownBy(() -> ValoresExtracto.monto("-1.234"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ambiguo");
+    }
+    
+    @Test
+    void parteEnteraNulaNoAdmiteMiles() {
+        assertThat(ValoresExtracto.monto("0,125")).isEqualByComparingTo("0.125");
+        assertThat(ValoresExtracto.monto("-,500")).isEqualByComparingTo("-0.5");
+    }
+    
+    @Test
+    void separadorRepetidoEsDeMiles() {
+        assertThat(ValoresExtracto.monto("1,234,567")).isEqualByComparingTo("1234567");
+        assertThat(ValoresExtracto.monto("1.234.567")).isEqualByComparingTo("1234567");
+    }
+    
+    @Test
+    void conAmbosSeparadoresElUltimoEsDecimal() {
+        assertThat(ValoresExtracto.monto("1.234,56")).isEqualByComparingTo("1234.56");
+        assertThat(ValoresExtracto.monto("1,234.56")).isEqualByComparingTo("1234.56");
+        assertThat(ValoresExtracto.monto("(1.234.567,8)")).isEqualByComparingTo("-1234567.8");
+    }
+    
+    @Test
+    void sinMilesElSeparadorEsSiempreDecimal() {
+        assertThat(ValoresExtracto.montoSinMiles("-25.000")).isEqualByComparingTo(new BigDecimal("-25"));
+        assertThat(ValoresExtracto.montoSinMiles("1234,567")).isEqualByComparingTo("1234.567");
+    }
+    
+    @Test
+    void textoNoNumericoEsInvalido() {
+        assertThatThrownBy(() -> ValoresExtracto.monto("doce"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no válido");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.proyecto.gastospersonales.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.TipoMovimiento;
+
+/**
+ * Regresión de planes de las consultas de movimientos sobre los índices compuestos
+ * Se ejecuta el método real del repositorio, se captura el SQL que genera Hibernate y se pide su plan a H2:
+ * si una consulta deja de poder usar su índice (o el índice desaparece de la entidad), la prueba falla.
+ * Los datos se cargan una vez por clase: ANALYZE confirma la transacción en curso en H2
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:indices;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.proyecto.gastospersonales.infrastructure.repository.IndicesMovimientoTest$RegistroSql"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IndicesMovimientoTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+    @Autowired
+    private MovimientoRepositoryInterface movimientoRepository;
+
+    @Autowired
+    private CategoriaRepositoryInterface categoriaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Categoria comida;
+
+    @BeforeAll
+    void poblar() {
+        comida = categoriaRepository.saveAndFlush(new Categoria("Prueba de gastos", null));
+        Categoria salario = categoriaRepository.saveAndFlush(new Categoria("Prueba de ingresos", null));
+
+        // 50 usuarios con movimientos repartidos en tres años, para que las estadísticas favorezcan los índices
+        List<Object[]> filas = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            boolean ingreso = i % 10 == 0;
+            filas.add(new Object[] {(long) i, "Movimiento " + i, BigDecimal.valueOf(i % 500 + 1),
+                    INICIO.plusHours(i * 5L), ingreso ? "INGRESO" : "GASTO",
+                    ingreso ? salario.getId() : comida.getId(), (long) (i % 50 + 1)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO movimiento (id, descripcion, monto, fecha, tipo, categoria_id, usuario_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", filas);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void recientesDeUsuarioRecorrenElIndiceUsuarioFecha() {
+        movimientoRepository.findRecientesByUsuarioId(7L, PageRequest.of(0, 20));
+
+        assertThat(plan(7L, 20)).containsIgnoringCase("idx_movimiento_usuario_fecha");
+    }
+
+    @Test
+    void totalesPorTipoYRangoUsanElIndiceUsuarioTipoFecha() {
+        LocalDateTime desde = INICIO.plusMonths(3);
+        LocalDateTime hasta = INICIO.plusMonths(4);
+        movimientoRepository.sumMontoByUsuarioIdAndTipoAndFechaBetween(7L, TipoMovimiento.GASTO, desde, hasta);
+
+        assertThat(plan(7L, "GASTO", desde, hasta)).containsIgnoringCase("idx_movimiento_usuario_tipo_fecha");
+    }
+
+    @Test
+    void movimientosDeCategoriaUsanElIndiceCategoria() {
+        movimientoRepository.findByCategoriaOrderByFechaDesc(comida);
+
+        assertThat(plan(comida.getId())).containsIgnoringCase("idx_movimiento_categoria");
+    }
+
+    @Test
+    void rangoDelMesUsaElIndiceFecha() {
+        LocalDateTime desde = INICIO.plusMonths(6);
+        LocalDateTime hasta = desde.plusMonths(1);
+        movimientoRepository.findByFechaGreaterThanEqualAndFechaLessThanOrderByFechaDesc(desde, hasta);
+
+        assertThat(plan(desde, hasta)).containsIgnoringCase("idx_movimiento_fecha");
+    }
+
+    /**
+     * Plan de la última sentencia ejecutada, con los mismos parámetros
+     */
+    private String plan(Object... parametros) {
+        String sql = RegistroSql.sentencias.get(RegistroSql.sentencias.size() - 1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parametros);
+    }
+
+    /**
+     * Registra el SQL que Hibernate envía a la base
+     */
+    public static class RegistroSql implements StatementInspector {
+
+        static final List<String> sentencias = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            sentencias.add(sql);
+            return sql;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.proyecto.gastospersonales.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.proyecto.gastospersonales.domain.dto.FiltroMovimientosDto;
+import com.proyecto.gastospersonales.domain.dto.MovimientoResumenDto;
+import com.proyecto.gastospersonales.domain.model.Categoria;
+
+/**
+ * Filtrado con Criteria API de MovimientoFiltroRepositoryImpl
+ * El cursor (fecha, id) debe recorrer sin saltos ni repeticiones los movimientos que comparten fecha,
+ * y el texto buscado se compara literalmente aunque contenga comodines de LIKE
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:filtro;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MovimientoFiltroRepositoryTest {
+
+    private static final long USUARIO_CURSOR = 71L;
+    private static final long USUARIO_TEXTO = 72L;
+    private static final LocalDateTime FECHA = LocalDateTime.of(2024, 5, 10, 12, 0);
+
+    @Autowired
+    private MovimientoRepositoryInterface movimientoRepository;
+
+    @Autowired
+    private CategoriaRepositoryInterface categoriaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void poblar() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Prueba de filtro", null));
+
+        // Siete movimientos en la misma fecha, entre uno posterior y dos anteriores
+        List<Object[]> filas = new ArrayList<>();
+        filas.add(fila(100L, "Posterior", FECHA.plusDays(1), USUARIO_CURSOR, categoria));
+        for (long id = 101; id <= 107; id++) {
+            filas.add(fila(id, "Misma fecha " + id, FECHA, USUARIO_CURSOR, categoria));
+        }
+        filas.add(fila(108L, "Anterior", FECHA.minusDays(1), USUARIO_CURSOR, categoria));
+        filas.add(fila(99L, "Anterior con ID menor", FECHA.minusDays(1), USUARIO_CURSOR, categoria));
+
+        String[] descripciones = {"Descuento 50% en tienda", "Descuento 50 euros", "Descuento 5000",
+                "Pago_luz", "PagoXluz", "Ruta\\casa", "Rutacasa"};
+        for (int i = 0; i < descripciones.length; i++) {
+            filas.add(fila(200L + i, descripciones[i], FECHA.minusHours(i), USUARIO_TEXTO, categoria));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO movimiento (id, descripcion, monto, fecha, tipo, categoria_id, usuario_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", filas);
+    }
+
+    @Test
+    void elCursorRecorreLosMovimientosConLaMismaFecha() {
+        FiltroMovimientosDto filtro = filtro(USUARIO_CURSOR, null);
+
+        List<Long> recorridos = new ArrayList<>();
+        LocalDateTime fechaCursor = null;
+        Long idCursor = null;
+        List<MovimientoResumenDto> pagina;
+        do {
+            // Páginas de 3 para que varios cortes caigan dentro del grupo con la misma fecha; si el cursor
+            // no avanza, el límite de filas corta el bucle
+            pagina = movimientoRepository.filtrar(filtro, fechaCursor, idCursor, 3);
+            pagina.forEach(movimiento -> recorridos.add(movimiento.getId()));
+            if (!pagina.isEmpty()) {
+                MovimientoResumenDto ultimo = pagina.get(pagina.size() - 1);
+                fechaCursor = ultimo.getFecha();
+                idCursor = ultimo.getId();
+            }
+        } while (pagina.size() == 3 && recorridos.size() <= 10);
+
+        assertThat(recorridos).containsExactly(100L, 107L, 106L, 105L, 104L, 103L, 102L, 101L, 108L, 99L);
+    }
+
+    @Test
+    void elCursorEnMitadDeUnaFechaDevuelveSoloLosIdsMenores() {
+        List<MovimientoResumenDto> siguientes = movimientoRepository.filtrar(filtro(USUARIO_CURSOR, null), FECHA, 104L, 10);
+
+        assertThat(siguientes).extracting(MovimientoResumenDto::getId).containsExactly(103L, 102L, 101L, 108L, 99L);
+    }
+
+    @Test
+    void losComodinesDeLikeSeBuscanLiteralmente() {
+        assertThat(descripciones("50%")).containsExactly("Descuento 50% en tienda");
+        assertThat(descripciones("pago_luz")).containsExactly("Pago_luz");
+        assertThat(descripciones("_")).containsExactly("Pago_luz");
+        assertThat(descripciones("%")).containsExactly("Descuento 50% en tienda");
+        assertThat(descripciones("ruta\\casa")).containsExactly("Ruta\\casa");
+        assertThat(descripciones("descuento 50")).hasSize(3);
+    }
+
+    private List<String> descripciones(String texto) {
+        return movimientoRepository.filtrar(filtro(USUARIO_TEXTO, texto), null, null, 50).stream()
+                .map(MovimientoResumenDto::getDescripcion)
+                .toList();
+    }
+
+    private static FiltroMovimientosDto filtro(long usuarioId, String texto) {
+        FiltroMovimientosDto filtro = new FiltroMovimientosDto();
+        filtro.setUsuarioId(usuarioId);
+        filtro.setTexto(texto);
+        return filtro;
+    }
+
+    private static Object[] fila(long id, String descripcion, LocalDateTime fecha, long usuarioId, Categoria categoria) {
+        return new Object[] {id, descripcion, BigDecimal.TEN, fecha, "GASTO", categoria.getId(), usuarioId};
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.proyecto.gastospersonales.interfaz.web;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.Usuario;
+import com.proyecto.gastospersonales.domain.service.MovimientoService;
+import com.proyecto.gastospersonales.infrastructure.repository.CategoriaRepositoryInterface;
+
+/**
+ * Aislamiento de los movimientos de cada usuario en la API REST
+ * Un movimiento ajeno responde 404 igual que uno inexistente, sin modificarse, y los listados
+ * y estadísticas de cada sesión solo incluyen las filas de su usuario
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:porusuario;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MovimientosPorUsuarioTest {
+
+    private static final long USUARIO_A = 61L;
+    private static final long USUARIO_B = 62L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MovimientoService movimientoService;
+
+    @Autowired
+    private CategoriaRepositoryInterface categoriaRepository;
+
+    private Categoria categoria;
+    private long gastoDeA;
+    private long ingresoDeA;
+    private long gastoDeB;
+
+    @BeforeAll
+    void poblar() {
+        categoria = categoriaRepository.save(new Categoria("Prueba por usuario", null));
+        gastoDeA = movimientoService.registrarGasto("Alquiler", new BigDecimal("100.00"), categoria.getId(), USUARIO_A).getId();
+        ingresoDeA = movimientoService.registrarIngreso("Nomina", new BigDecimal("1000.00"), categoria.getId(), USUARIO_A).getId();
+        gastoDeB = movimientoService.registrarGasto("Cafe", new BigDecimal("7.00"), categoria.getId(), USUARIO_B).getId();
+    }
+
+    @Test
+    void unMovimientoAjenoRespondeNoEncontrado() throws Exception {
+        MockHttpSession sesionB = sesion(USUARIO_B);
+
+        mockMvc.perform(get("/api/movimientos/{id}", gastoDeA).session(sesionB))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/api/movimientos/{id}", gastoDeA).session(sesionB)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"descripcion\":\"Cambiado\",\"monto\":1.00,\"categoriaId\":" + categoria.getId() + "}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/movimientos/{id}", gastoDeA).session(sesionB))
+                .andExpect(status().isNotFound());
+
+        // El movimiento sigue intacto para su dueño
+        mockMvc.perform(get("/api/movimientos/{id}", gastoDeA).session(sesion(USUARIO_A)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.descripcion").value("Alquiler"))
+                .andExpect(jsonPath("$.monto").value(100.0));
+    }
+
+    @Test
+    void losListadosSoloIncluyenLosMovimientosDelUsuario() throws Exception {
+        for (String ruta : new String[] {"/api/movimientos", "/api/movimientos/recientes", "/api/movimientos/tipo/GASTO"}) {
+            mockMvc.perform(get(ruta).session(sesion(USUARIO_B)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains((int) gastoDeB)));
+        }
+        mockMvc.perform(get("/api/movimientos").session(sesion(USUARIO_A)))
+                .andExpect(jsonPath("$[*].id", containsInAnyOrder((int) gastoDeA, (int) ingresoDeA)));
+
+        for (String ruta : new String[] {"/api/movimientos/pagina", "/api/movimientos/filtrar"}) {
+            mockMvc.perform(get(ruta).session(sesion(USUARIO_B)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.contenido[*].id", contains((int) gastoDeB)));
+        }
+    }
+
+    @Test
+    void lasEstadisticasSoloSumanLosMovimientosDelUsuario() throws Exception {
+        mockMvc.perform(get("/api/movimientos/estadisticas").session(sesion(USUARIO_B)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalIngresos").value(0.0))
+                .andExpect(jsonPath("$.totalGastos").value(7.0))
+                .andExpect(jsonPath("$.totalMovimientos").value(1));
+        mockMvc.perform(get("/api/movimientos/estadisticas").session(sesion(USUARIO_A)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalIngresos").value(1000.0))
+                .andExpect(jsonPath("$.totalGastos").value(100.0))
+                .andExpect(jsonPath("$.totalMovimientos").value(2));
+    }
+
+    private static MockHttpSession sesion(long usuarioId) {
+        Usuario usuario = new Usuario();
+        usuario.setId(usuarioId);
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("usuario", usuario);
+        return session;
+    }
+}
\ No newline at end of file
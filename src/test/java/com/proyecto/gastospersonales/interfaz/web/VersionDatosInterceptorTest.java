@@ -0,0 +1,112 @@
+package com.proyecto.gastospersonales.interfaz.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.proyecto.gastospersonales.domain.model.Categoria;
+import com.proyecto.gastospersonales.domain.model.Usuario;
+import com.proyecto.gastospersonales.infrastructure.repository.CategoriaRepositoryInterface;
+
+/**
+ * GET condicional de las APIs de movimientos a través de VersionDatosInterceptor
+ * Un If-None-Match vigente se responde con 304 antes de llegar al controlador, sin ninguna sentencia SQL;
+ * tras una escritura confirmada el mismo ETag deja de valer
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:etag;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.proyecto.gastospersonales.interfaz.web.VersionDatosInterceptorTest$RegistroSql"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class VersionDatosInterceptorTest {
+
+    private static final long USUARIO = 51L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoriaRepositoryInterface categoriaRepository;
+
+    private MockHttpSession session;
+    private Categoria categoria;
+
+    @BeforeEach
+    void preparar() {
+        Usuario usuario = new Usuario();
+        usuario.setId(USUARIO);
+        session = new MockHttpSession();
+        session.setAttribute("usuario", usuario);
+        categoria = categoriaRepository.findByNombreIgnoreCase("Prueba de ETag")
+                .orElseGet(() -> categoriaRepository.save(new Categoria("Prueba de ETag", null)));
+    }
+
+    @Test
+    void devuelveUnEtagYResponde304SinConsultarLaBase() throws Exception {
+        String etag = etagDeLaLista();
+
+        RegistroSql.sentencias.clear();
+        mockMvc.perform(get("/api/movimientos").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        assertThat(RegistroSql.sentencias).isEmpty();
+    }
+
+    @Test
+    void unaEscrituraConfirmadaInvalidaElEtag() throws Exception {
+        String etag = etagDeLaLista();
+
+        mockMvc.perform(post("/api/movimientos").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"descripcion\":\"Supermercado\",\"monto\":25.50,\"tipo\":\"GASTO\","
+                                + "\"categoriaId\":" + categoria.getId() + "}"))
+                .andExpect(status().isCreated());
+
+        String nuevo = mockMvc.perform(get("/api/movimientos").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(nuevo).isNotNull().isNotEqualTo(etag);
+    }
+
+    private String etagDeLaLista() throws Exception {
+        String etag = mockMvc.perform(get("/api/movimientos").session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        return etag;
+    }
+
+    /**
+     * Registra cada sentencia SQL que prepara Hibernate
+     */
+    public static class RegistroSql implements StatementInspector {
+
+        static final List<String> sentencias = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            sentencias.add(sql);
+            return sql;
+        }
+    }
+}
\ No newline at end of file